@@ -11,7 +11,9 @@
 package org.eclipse.collections.api;
 
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
 
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.function.primitive.BooleanFunction;
@@ -202,4 +204,14 @@ public interface LazyIterable<T>
      */
     @Override
     LazyShortIterable collectShort(ShortFunction<? super T> shortFunction);
+
+    /**
+     * Returns a parallel iterable of this LazyIterable. Sources that can be split, such as random access lists and
+     * sets, are split into batches directly. Any other source, including stages that depend on the order of
+     * iteration, is read on the calling thread and buffered into batches of {@code batchSize} elements.
+     *
+     * @since 12.0
+     */
+    @Beta
+    ParallelIterable<T> asParallel(ExecutorService executorService, int batchSize);
 }
@@ -144,4 +144,27 @@ public interface ImmutableListFactory
         MutableList<T> list = (MutableList<T>) items.toSortedList(comparator);
         return list.toImmutable();
     }
+
+    /**
+     * Returns an empty ImmutableList which is optimized for being extended one element at a time. The lists returned
+     * by its {@code newWith} share structure with the list they were created from, so appending does not copy the
+     * whole list. The default implementation returns {@link #empty()}.
+     *
+     * @since 12.0
+     */
+    default <T> ImmutableList<T> emptyPersistent()
+    {
+        return this.empty();
+    }
+
+    /**
+     * Same as {@link #withAll(Iterable)}, but returns a list which is optimized for being extended one element at a
+     * time, like {@link #emptyPersistent()}. The default implementation returns {@link #withAll(Iterable)}.
+     *
+     * @since 12.0
+     */
+    default <T> ImmutableList<T> withAllPersistent(Iterable<? extends T> items)
+    {
+        return this.withAll(items);
+    }
 }
@@ -313,6 +313,28 @@ public interface MutableList<T>
         return this.sortThis(null);
     }
 
+    /**
+     * Sorts the internal data structure of this list in parallel and returns the list itself as a convenience. The sort
+     * is stable. Lists that cannot be sorted in parallel are sorted sequentially.
+     *
+     * @since 12.0
+     */
+    default MutableList<T> sortThisInParallel(Comparator<? super T> comparator)
+    {
+        return this.sortThis(comparator);
+    }
+
+    /**
+     * Sorts the internal data structure of this list in parallel by the natural order of its elements and returns the
+     * list itself as a convenience.
+     *
+     * @since 12.0
+     */
+    default MutableList<T> sortThisInParallel()
+    {
+        return this.sortThisInParallel(null);
+    }
+
     /**
      * Sorts the internal data structure of this list based on the natural order of the attribute returned by {@code
      * function}.
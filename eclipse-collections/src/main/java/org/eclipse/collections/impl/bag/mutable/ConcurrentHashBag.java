@@ -0,0 +1,648 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.predicate.primitive.ObjectIntPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.set.mutable.SetAdapter;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.LazyIterate;
+
+/**
+ * ConcurrentHashBag is a thread-safe MutableBag for counting from many threads at once. Each distinct item is mapped
+ * in a {@link ConcurrentHashMap} to a {@link LongAdder}, whose striped cells let threads add occurrences of the same
+ * hot item without contending on a single counter, and without any lock. Removing occurrences locks only the counter
+ * of the item being removed, so that the count of an item can never become negative.
+ * <p>
+ * When the count of an item drops to zero, its counter is retired and removed from the map under the counter's lock.
+ * An addition that lands on a counter retired after it was looked up moves whatever the counter still holds to the
+ * item's current counter, so no occurrence is lost, although reads may briefly miss occurrences that are being
+ * moved. {@link #size()} and {@link #isEmpty()} visit every counter.
+ * Iteration is weakly consistent, and iterators work on a snapshot of the counts taken when they are created.
+ *
+ * @since 12.0
+ */
+public class ConcurrentHashBag<T>
+        extends AbstractMutableBag<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object NULL_KEY = new Object();
+
+    private ConcurrentHashMap<Object, ItemCounter> items;
+
+    public ConcurrentHashBag()
+    {
+        this.items = ConcurrentHashMap.newMap();
+    }
+
+    public ConcurrentHashBag(int size)
+    {
+        this.items = ConcurrentHashMap.newMap(size);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag()
+    {
+        return new ConcurrentHashBag<>();
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(int size)
+    {
+        return new ConcurrentHashBag<>(size);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Bag<? extends E> source)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag(source.sizeDistinct());
+        result.addAllBag(source);
+        return result;
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Iterable<? extends E> source)
+    {
+        if (source instanceof Bag)
+        {
+            return ConcurrentHashBag.newBag((Bag<E>) source);
+        }
+        return ConcurrentHashBag.newBagWith((E[]) Iterate.toArray(source));
+    }
+
+    public static <E> ConcurrentHashBag<E> newBagWith(E... elements)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag();
+        ArrayIterate.addAllTo(elements, result);
+        return result;
+    }
+
+    private static Object toSentinelIfNull(Object item)
+    {
+        return item == null ? NULL_KEY : item;
+    }
+
+    private static <K> K nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    /**
+     * Adds to the counter of {@code key}. If the counter is retired after it was looked up, the occurrences it still
+     * holds are moved to the counter that replaced it.
+     */
+    private void addToCounter(Object key, long occurrences)
+    {
+        long remaining = occurrences;
+        while (remaining != 0L)
+        {
+            ItemCounter counter = this.items.getIfAbsentPut(key, ItemCounter::new);
+            counter.add(remaining);
+            remaining = counter.retired ? ConcurrentHashBag.drain(counter) : 0L;
+        }
+    }
+
+    /**
+     * Removes up to {@code occurrences} occurrences of {@code key} and returns how many were removed. Additions never
+     * take the lock, so the sum read under it can only be lower than the real count, never higher.
+     */
+    private long removeFromCounter(Object key, long occurrences)
+    {
+        while (true)
+        {
+            ItemCounter counter = this.items.get(key);
+            if (counter == null)
+            {
+                return 0L;
+            }
+            long removed;
+            long late;
+            synchronized (counter)
+            {
+                if (counter.retired)
+                {
+                    continue;
+                }
+                long current = counter.sum();
+                removed = Math.max(0L, Math.min(current, occurrences));
+                counter.add(-removed);
+                late = current - removed > 0L ? 0L : this.retire(key, counter);
+            }
+            if (late != 0L)
+            {
+                this.addToCounter(key, late);
+            }
+            return removed;
+        }
+    }
+
+    /**
+     * Marks the counter as retired, removes it from the map and drains the occurrences added since its sum was last
+     * read under the lock. The caller must hold the lock of the counter, and must add the returned occurrences back.
+     * An addition that reads the counter as not yet retired added before this drain, so the drain counts it; any
+     * later addition sees the counter as retired and drains it itself.
+     */
+    private long retire(Object key, ItemCounter counter)
+    {
+        counter.retired = true;
+        this.items.remove(key, counter);
+        long late = counter.sum();
+        counter.add(-late);
+        return late;
+    }
+
+    private static long drain(ItemCounter counter)
+    {
+        synchronized (counter)
+        {
+            long late = counter.sum();
+            counter.add(-late);
+            return late;
+        }
+    }
+
+    private boolean anySatisfyCounter(ObjectIntPredicate<? super T> predicate)
+    {
+        for (Map.Entry<Object, ItemCounter> entry : this.items.entrySet())
+        {
+            int count = entry.getValue().intValue();
+            if (count > 0 && predicate.accept(ConcurrentHashBag.nonSentinel(entry.getKey()), count))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences > 0)
+        {
+            this.addToCounter(ConcurrentHashBag.toSentinelIfNull(item), occurrences);
+        }
+        return this.occurrencesOf(item);
+    }
+
+    @Override
+    public boolean add(T item)
+    {
+        this.addToCounter(ConcurrentHashBag.toSentinelIfNull(item), 1L);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object item)
+    {
+        return this.removeOccurrences(item, 1);
+    }
+
+    @Override
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+
+        if (occurrences == 0)
+        {
+            return false;
+        }
+
+        return this.removeFromCounter(ConcurrentHashBag.toSentinelIfNull(item), occurrences) > 0L;
+    }
+
+    /**
+     * Sets the count of {@code item}. This is atomic with respect to other removals and calls to setOccurrences, but
+     * occurrences added concurrently by other threads may be counted on top of the new value.
+     */
+    @Override
+    public boolean setOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+
+        if (occurrences == 0)
+        {
+            return this.removeFromCounter(ConcurrentHashBag.toSentinelIfNull(item), Long.MAX_VALUE) > 0L;
+        }
+
+        Object key = ConcurrentHashBag.toSentinelIfNull(item);
+        while (true)
+        {
+            ItemCounter counter = this.items.getIfAbsentPut(key, ItemCounter::new);
+            synchronized (counter)
+            {
+                if (!counter.retired)
+                {
+                    long current = counter.sum();
+                    if (current == occurrences)
+                    {
+                        return false;
+                    }
+                    counter.add(occurrences - current);
+                    return true;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        this.items.forEachKey(key -> this.removeFromCounter(key, Long.MAX_VALUE));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        boolean changed = false;
+        for (Object key : this.items.keySet())
+        {
+            if (predicate.accept(ConcurrentHashBag.nonSentinel(key))
+                    && this.removeFromCounter(key, Long.MAX_VALUE) > 0L)
+            {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.removeIf(each -> predicate.accept(each, parameter));
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        Iterable<?> distinct = iterable instanceof Bag ? ((Bag<?>) iterable).distinctView() : iterable;
+        boolean changed = false;
+        for (Object each : distinct)
+        {
+            if (this.removeFromCounter(ConcurrentHashBag.toSentinelIfNull(each), Long.MAX_VALUE) > 0L)
+            {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public int size()
+    {
+        long size = 0L;
+        for (ItemCounter counter : this.items.values())
+        {
+            size += counter.sum();
+        }
+        return (int) size;
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.items.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return !this.anySatisfyCounter((each, count) -> true);
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        return this.occurrencesOf(o) > 0;
+    }
+
+    @Override
+    public int occurrencesOf(Object item)
+    {
+        ItemCounter counter = this.items.get(ConcurrentHashBag.toSentinelIfNull(item));
+        return counter == null ? 0 : counter.intValue();
+    }
+
+    @Override
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.anySatisfyCounter((each, count) ->
+        {
+            objectIntProcedure.value(each, count);
+            return false;
+        });
+    }
+
+    @Override
+    public boolean anySatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return this.anySatisfyCounter(predicate);
+    }
+
+    @Override
+    public boolean allSatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return !this.anySatisfyCounter((each, count) -> !predicate.accept(each, count));
+    }
+
+    @Override
+    public boolean noneSatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return !this.anySatisfyCounter(predicate);
+    }
+
+    @Override
+    public T detectWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        Object[] result = new Object[1];
+        this.anySatisfyCounter((each, count) ->
+        {
+            if (predicate.accept(each, count))
+            {
+                result[0] = each;
+                return true;
+            }
+            return false;
+        });
+        return (T) result[0];
+    }
+
+    @Override
+    public MutableMap<T, Integer> toMapOfItemToCount()
+    {
+        MutableMap<T, Integer> map = UnifiedMap.newMap(this.items.size());
+        this.forEachWithOccurrences(map::put);
+        return map;
+    }
+
+    @Override
+    public MutableBag<T> selectByOccurrences(IntPredicate predicate)
+    {
+        ConcurrentHashBag<T> result = ConcurrentHashBag.newBag();
+        this.forEachWithOccurrences((each, count) ->
+        {
+            if (predicate.accept(count))
+            {
+                result.addOccurrences(each, count);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    protected RichIterable<T> getKeysView()
+    {
+        return this.distinctView();
+    }
+
+    @Override
+    public RichIterable<T> distinctView()
+    {
+        return LazyIterate.collect(
+                SetAdapter.adapt(this.items.keySet()).asUnmodifiable(),
+                ConcurrentHashBag::nonSentinel);
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.forEachWithOccurrences((each, count) ->
+        {
+            for (int i = 0; i < count; i++)
+            {
+                procedure.value(each);
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        Counter index = new Counter();
+        this.forEachWithOccurrences((each, count) ->
+        {
+            for (int i = 0; i < count; i++)
+            {
+                objectIntProcedure.value(each, index.getCount());
+                index.increment();
+            }
+        });
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    {
+        this.forEachWithOccurrences((each, count) ->
+        {
+            for (int i = 0; i < count; i++)
+            {
+                procedure.value(each, parameter);
+            }
+        });
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new SnapshotIterator();
+    }
+
+    @Override
+    public <V> HashBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <V> HashBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        if (this.sizeDistinct() != bag.sizeDistinct())
+        {
+            return false;
+        }
+        return this.allSatisfyWithOccurrences((each, count) -> bag.occurrencesOf(each) == count);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        Counter counter = new Counter();
+        this.forEachWithOccurrences((each, count) -> counter.add((each == null ? 0 : each.hashCode()) ^ count));
+        return counter.getCount();
+    }
+
+    @Override
+    public MutableBag<T> newEmpty()
+    {
+        return ConcurrentHashBag.newBag();
+    }
+
+    @Override
+    public ConcurrentHashBag<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T... elements)
+    {
+        this.addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> withoutAll(Iterable<? extends T> iterable)
+    {
+        this.removeAllIterable(iterable);
+        return this;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        MutableList<ObjectIntPair<T>> snapshot = this.snapshot();
+        out.writeInt(snapshot.size());
+        for (ObjectIntPair<T> pair : snapshot)
+        {
+            out.writeObject(pair.getOne());
+            out.writeInt(pair.getTwo());
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.items = ConcurrentHashMap.newMap(size);
+        for (int i = 0; i < size; i++)
+        {
+            this.addOccurrences((T) in.readObject(), in.readInt());
+        }
+    }
+
+    private MutableList<ObjectIntPair<T>> snapshot()
+    {
+        MutableList<ObjectIntPair<T>> result = FastList.newList(this.items.size());
+        this.forEachWithOccurrences((each, count) -> result.add(PrimitiveTuples.pair(each, count)));
+        return result;
+    }
+
+    private static final class ItemCounter extends LongAdder
+    {
+        private static final long serialVersionUID = 1L;
+
+        private volatile boolean retired;
+    }
+
+    private final class SnapshotIterator implements Iterator<T>
+    {
+        private final Iterator<ObjectIntPair<T>> iterator = ConcurrentHashBag.this.snapshot().iterator();
+
+        private T currentItem;
+        private int occurrences;
+        private boolean canRemove;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.occurrences > 0 || this.iterator.hasNext();
+        }
+
+        @Override
+        public T next()
+        {
+            if (this.occurrences == 0)
+            {
+                ObjectIntPair<T> pair = this.iterator.next();
+                this.currentItem = pair.getOne();
+                this.occurrences = pair.getTwo();
+            }
+            this.occurrences--;
+            this.canRemove = true;
+            return this.currentItem;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            ConcurrentHashBag.this.remove(this.currentItem);
+            this.canRemove = false;
+        }
+    }
+}
@@ -95,7 +95,7 @@ public final class MultiReaderHashBag<T>
         this(newDelegate, new ReentrantReadWriteLock());
     }
 
-    private MultiReaderHashBag(HashBag<T> newDelegate, ReadWriteLock newLock)
+    MultiReaderHashBag(HashBag<T> newDelegate, ReadWriteLock newLock)
     {
         this.lock = newLock;
         this.lockWrapper = new ReadWriteLockWrapper(newLock);
@@ -10,38 +10,66 @@
 
 package org.eclipse.collections.impl.bag.mutable;
 
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.collections.api.bag.MultiReaderBag;
 import org.eclipse.collections.api.factory.bag.MultiReaderBagFactory;
+import org.eclipse.collections.impl.collection.mutable.AbstractMultiReaderMutableCollection.OptimisticReadWriteLock;
 
 @aQute.bnd.annotation.spi.ServiceProvider(MultiReaderBagFactory.class)
 public class MultiReaderMutableBagFactory implements MultiReaderBagFactory
 {
     public static final MultiReaderBagFactory INSTANCE = new MultiReaderMutableBagFactory();
 
+    /**
+     * A factory whose collections use an {@link OptimisticReadWriteLock}, so that simple queries are answered with
+     * optimistic reads instead of taking the read lock.
+     *
+     * @since 12.0
+     */
+    public static final MultiReaderBagFactory OPTIMISTIC_READ = new MultiReaderMutableBagFactory(true);
+
+    private final boolean optimisticRead;
+
+    public MultiReaderMutableBagFactory()
+    {
+        this(false);
+    }
+
+    private MultiReaderMutableBagFactory(boolean optimisticRead)
+    {
+        this.optimisticRead = optimisticRead;
+    }
+
+    private ReadWriteLock newLock()
+    {
+        return this.optimisticRead ? new OptimisticReadWriteLock() : new ReentrantReadWriteLock();
+    }
+
     @Override
     public <T> MultiReaderBag<T> empty()
     {
-        return MultiReaderHashBag.newBag();
+        return new MultiReaderHashBag<>(HashBag.newBag(), this.newLock());
     }
 
     @Override
     public <T> MultiReaderBag<T> with(T... items)
     {
-        return MultiReaderHashBag.newBagWith(items);
+        return new MultiReaderHashBag<>(HashBag.newBagWith(items), this.newLock());
     }
 
     @Override
     public <T> MultiReaderBag<T> withAll(Iterable<? extends T> iterable)
     {
-        return MultiReaderHashBag.newBag((Iterable<T>) iterable);
+        return new MultiReaderHashBag<>(HashBag.newBag(iterable), this.newLock());
     }
 
     @Override
     public <T> MultiReaderBag<T> fromStream(Stream<? extends T> stream)
     {
-        return stream.collect(Collectors.toCollection(MultiReaderHashBag::newBag));
+        return stream.collect(Collectors.toCollection(this::empty));
     }
 }
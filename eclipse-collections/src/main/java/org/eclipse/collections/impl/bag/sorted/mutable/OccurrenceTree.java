@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.sorted.mutable;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.impl.map.sorted.mutable.BPlusTree;
+import org.eclipse.collections.impl.map.sorted.mutable.BPlusTree.Cursor;
+
+/**
+ * The storage of a {@link TreeBag}: a {@link BPlusTree} mapping each distinct item to its number of occurrences. The
+ * counts are the {@code int[]} payload of each leaf, so they are stored inline rather than in a counter per item, and
+ * are read and written through the {@link Cursor} of a search. Adding or removing an item reuses the branch levels of
+ * the shared tree, so it stays logarithmic however many distinct items the bag holds.
+ */
+final class OccurrenceTree<T>
+        extends BPlusTree<T, int[]>
+{
+    private static final long serialVersionUID = 1L;
+
+    OccurrenceTree(Comparator<? super T> comparator)
+    {
+        super(comparator);
+    }
+
+    @Override
+    protected int[] newPayload(int length)
+    {
+        return new int[length];
+    }
+
+    @Override
+    protected int[] copyPayload(int[] payload, int length)
+    {
+        return Arrays.copyOf(payload, length);
+    }
+
+    @Override
+    protected void clearPayload(int[] payload, int fromIndex, int toIndex)
+    {
+        // Counts do not retain any objects
+    }
+
+    @Override
+    protected void writePayload(ObjectOutputStream out, int[] payload, int offset) throws IOException
+    {
+        out.writeInt(payload[offset]);
+    }
+
+    @Override
+    protected void readPayload(ObjectInputStream in, int[] payload, int offset) throws IOException
+    {
+        payload[offset] = in.readInt();
+    }
+
+    static int countAt(Cursor<?, int[]> cursor)
+    {
+        return cursor.payload()[cursor.offset()];
+    }
+
+    static void setCountAt(Cursor<?, int[]> cursor, int count)
+    {
+        cursor.payload()[cursor.offset()] = count;
+    }
+
+    int get(Object key)
+    {
+        Cursor<T, int[]> cursor = this.locate(key);
+        return cursor == null ? 0 : OccurrenceTree.countAt(cursor);
+    }
+
+    /**
+     * Returns the sum of the counts of every key less than {@code key}.
+     */
+    long sumOfCountsBefore(Object key)
+    {
+        long end = this.ceilingPosition(key);
+        long result = 0L;
+        for (Cursor<T, int[]> cursor = this.cursor(0L); cursor.position() < end; cursor.advance())
+        {
+            result += OccurrenceTree.countAt(cursor);
+        }
+        return result;
+    }
+
+    void forEachKeyCount(ObjectIntProcedure<? super T> procedure)
+    {
+        long end = this.endPosition();
+        for (Cursor<T, int[]> cursor = this.cursor(0L); cursor.position() < end; cursor.advance())
+        {
+            procedure.value(cursor.key(), OccurrenceTree.countAt(cursor));
+        }
+    }
+
+    /**
+     * Adds {@code delta} to the count of {@code key}, adding the key with a count of {@code delta} if it is absent,
+     * and returns the new count.
+     */
+    int addToCount(T key, int delta)
+    {
+        long position = this.searchForInsert(key);
+        if (position >= 0L)
+        {
+            Cursor<T, int[]> cursor = this.cursor(position);
+            int count = OccurrenceTree.countAt(cursor) + delta;
+            OccurrenceTree.setCountAt(cursor, count);
+            return count;
+        }
+        OccurrenceTree.setCountAt(this.insertKey(-position - 1L, key), delta);
+        return delta;
+    }
+
+    /**
+     * Sets the count of {@code key}, adding the key if it is absent, and returns the previous count.
+     */
+    int put(T key, int count)
+    {
+        long position = this.searchForInsert(key);
+        if (position >= 0L)
+        {
+            Cursor<T, int[]> cursor = this.cursor(position);
+            int previous = OccurrenceTree.countAt(cursor);
+            OccurrenceTree.setCountAt(cursor, count);
+            return previous;
+        }
+        OccurrenceTree.setCountAt(this.insertKey(-position - 1L, key), count);
+        return 0;
+    }
+
+    /**
+     * Removes {@code key} and returns its count, or returns 0 if it is not in the tree.
+     */
+    int removeKey(Object key)
+    {
+        Cursor<T, int[]> cursor = this.locate(key);
+        if (cursor == null)
+        {
+            return 0;
+        }
+        int count = OccurrenceTree.countAt(cursor);
+        this.removeAt(cursor.position());
+        return count;
+    }
+
+    /**
+     * Adds a key which is greater than every key in the tree, such as when copying a sorted bag.
+     */
+    void append(T key, int count)
+    {
+        OccurrenceTree.setCountAt(this.appendKey(key), count);
+    }
+
+    OccurrenceTree<T> copy()
+    {
+        OccurrenceTree<T> copy = new OccurrenceTree<>(this.comparator());
+        this.forEachKeyCount(copy::append);
+        return copy;
+    }
+}
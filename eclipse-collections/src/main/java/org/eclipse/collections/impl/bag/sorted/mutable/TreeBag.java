@@ -14,11 +14,13 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
-import java.util.Map;
-import java.util.Set;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.bag.Bag;
@@ -32,29 +34,32 @@ import org.eclipse.collections.api.block.predicate.primitive.ObjectIntPredicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
-import org.eclipse.collections.api.factory.SortedMaps;
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.SortedSets;
-import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.ordered.OrderedIterable;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
 import org.eclipse.collections.api.stack.MutableStack;
 import org.eclipse.collections.api.tuple.Pair;
-import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
 import org.eclipse.collections.impl.block.factory.Comparators;
-import org.eclipse.collections.impl.block.procedure.checked.CheckedProcedure2;
-import org.eclipse.collections.impl.map.sorted.mutable.TreeSortedMap;
+import org.eclipse.collections.impl.map.sorted.mutable.BPlusTree.Cursor;
 import org.eclipse.collections.impl.multimap.bag.sorted.mutable.TreeBagMultimap;
+import org.eclipse.collections.impl.set.mutable.SetAdapter;
 import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
 import org.eclipse.collections.impl.stack.mutable.ArrayStack;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
 import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.LazyIterate;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.eclipse.collections.impl.utility.OrderedIterate;
 import org.eclipse.collections.impl.utility.internal.IterableIterate;
 import org.eclipse.collections.impl.utility.internal.SortedBagIterables;
 
 /**
- * A TreeBag is a MutableSortedBag which uses a SortedMap as its underlying data store. Each key in the SortedMap represents some item,
- * and the value in the map represents the current number of occurrences of that item.
+ * A TreeBag is a MutableSortedBag which uses a B+-tree as its underlying data store. Each distinct item is stored in a
+ * leaf of the tree next to an int holding its current number of occurrences, so changing an item's count does not
+ * allocate, and operations on occurrences walk the leaves directly.
  *
  * @since 4.2
  */
@@ -63,23 +68,23 @@ public class TreeBag<T>
         implements Externalizable
 {
     private static final long serialVersionUID = 1L;
-    private MutableSortedMap<T, Counter> items;
+    private OccurrenceTree<T> items;
     private int size;
 
     public TreeBag()
     {
-        this.items = SortedMaps.mutable.empty();
+        this.items = new OccurrenceTree<>(null);
     }
 
-    private TreeBag(MutableSortedMap<T, Counter> map)
+    private TreeBag(OccurrenceTree<T> items, int size)
     {
-        this.items = map;
-        this.size = (int) map.valuesView().sumOfInt(Counter.TO_COUNT);
+        this.items = items;
+        this.size = size;
     }
 
     public TreeBag(Comparator<? super T> comparator)
     {
-        this.items = TreeSortedMap.newMap(comparator);
+        this.items = new OccurrenceTree<>(comparator);
     }
 
     public TreeBag(SortedBag<T> sortedBag)
@@ -132,7 +137,7 @@ public class TreeBag<T>
     @Override
     public TreeBag<T> clone()
     {
-        return new TreeBag<>(this);
+        return new TreeBag<>(this.items.copy(), this.size);
     }
 
     @Override
@@ -152,21 +157,36 @@ public class TreeBag<T>
             return false;
         }
 
-        return this.items.keyValuesView().allSatisfy(each -> bag.occurrencesOf(each.getOne()) == each.getTwo().getCount());
+        OccurrenceTree<T> items = this.items;
+        long end = items.endPosition();
+        for (Cursor<T, int[]> cursor = items.cursor(0L); cursor.position() < end; cursor.advance())
+        {
+            if (bag.occurrencesOf(cursor.key()) != OccurrenceTree.countAt(cursor))
+            {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode()
     {
-        Counter counter = new Counter();
-        this.forEachWithOccurrences((each, count) -> counter.add((each == null ? 0 : each.hashCode()) ^ count));
-        return counter.getCount();
+        OccurrenceTree<T> items = this.items;
+        int hashCode = 0;
+        long end = items.endPosition();
+        for (Cursor<T, int[]> cursor = items.cursor(0L); cursor.position() < end; cursor.advance())
+        {
+            T each = cursor.key();
+            hashCode += (each == null ? 0 : each.hashCode()) ^ OccurrenceTree.countAt(cursor);
+        }
+        return hashCode;
     }
 
     @Override
     protected RichIterable<T> getKeysView()
     {
-        return this.items.keysView();
+        return LazyIterate.adapt(new KeySet());
     }
 
     @Override
@@ -178,47 +198,121 @@ public class TreeBag<T>
     @Override
     public void forEachWithOccurrences(ObjectIntProcedure<? super T> procedure)
     {
-        this.items.forEachKeyValue((item, count) -> procedure.value(item, count.getCount()));
+        this.items.forEachKeyCount(procedure);
     }
 
     @Override
     public MutableSortedBag<T> selectByOccurrences(IntPredicate predicate)
     {
-        MutableSortedMap<T, Counter> map =
-                this.items.select((each, occurrences) -> predicate.accept(occurrences.getCount()));
-        return new TreeBag<>(map);
+        OccurrenceTree<T> items = this.items;
+        OccurrenceTree<T> selected = new OccurrenceTree<>(items.comparator());
+        int selectedSize = 0;
+        long end = items.endPosition();
+        for (Cursor<T, int[]> cursor = items.cursor(0L); cursor.position() < end; cursor.advance())
+        {
+            int count = OccurrenceTree.countAt(cursor);
+            if (predicate.accept(count))
+            {
+                selected.append(cursor.key(), count);
+                selectedSize += count;
+            }
+        }
+        return new TreeBag<>(selected, selectedSize);
+    }
+
+    @Override
+    public MutableList<ObjectIntPair<T>> topOccurrences(int n)
+    {
+        return this.occurrencesSortedByCount(n, true);
+    }
+
+    @Override
+    public MutableList<ObjectIntPair<T>> bottomOccurrences(int n)
+    {
+        return this.occurrencesSortedByCount(n, false);
+    }
+
+    /**
+     * Finds the count of the n-th most (or least) frequent item from a sorted array of the counts, then pairs up only
+     * the items whose count reaches it, rather than pairing and sorting every distinct item. Ties stay in item order.
+     */
+    private MutableList<ObjectIntPair<T>> occurrencesSortedByCount(int n, boolean descending)
+    {
+        if (n < 0)
+        {
+            throw new IllegalArgumentException("Cannot use a value of n < 0");
+        }
+        MutableList<ObjectIntPair<T>> result = Lists.mutable.empty();
+        int sizeDistinct = this.sizeDistinct();
+        if (n == 0 || sizeDistinct == 0)
+        {
+            return result;
+        }
+        OccurrenceTree<T> items = this.items;
+        int[] counts = new int[sizeDistinct];
+        int index = 0;
+        long end = items.endPosition();
+        for (Cursor<T, int[]> cursor = items.cursor(0L); cursor.position() < end; cursor.advance())
+        {
+            counts[index++] = OccurrenceTree.countAt(cursor);
+        }
+        Arrays.sort(counts);
+        int keySize = Math.min(n, sizeDistinct);
+        int threshold = descending ? counts[sizeDistinct - keySize] : counts[keySize - 1];
+        for (Cursor<T, int[]> cursor = items.cursor(0L); cursor.position() < end; cursor.advance())
+        {
+            int count = OccurrenceTree.countAt(cursor);
+            if (descending ? count >= threshold : count <= threshold)
+            {
+                result.add(PrimitiveTuples.pair(cursor.key(), count));
+            }
+        }
+        return descending ? result.sortThisByInt(each -> -each.getTwo()) : result.sortThisByInt(ObjectIntPair::getTwo);
     }
 
     @Override
     public int occurrencesOf(Object item)
     {
-        Counter counter = this.items.get(item);
-        return counter == null ? 0 : counter.getCount();
+        return this.items.get(item);
     }
 
     @Override
     public boolean anySatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
     {
-        return this.items.keyValuesView().anySatisfy(each -> predicate.accept(each.getOne(), each.getTwo().getCount()));
+        return this.detectPositionWithOccurrences(predicate) >= 0L;
     }
 
     @Override
     public boolean allSatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
     {
-        return this.items.keyValuesView().allSatisfy(each -> predicate.accept(each.getOne(), each.getTwo().getCount()));
+        return this.detectPositionWithOccurrences((each, occurrences) -> !predicate.accept(each, occurrences)) < 0L;
     }
 
     @Override
     public boolean noneSatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
     {
-        return this.items.keyValuesView().noneSatisfy(each -> predicate.accept(each.getOne(), each.getTwo().getCount()));
+        return this.detectPositionWithOccurrences(predicate) < 0L;
     }
 
     @Override
     public T detectWithOccurrences(ObjectIntPredicate<? super T> predicate)
     {
-        Pair<T, Counter> pair = this.items.keyValuesView().detect(each -> predicate.accept(each.getOne(), each.getTwo().getCount()));
-        return pair == null ? null : pair.getOne();
+        long position = this.detectPositionWithOccurrences(predicate);
+        return position < 0L ? null : this.items.keyAt(position);
+    }
+
+    private long detectPositionWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        OccurrenceTree<T> items = this.items;
+        long end = items.endPosition();
+        for (Cursor<T, int[]> cursor = items.cursor(0L); cursor.position() < end; cursor.advance())
+        {
+            if (predicate.accept(cursor.key(), OccurrenceTree.countAt(cursor)))
+            {
+                return cursor.position();
+            }
+        }
+        return -1L;
     }
 
     @Override
@@ -230,21 +324,22 @@ public class TreeBag<T>
     @Override
     public boolean remove(Object item)
     {
-        Counter counter = this.items.get(item);
-        if (counter != null)
+        Cursor<T, int[]> cursor = this.items.locate(item);
+        if (cursor == null)
         {
-            if (counter.getCount() > 1)
-            {
-                counter.decrement();
-            }
-            else
-            {
-                this.items.remove(item);
-            }
-            this.size--;
-            return true;
+            return false;
+        }
+        int count = OccurrenceTree.countAt(cursor);
+        if (count > 1)
+        {
+            OccurrenceTree.setCountAt(cursor, count - 1);
+        }
+        else
+        {
+            this.items.removeAt(cursor.position());
         }
-        return false;
+        this.size--;
+        return true;
     }
 
     @Override
@@ -257,7 +352,7 @@ public class TreeBag<T>
     @Override
     public boolean contains(Object o)
     {
-        return this.items.containsKey(o);
+        return this.items.find(o) >= 0L;
     }
 
     @Override
@@ -269,33 +364,21 @@ public class TreeBag<T>
     @Override
     public void writeExternal(ObjectOutput out) throws IOException
     {
+        OccurrenceTree<T> items = this.items;
         out.writeObject(this.comparator());
-        out.writeInt(this.items.size());
-        try
+        out.writeInt(items.size());
+        long end = items.endPosition();
+        for (Cursor<T, int[]> cursor = items.cursor(0L); cursor.position() < end; cursor.advance())
         {
-            this.items.forEachKeyValue(new CheckedProcedure2<T, Counter>()
-            {
-                public void safeValue(T object, Counter parameter) throws Exception
-                {
-                    out.writeObject(object);
-                    out.writeInt(parameter.getCount());
-                }
-            });
-        }
-        catch (RuntimeException e)
-        {
-            if (e.getCause() instanceof IOException)
-            {
-                throw (IOException) e.getCause();
-            }
-            throw e;
+            out.writeObject(cursor.key());
+            out.writeInt(OccurrenceTree.countAt(cursor));
         }
     }
 
     @Override
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
     {
-        this.items = new TreeSortedMap<>((Comparator<T>) in.readObject());
+        this.items = new OccurrenceTree<>((Comparator<T>) in.readObject());
         int size = in.readInt();
         for (int i = 0; i < size; i++)
         {
@@ -306,8 +389,8 @@ public class TreeBag<T>
     @Override
     public void each(Procedure<? super T> procedure)
     {
-        this.items.forEachKeyValue((key, value) -> {
-            for (int i = 0; i < value.getCount(); i++)
+        this.items.forEachKeyCount((key, count) -> {
+            for (int i = 0; i < count; i++)
             {
                 procedure.value(key);
             }
@@ -317,14 +400,18 @@ public class TreeBag<T>
     @Override
     public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
     {
-        Counter index = new Counter();
-        this.items.forEachKeyValue((key, value) -> {
-            for (int i = 0; i < value.getCount(); i++)
+        OccurrenceTree<T> items = this.items;
+        int index = 0;
+        long end = items.endPosition();
+        for (Cursor<T, int[]> cursor = items.cursor(0L); cursor.position() < end; cursor.advance())
+        {
+            T key = cursor.key();
+            int count = OccurrenceTree.countAt(cursor);
+            for (int i = 0; i < count; i++)
             {
-                objectIntProcedure.value(key, index.getCount());
-                index.increment();
+                objectIntProcedure.value(key, index++);
             }
-        });
+        }
     }
 
     @Override
@@ -336,43 +423,22 @@ public class TreeBag<T>
             throw new IllegalArgumentException("fromIndex must not be greater than toIndex");
         }
 
-        Iterator<Map.Entry<T, Counter>> iterator = this.items.entrySet().iterator();
-        int i = 0;
-        while (iterator.hasNext() && i < fromIndex)
-        {
-            Map.Entry<T, Counter> entry = iterator.next();
-            Counter value = entry.getValue();
-            int count = value.getCount();
-            if (i + count < fromIndex)
-            {
-                i += count;
-            }
-            else
-            {
-                for (int j = 0; j < count; j++)
-                {
-                    if (i >= fromIndex && i <= toIndex)
-                    {
-                        procedure.value(entry.getKey());
-                    }
-                    i++;
-                }
-            }
-        }
-        while (iterator.hasNext() && i <= toIndex)
+        OccurrenceTree<T> items = this.items;
+        int index = 0;
+        long end = items.endPosition();
+        for (Cursor<T, int[]> cursor = items.cursor(0L); cursor.position() < end && index <= toIndex; cursor.advance())
         {
-            Map.Entry<T, Counter> entry = iterator.next();
-            Counter value = entry.getValue();
-            int count = value.getCount();
-
-            for (int j = 0; j < count; j++)
+            int count = OccurrenceTree.countAt(cursor);
+            if (index + count > fromIndex)
             {
-                if (i <= toIndex)
+                T key = cursor.key();
+                int stop = Math.min(count, toIndex - index + 1);
+                for (int i = Math.max(fromIndex - index, 0); i < stop; i++)
                 {
-                    procedure.value(entry.getKey());
+                    procedure.value(key);
                 }
-                i++;
             }
+            index += count;
         }
     }
 
@@ -385,51 +451,30 @@ public class TreeBag<T>
             throw new IllegalArgumentException("fromIndex must not be greater than toIndex");
         }
 
-        Iterator<Map.Entry<T, Counter>> iterator = this.items.entrySet().iterator();
-        int i = 0;
-        while (iterator.hasNext() && i < fromIndex)
+        OccurrenceTree<T> items = this.items;
+        int index = 0;
+        long end = items.endPosition();
+        for (Cursor<T, int[]> cursor = items.cursor(0L); cursor.position() < end && index <= toIndex; cursor.advance())
         {
-            Map.Entry<T, Counter> entry = iterator.next();
-            Counter value = entry.getValue();
-            int count = value.getCount();
-            if (i + count < fromIndex)
+            int count = OccurrenceTree.countAt(cursor);
+            if (index + count > fromIndex)
             {
-                i += count;
-            }
-            else
-            {
-                for (int j = 0; j < count; j++)
+                T key = cursor.key();
+                int stop = Math.min(count, toIndex - index + 1);
+                for (int i = Math.max(fromIndex - index, 0); i < stop; i++)
                 {
-                    if (i >= fromIndex && i <= toIndex)
-                    {
-                        objectIntProcedure.value(entry.getKey(), i);
-                    }
-                    i++;
+                    objectIntProcedure.value(key, index + i);
                 }
             }
-        }
-        while (iterator.hasNext() && i <= toIndex)
-        {
-            Map.Entry<T, Counter> entry = iterator.next();
-            Counter value = entry.getValue();
-            int count = value.getCount();
-
-            for (int j = 0; j < count; j++)
-            {
-                if (i <= toIndex)
-                {
-                    objectIntProcedure.value(entry.getKey(), i);
-                }
-                i++;
-            }
+            index += count;
         }
     }
 
     @Override
     public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
     {
-        this.items.forEachKeyValue((key, value) -> {
-            for (int i = 0; i < value.getCount(); i++)
+        this.items.forEachKeyCount((key, count) -> {
+            for (int i = 0; i < count; i++)
             {
                 procedure.value(key, parameter);
             }
@@ -451,10 +496,9 @@ public class TreeBag<T>
         }
         if (occurrences > 0)
         {
-            Counter counter = this.items.getIfAbsentPut(item, Counter::new);
-            counter.add(occurrences);
+            int count = this.items.addToCount(item, occurrences);
             this.size += occurrences;
-            return counter.getCount();
+            return count;
         }
         return this.occurrencesOf(item);
     }
@@ -472,21 +516,21 @@ public class TreeBag<T>
             return false;
         }
 
-        Counter counter = this.items.get(item);
-        if (counter == null)
+        Cursor<T, int[]> cursor = this.items.locate(item);
+        if (cursor == null)
         {
             return false;
         }
-        int startCount = counter.getCount();
+        int startCount = OccurrenceTree.countAt(cursor);
 
         if (occurrences >= startCount)
         {
-            this.items.remove(item);
+            this.items.removeAt(cursor.position());
             this.size -= startCount;
             return true;
         }
 
-        counter.add(occurrences * -1);
+        OccurrenceTree.setCountAt(cursor, startCount - occurrences);
         this.size -= occurrences;
         return true;
     }
@@ -508,11 +552,11 @@ public class TreeBag<T>
 
         if (occurrences == 0)
         {
-            this.items.remove(item);
+            this.items.removeKey(item);
         }
         else
         {
-            this.items.put(item, new Counter(occurrences));
+            this.items.put(item, occurrences);
         }
 
         this.size -= originalOccurrences - occurrences;
@@ -556,37 +600,28 @@ public class TreeBag<T>
     @Override
     public boolean removeIf(Predicate<? super T> predicate)
     {
-        boolean changed = false;
-        Set<Map.Entry<T, Counter>> entries = this.items.entrySet();
-        for (Iterator<Map.Entry<T, Counter>> iterator = entries.iterator(); iterator.hasNext(); )
-        {
-            Map.Entry<T, Counter> entry = iterator.next();
-            if (predicate.accept(entry.getKey()))
-            {
-                this.size -= entry.getValue().getCount();
-                iterator.remove();
-                changed = true;
-            }
-        }
-        return changed;
+        return this.removeIfWith((each, ignored) -> predicate.accept(each), null);
     }
 
     @Override
     public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
     {
-        boolean changed = false;
-        Set<Map.Entry<T, Counter>> entries = this.items.entrySet();
-        for (Iterator<Map.Entry<T, Counter>> iterator = entries.iterator(); iterator.hasNext(); )
+        OccurrenceTree<T> items = this.items;
+        int oldSize = this.size;
+        Cursor<T, int[]> cursor = items.cursor(0L);
+        while (cursor.position() < items.endPosition())
         {
-            Map.Entry<T, Counter> entry = iterator.next();
-            if (predicate.accept(entry.getKey(), parameter))
+            if (predicate.accept(cursor.key(), parameter))
+            {
+                this.size -= OccurrenceTree.countAt(cursor);
+                cursor = items.cursor(items.removeAt(cursor.position()));
+            }
+            else
             {
-                this.size -= entry.getValue().getCount();
-                iterator.remove();
-                changed = true;
+                cursor.advance();
             }
         }
-        return changed;
+        return this.size != oldSize;
     }
 
     @Override
@@ -595,11 +630,7 @@ public class TreeBag<T>
         int oldSize = this.size;
         for (Object each : iterable)
         {
-            Counter removed = this.items.remove(each);
-            if (removed != null)
-            {
-                this.size -= removed.getCount();
-            }
+            this.size -= this.items.removeKey(each);
         }
         return this.size != oldSize;
     }
@@ -613,9 +644,9 @@ public class TreeBag<T>
     @Override
     public int indexOf(Object object)
     {
-        if (this.items.containsKey(object))
+        if (this.items.find(object) >= 0L)
         {
-            long result = this.items.headMap((T) object).values().sumOfInt(Counter.TO_COUNT);
+            long result = this.items.sumOfCountsBefore(object);
             if (result > Integer.MAX_VALUE)
             {
                 throw new IllegalStateException();
@@ -645,7 +676,7 @@ public class TreeBag<T>
     @Override
     public MutableSortedSet<T> distinct()
     {
-        return SortedSets.mutable.withAll(this.comparator(), this.items.keySet());
+        return SortedSets.mutable.withAll(this.comparator(), new KeySet());
     }
 
     @Override
@@ -722,8 +753,7 @@ public class TreeBag<T>
     @Override
     public boolean add(T item)
     {
-        Counter counter = this.items.getIfAbsentPut(item, Counter::new);
-        counter.increment();
+        this.items.addToCount(item, 1);
         this.size++;
         return true;
     }
@@ -739,30 +769,40 @@ public class TreeBag<T>
     @Override
     public RichIterable<T> distinctView()
     {
-        return this.items.keySet().asUnmodifiable();
+        return SetAdapter.adapt(new KeySet()).asUnmodifiable();
     }
 
     private class InternalIterator implements Iterator<T>
     {
-        private final Iterator<T> iterator = TreeBag.this.items.keySet().iterator();
-
+        private Cursor<T, int[]> cursor = TreeBag.this.items.cursor(0L);
         private T currentItem;
         private int occurrences;
         private boolean canRemove;
+        private int expectedModCount = TreeBag.this.items.modCount();
 
         @Override
         public boolean hasNext()
         {
-            return this.occurrences > 0 || this.iterator.hasNext();
+            return this.occurrences > 0 || this.cursor.position() < TreeBag.this.items.endPosition();
         }
 
         @Override
         public T next()
         {
+            OccurrenceTree<T> items = TreeBag.this.items;
+            if (items.modCount() != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
             if (this.occurrences == 0)
             {
-                this.currentItem = this.iterator.next();
-                this.occurrences = TreeBag.this.occurrencesOf(this.currentItem);
+                if (this.cursor.position() >= items.endPosition())
+                {
+                    throw new NoSuchElementException();
+                }
+                this.currentItem = this.cursor.key();
+                this.occurrences = OccurrenceTree.countAt(this.cursor);
+                this.cursor.advance();
             }
             this.occurrences--;
             this.canRemove = true;
@@ -776,16 +816,83 @@ public class TreeBag<T>
             {
                 throw new IllegalStateException();
             }
-            if (this.occurrences == 0)
+            OccurrenceTree<T> items = TreeBag.this.items;
+            if (items.modCount() != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            Cursor<T, int[]> current = items.locate(this.currentItem);
+            int count = OccurrenceTree.countAt(current);
+            if (count > 1)
             {
-                this.iterator.remove();
-                TreeBag.this.size--;
+                OccurrenceTree.setCountAt(current, count - 1);
             }
             else
             {
-                TreeBag.this.remove(this.currentItem);
+                this.cursor = items.cursor(items.removeAt(current.position()));
+                this.expectedModCount = items.modCount();
             }
+            TreeBag.this.size--;
             this.canRemove = false;
         }
     }
+
+    /**
+     * A read-only view of the distinct items, in order.
+     */
+    private final class KeySet extends AbstractSet<T>
+    {
+        @Override
+        public Iterator<T> iterator()
+        {
+            return new KeyIterator();
+        }
+
+        @Override
+        public void forEach(Consumer<? super T> action)
+        {
+            TreeBag.this.items.forEachKeyCount((key, count) -> action.accept(key));
+        }
+
+        @Override
+        public int size()
+        {
+            return TreeBag.this.items.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return TreeBag.this.items.find(o) >= 0L;
+        }
+    }
+
+    private final class KeyIterator implements Iterator<T>
+    {
+        private final Cursor<T, int[]> cursor = TreeBag.this.items.cursor(0L);
+        private final int expectedModCount = TreeBag.this.items.modCount();
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.cursor.position() < TreeBag.this.items.endPosition();
+        }
+
+        @Override
+        public T next()
+        {
+            OccurrenceTree<T> items = TreeBag.this.items;
+            if (items.modCount() != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if (this.cursor.position() >= items.endPosition())
+            {
+                throw new NoSuchElementException();
+            }
+            T result = this.cursor.key();
+            this.cursor.advance();
+            return result;
+        }
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+
+package org.eclipse.collections.impl.block.predicate;
+
+import org.eclipse.collections.api.block.predicate.Predicate;
+
+/**
+ * Applies a predicate to the elements it is passed for as long as they satisfy takeWhilePredicate. It returns true once
+ * the predicate is satisfied or once an element does not satisfy takeWhilePredicate, so that passing it to a
+ * short-circuiting internal iteration such as {@code anySatisfy} stops at the end of the leading run.
+ *
+ * @since 12.0
+ */
+public class TakeWhileIterablePredicate<T> implements Predicate<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Predicate<? super T> takeWhilePredicate;
+    private final Predicate<? super T> predicate;
+    private boolean satisfied;
+    private T result;
+
+    public TakeWhileIterablePredicate(Predicate<? super T> takeWhilePredicate, Predicate<? super T> predicate)
+    {
+        this.takeWhilePredicate = takeWhilePredicate;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean accept(T each)
+    {
+        if (!this.takeWhilePredicate.accept(each))
+        {
+            return true;
+        }
+        if (this.predicate.accept(each))
+        {
+            this.satisfied = true;
+            this.result = each;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the predicate was satisfied by one of the elements seen.
+     */
+    public boolean isSatisfied()
+    {
+        return this.satisfied;
+    }
+
+    /**
+     * Returns the element which satisfied the predicate, or null if none did.
+     */
+    public T getResult()
+    {
+        return this.result;
+    }
+}
@@ -19,6 +19,7 @@ import java.util.Optional;
 import java.util.Spliterator;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 import java.util.stream.Stream;
 
 import org.eclipse.collections.api.BooleanIterable;
@@ -674,6 +675,10 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     @Override
     public T getFirst()
     {
+        if (this.lockWrapper.isOptimistic())
+        {
+            return this.lockWrapper.readOptimistically(() -> this.getDelegate().getFirst());
+        }
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
             return this.getDelegate().getFirst();
@@ -683,6 +688,10 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     @Override
     public T getLast()
     {
+        if (this.lockWrapper.isOptimistic())
+        {
+            return this.lockWrapper.readOptimistically(() -> this.getDelegate().getLast());
+        }
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
             return this.getDelegate().getLast();
@@ -701,6 +710,10 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     @Override
     public boolean notEmpty()
     {
+        if (this.lockWrapper.isOptimistic())
+        {
+            return this.lockWrapper.readOptimistically(() -> this.getDelegate().notEmpty());
+        }
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
             return this.getDelegate().notEmpty();
@@ -1142,6 +1155,10 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     @Override
     public boolean isEmpty()
     {
+        if (this.lockWrapper.isOptimistic())
+        {
+            return this.lockWrapper.readOptimistically(() -> this.getDelegate().isEmpty());
+        }
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
             return this.getDelegate().isEmpty();
@@ -1265,6 +1282,10 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     @Override
     public int size()
     {
+        if (this.lockWrapper.isOptimistic())
+        {
+            return this.lockWrapper.readOptimistically(() -> this.getDelegate().size());
+        }
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
             return this.getDelegate().size();
@@ -2283,11 +2304,58 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     {
         private final LockWrapper readLock;
         private final LockWrapper writeLock;
+        private final StampedLock stampedLock;
 
         public ReadWriteLockWrapper(ReadWriteLock readWriteLock)
         {
             this.readLock = new LockWrapper(readWriteLock.readLock());
             this.writeLock = new LockWrapper(readWriteLock.writeLock());
+            this.stampedLock = readWriteLock instanceof OptimisticReadWriteLock
+                    ? ((OptimisticReadWriteLock) readWriteLock).stampedLock
+                    : null;
+        }
+
+        /**
+         * Returns whether the lock is an {@link OptimisticReadWriteLock}, whose reads can be attempted with
+         * {@link #readOptimistically(Function0)}.
+         */
+        public boolean isOptimistic()
+        {
+            return this.stampedLock != null;
+        }
+
+        /**
+         * Evaluates a read of the delegate which only looks at its size or at a single element, such as
+         * {@code size()} or {@code get(int)}, and runs no user code. The read is first attempted without locking and
+         * its result is only used if no write happened concurrently; otherwise the read is repeated under the read
+         * lock. Must only be called when {@link #isOptimistic()} is true.
+         */
+        public <V> V readOptimistically(Function0<? extends V> read)
+        {
+            long stamp = this.stampedLock.tryOptimisticRead();
+            if (stamp != 0L)
+            {
+                try
+                {
+                    V result = read.value();
+                    if (this.stampedLock.validate(stamp))
+                    {
+                        return result;
+                    }
+                }
+                catch (RuntimeException e)
+                {
+                    // An exception thrown while a write was in progress is an artifact of the inconsistent read
+                    if (this.stampedLock.validate(stamp))
+                    {
+                        throw e;
+                    }
+                }
+            }
+            try (LockWrapper wrapper = this.acquireReadLock())
+            {
+                return read.value();
+            }
         }
 
         /**
@@ -2309,6 +2377,39 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
         }
     }
 
+    /**
+     * A ReadWriteLock backed by a {@link StampedLock}. MultiReader collections created with this lock answer
+     * {@code size()}, {@code isEmpty()}, {@code notEmpty()}, {@code getFirst()}, {@code getLast()} and {@code get(int)}
+     * with an optimistic read, which does not write to any shared state, and only take the read lock when a write
+     * happened concurrently. This removes the contention on the reader count of a ReentrantReadWriteLock for
+     * read-mostly collections. Every other method, including {@code contains()} and {@code indexOf()} which call
+     * {@code equals()} on the elements, runs under the read lock.
+     * <p>
+     * Unlike ReentrantReadWriteLock, this lock is not reentrant. The collection must not be read or written from
+     * within a procedure passed to {@code withReadLockAndDelegate()} or {@code withWriteLockAndDelegate()}.
+     * Collections are deserialized with a ReentrantReadWriteLock.
+     *
+     * @since 12.0
+     */
+    public static final class OptimisticReadWriteLock implements ReadWriteLock
+    {
+        private final StampedLock stampedLock = new StampedLock();
+        private final Lock readLock = this.stampedLock.asReadLock();
+        private final Lock writeLock = this.stampedLock.asWriteLock();
+
+        @Override
+        public Lock readLock()
+        {
+            return this.readLock;
+        }
+
+        @Override
+        public Lock writeLock()
+        {
+            return this.writeLock;
+        }
+    }
+
     public static class LockWrapper implements AutoCloseable
     {
         private final Lock lock;
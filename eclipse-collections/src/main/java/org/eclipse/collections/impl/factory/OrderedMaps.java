@@ -13,6 +13,7 @@ package org.eclipse.collections.impl.factory;
 import java.util.Map;
 
 import org.eclipse.collections.api.map.MutableOrderedMap;
+import org.eclipse.collections.impl.map.ordered.mutable.OrderedHashMap;
 import org.eclipse.collections.impl.map.ordered.mutable.OrderedMapAdapter;
 
 @SuppressWarnings("ConstantNamingConvention")
@@ -30,4 +31,24 @@ public final class OrderedMaps
     {
         return OrderedMapAdapter.adapt(map);
     }
+
+    /**
+     * Returns a new, empty {@link OrderedHashMap}.
+     *
+     * @since 12.0
+     */
+    public static <K, V> MutableOrderedMap<K, V> empty()
+    {
+        return OrderedHashMap.newMap();
+    }
+
+    /**
+     * Returns a new {@link OrderedHashMap} with room for {@code capacity} mappings before it needs to grow.
+     *
+     * @since 12.0
+     */
+    public static <K, V> MutableOrderedMap<K, V> ofInitialCapacity(int capacity)
+    {
+        return OrderedHashMap.newMap(capacity);
+    }
 }
@@ -14,6 +14,7 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.LazyBooleanIterable;
 import org.eclipse.collections.api.LazyByteIterable;
@@ -24,6 +25,7 @@ import org.eclipse.collections.api.LazyIntIterable;
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.LazyLongIterable;
 import org.eclipse.collections.api.LazyShortIterable;
+import org.eclipse.collections.api.ParallelIterable;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function2;
@@ -61,6 +63,7 @@ import org.eclipse.collections.impl.block.procedure.MinByProcedure;
 import org.eclipse.collections.impl.block.procedure.MinComparatorProcedure;
 import org.eclipse.collections.impl.block.procedure.MinProcedure;
 import org.eclipse.collections.impl.block.procedure.PartitionProcedure;
+import org.eclipse.collections.impl.lazy.parallel.LazyIterableParallelIterable;
 import org.eclipse.collections.impl.lazy.primitive.CollectBooleanIterable;
 import org.eclipse.collections.impl.lazy.primitive.CollectByteIterable;
 import org.eclipse.collections.impl.lazy.primitive.CollectCharIterable;
@@ -156,7 +159,7 @@ public abstract class AbstractLazyIterable<T>
     @Override
     public <P> LazyIterable<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter)
     {
-        return LazyIterate.select(this, Predicates.bind(predicate, parameter));
+        return this.select(Predicates.bind(predicate, parameter));
     }
 
     @Override
@@ -168,7 +171,7 @@ public abstract class AbstractLazyIterable<T>
     @Override
     public <P> LazyIterable<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter)
     {
-        return LazyIterate.reject(this, Predicates.bind(predicate, parameter));
+        return this.reject(Predicates.bind(predicate, parameter));
     }
 
     @Override
@@ -248,7 +251,7 @@ public abstract class AbstractLazyIterable<T>
     @Override
     public <P, V> LazyIterable<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
     {
-        return LazyIterate.collect(this, Functions.bind(function, parameter));
+        return this.collect(Functions.bind(function, parameter));
     }
 
     @Override
@@ -346,6 +349,12 @@ public abstract class AbstractLazyIterable<T>
         return LazyIterate.tap(this, procedure);
     }
 
+    @Override
+    public ParallelIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new LazyIterableParallelIterable<>(this, executorService, batchSize);
+    }
+
     @Override
     public <V> ObjectLongMap<V> sumByInt(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
     {
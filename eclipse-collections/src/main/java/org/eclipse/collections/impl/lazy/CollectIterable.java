@@ -12,7 +12,10 @@ package org.eclipse.collections.impl.lazy;
 
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.ParallelIterable;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.function.primitive.DoubleObjectToDoubleFunction;
@@ -27,6 +30,7 @@ import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.lazy.iterator.CollectIterator;
 import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.LazyIterate;
 
 /**
  * A CollectIterable is an iterable that transforms a source iterable using a function as it iterates.
@@ -67,6 +71,18 @@ public class CollectIterable<T, V>
         return new CollectIterator<>(this.adapted, this.function);
     }
 
+    @Override
+    public ParallelIterable<V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return LazyIterate.adapt(this.adapted).asParallel(executorService, batchSize).collect(this.function);
+    }
+
+    @Override
+    public <VV> LazyIterable<VV> collect(Function<? super V, ? extends VV> function)
+    {
+        return new CollectIterable<>(this.adapted, FusedFunction.compose(this.function, function));
+    }
+
     @Override
     public int size()
     {
@@ -12,8 +12,10 @@ package org.eclipse.collections.impl.lazy;
 
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.ParallelIterable;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
@@ -22,6 +24,7 @@ import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.block.procedure.AdaptObjectIntProcedureToProcedure;
 import org.eclipse.collections.impl.lazy.iterator.DistinctIterator;
 import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.LazyIterate;
 
 /**
  * A DistinctIterable is an iterable that eliminates duplicates from a source iterable as it iterates.
@@ -109,4 +112,10 @@ public class DistinctIterable<T>
     {
         return new DistinctIterator<>(this.adapted);
     }
+
+    @Override
+    public ParallelIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return LazyIterate.adapt(this.adapted).asParallel(executorService, batchSize).asUnique();
+    }
 }
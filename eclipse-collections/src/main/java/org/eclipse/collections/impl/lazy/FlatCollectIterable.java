@@ -12,7 +12,9 @@ package org.eclipse.collections.impl.lazy;
 
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
+import org.eclipse.collections.api.ParallelIterable;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
@@ -23,6 +25,7 @@ import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.procedure.AdaptObjectIntProcedureToProcedure;
 import org.eclipse.collections.impl.lazy.iterator.FlatCollectIterator;
 import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.LazyIterate;
 
 public class FlatCollectIterable<T, V>
         extends AbstractLazyIterable<V>
@@ -152,4 +155,10 @@ public class FlatCollectIterable<T, V>
     {
         return new FlatCollectIterator<>(this.adapted, this.function);
     }
+
+    @Override
+    public ParallelIterable<V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return LazyIterate.adapt(this.adapted).asParallel(executorService, batchSize).flatCollect(this.function);
+    }
 }
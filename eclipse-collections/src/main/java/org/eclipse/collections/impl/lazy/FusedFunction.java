@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+
+package org.eclipse.collections.impl.lazy;
+
+import org.eclipse.collections.api.block.function.Function;
+
+/**
+ * The functions of consecutive collect stages, held in one flat array so that a chain of transformations is applied
+ * in a single loop rather than through nested wrappers.
+ */
+final class FusedFunction<T, V> implements Function<T, V>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Function<Object, Object>[] functions;
+
+    private FusedFunction(Function<Object, Object>[] functions)
+    {
+        this.functions = functions;
+    }
+
+    static <T, I, V> Function<T, V> compose(Function<? super T, ? extends I> first, Function<? super I, ? extends V> second)
+    {
+        Function<Object, Object>[] firstFunctions = FusedFunction.flatten(first);
+        Function<Object, Object>[] secondFunctions = FusedFunction.flatten(second);
+        Function<Object, Object>[] functions = new Function[firstFunctions.length + secondFunctions.length];
+        System.arraycopy(firstFunctions, 0, functions, 0, firstFunctions.length);
+        System.arraycopy(secondFunctions, 0, functions, firstFunctions.length, secondFunctions.length);
+        return new FusedFunction<>(functions);
+    }
+
+    private static Function<Object, Object>[] flatten(Function<?, ?> function)
+    {
+        if (function instanceof FusedFunction)
+        {
+            return ((FusedFunction<?, ?>) function).functions;
+        }
+        return new Function[]{function};
+    }
+
+    @Override
+    public V valueOf(T each)
+    {
+        Object result = each;
+        for (Function<Object, Object> function : this.functions)
+        {
+            result = function.valueOf(result);
+        }
+        return (V) result;
+    }
+}
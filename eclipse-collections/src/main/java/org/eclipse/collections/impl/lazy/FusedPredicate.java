@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+
+package org.eclipse.collections.impl.lazy;
+
+import org.eclipse.collections.api.block.predicate.Predicate;
+
+/**
+ * The predicates of consecutive select and reject stages, held in one flat array so that a chain of filters is
+ * evaluated in a single loop rather than through nested wrappers.
+ */
+final class FusedPredicate<T> implements Predicate<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Predicate<? super T>[] predicates;
+
+    private FusedPredicate(Predicate<? super T>[] predicates)
+    {
+        this.predicates = predicates;
+    }
+
+    static <T> Predicate<T> and(Predicate<? super T> left, Predicate<? super T> right)
+    {
+        Predicate<? super T>[] leftPredicates = FusedPredicate.flatten(left);
+        Predicate<? super T>[] rightPredicates = FusedPredicate.flatten(right);
+        Predicate<? super T>[] predicates = new Predicate[leftPredicates.length + rightPredicates.length];
+        System.arraycopy(leftPredicates, 0, predicates, 0, leftPredicates.length);
+        System.arraycopy(rightPredicates, 0, predicates, leftPredicates.length, rightPredicates.length);
+        return new FusedPredicate<>(predicates);
+    }
+
+    private static <T> Predicate<? super T>[] flatten(Predicate<? super T> predicate)
+    {
+        if (predicate instanceof FusedPredicate)
+        {
+            return ((FusedPredicate<? super T>) predicate).predicates;
+        }
+        return new Predicate[]{predicate};
+    }
+
+    @Override
+    public boolean accept(T each)
+    {
+        for (Predicate<? super T> predicate : this.predicates)
+        {
+            if (!predicate.accept(each))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -13,14 +13,19 @@ package org.eclipse.collections.impl.lazy;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.ParallelIterable;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.set.SetIterable;
 import org.eclipse.collections.impl.UnmodifiableIteratorAdapter;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.LazyIterate;
@@ -62,6 +67,24 @@ public class LazyIterableAdapter<T>
         return new UnmodifiableIteratorAdapter<>(this.adapted.iterator());
     }
 
+    @Override
+    public ParallelIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (this.adapted instanceof LazyIterable)
+        {
+            return ((LazyIterable<T>) this.adapted).asParallel(executorService, batchSize);
+        }
+        if (this.adapted instanceof ListIterable && this.adapted instanceof RandomAccess)
+        {
+            return ((ListIterable<T>) this.adapted).asParallel(executorService, batchSize);
+        }
+        if (this.adapted instanceof SetIterable)
+        {
+            return ((SetIterable<T>) this.adapted).asParallel(executorService, batchSize);
+        }
+        return super.asParallel(executorService, batchSize);
+    }
+
     @Override
     public <R extends Collection<T>> R into(R target)
     {
@@ -12,7 +12,10 @@ package org.eclipse.collections.impl.lazy;
 
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.ParallelIterable;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
@@ -23,6 +26,7 @@ import org.eclipse.collections.impl.block.procedure.IfProcedure;
 import org.eclipse.collections.impl.block.procedure.IfProcedureWith;
 import org.eclipse.collections.impl.lazy.iterator.SelectIterator;
 import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.LazyIterate;
 
 /**
  * A SelectIterable is an iterable that filters a source iterable on a condition as it iterates.
@@ -63,6 +67,24 @@ public class SelectIterable<T>
         return new SelectIterator<>(this.adapted.iterator(), this.predicate);
     }
 
+    @Override
+    public ParallelIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return LazyIterate.adapt(this.adapted).asParallel(executorService, batchSize).select(this.predicate);
+    }
+
+    @Override
+    public LazyIterable<T> select(Predicate<? super T> predicate)
+    {
+        return new SelectIterable<>(this.adapted, FusedPredicate.and(this.predicate, predicate));
+    }
+
+    @Override
+    public LazyIterable<T> reject(Predicate<? super T> predicate)
+    {
+        return new SelectIterable<>(this.adapted, FusedPredicate.and(this.predicate, Predicates.not(predicate)));
+    }
+
     @Override
     public boolean anySatisfy(Predicate<? super T> predicate)
     {
@@ -11,11 +11,17 @@
 package org.eclipse.collections.impl.lazy;
 
 import java.util.Iterator;
+import java.util.Optional;
 
+import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.block.factory.Procedures;
+import org.eclipse.collections.impl.block.predicate.TakeIterablePredicate;
 import org.eclipse.collections.impl.lazy.iterator.TakeIterator;
+import org.eclipse.collections.impl.utility.Iterate;
 
 /**
  * Iterates over the first count elements of the adapted Iterable or the full size of the adapted
@@ -36,42 +42,71 @@ public class TakeIterable<T> extends AbstractLazyIterable<T>
         this.count = count;
     }
 
-    // TODO: implement in terms of LazyIterate.whileDo() when it is added.
-
     @Override
     public void each(Procedure<? super T> procedure)
     {
-        int i = 0;
-        Iterator<T> iterator = this.adapted.iterator();
-        while (i < this.count && iterator.hasNext())
+        this.shortCircuit(each ->
         {
-            procedure.value(iterator.next());
-            i++;
-        }
+            procedure.value(each);
+            return false;
+        });
     }
 
     @Override
     public void forEachWithIndex(ObjectIntProcedure<? super T> procedure)
     {
-        int i = 0;
-        Iterator<T> iterator = this.adapted.iterator();
-        while (i < this.count && iterator.hasNext())
-        {
-            procedure.value(iterator.next(), i);
-            i++;
-        }
+        this.each(Procedures.fromObjectIntProcedure(procedure));
     }
 
     @Override
     public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
     {
-        int i = 0;
-        Iterator<T> iterator = this.adapted.iterator();
-        while (i < this.count && iterator.hasNext())
+        this.each(Procedures.bind(procedure, parameter));
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        return this.shortCircuit(predicate).isSatisfied();
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return !this.shortCircuit(Predicates.not(predicate)).isSatisfied();
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super T> predicate)
+    {
+        return !this.shortCircuit(predicate).isSatisfied();
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        return this.shortCircuit(predicate).getResult();
+    }
+
+    @Override
+    public Optional<T> detectOptional(Predicate<? super T> predicate)
+    {
+        TakeIterablePredicate<T> result = this.shortCircuit(predicate);
+        return result.isSatisfied() ? Optional.of(result.getResult()) : Optional.empty();
+    }
+
+    /**
+     * Runs the predicate over at most the first count elements, using the short-circuiting anySatisfy of the adapted
+     * iterable so that sources like FastList keep their internal array loop and stop after count elements.
+     */
+    private TakeIterablePredicate<T> shortCircuit(Predicate<? super T> predicate)
+    {
+        TakeIterablePredicate<T> takePredicate = new TakeIterablePredicate<>(this.count, predicate);
+        if (this.count > 0)
         {
-            procedure.value(iterator.next(), parameter);
-            i++;
+            Iterate.anySatisfy(this.adapted, takePredicate);
         }
+        return takePredicate;
     }
 
     @Override
@@ -11,12 +11,17 @@
 package org.eclipse.collections.impl.lazy;
 
 import java.util.Iterator;
+import java.util.Optional;
 
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.block.factory.Procedures;
+import org.eclipse.collections.impl.block.predicate.TakeWhileIterablePredicate;
 import org.eclipse.collections.impl.lazy.iterator.TakeWhileIterator;
+import org.eclipse.collections.impl.utility.Iterate;
 
 /**
  * Iterates over the elements of the adapted Iterable until the predicate returns false.
@@ -41,42 +46,65 @@ public class TakeWhileIterable<T> extends AbstractLazyIterable<T>
     @Override
     public void each(Procedure<? super T> procedure)
     {
-        for (T each : this.adapted)
+        this.shortCircuit(each ->
         {
-            if (!this.predicate.accept(each))
-            {
-                return;
-            }
             procedure.value(each);
-        }
+            return false;
+        });
     }
 
     @Override
     public void forEachWithIndex(ObjectIntProcedure<? super T> procedure)
     {
-        int i = 0;
-        for (T each : this.adapted)
-        {
-            if (!this.predicate.accept(each))
-            {
-                return;
-            }
-            procedure.value(each, i);
-            i++;
-        }
+        this.each(Procedures.fromObjectIntProcedure(procedure));
     }
 
     @Override
     public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
     {
-        for (T each : this.adapted)
-        {
-            if (!this.predicate.accept(each))
-            {
-                return;
-            }
-            procedure.value(each, parameter);
-        }
+        this.each(Procedures.bind(procedure, parameter));
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        return this.shortCircuit(predicate).isSatisfied();
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return !this.shortCircuit(Predicates.not(predicate)).isSatisfied();
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super T> predicate)
+    {
+        return !this.shortCircuit(predicate).isSatisfied();
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        return this.shortCircuit(predicate).getResult();
+    }
+
+    @Override
+    public Optional<T> detectOptional(Predicate<? super T> predicate)
+    {
+        TakeWhileIterablePredicate<T> result = this.shortCircuit(predicate);
+        return result.isSatisfied() ? Optional.of(result.getResult()) : Optional.empty();
+    }
+
+    /**
+     * Runs the predicate over the leading elements which satisfy the takeWhile predicate, using the short-circuiting
+     * anySatisfy of the adapted iterable so that sources like FastList keep their internal array loop.
+     */
+    private TakeWhileIterablePredicate<T> shortCircuit(Predicate<? super T> predicate)
+    {
+        TakeWhileIterablePredicate<T> takeWhilePredicate = new TakeWhileIterablePredicate<>(this.predicate, predicate);
+        Iterate.anySatisfy(this.adapted, takeWhilePredicate);
+        return takeWhilePredicate;
     }
 
     @Override
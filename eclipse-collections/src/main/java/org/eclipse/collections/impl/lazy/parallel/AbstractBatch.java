@@ -31,6 +31,12 @@ import org.eclipse.collections.impl.block.procedure.SumOfLongProcedure;
 
 public abstract class AbstractBatch<T> implements Batch<T>
 {
+    @Override
+    public int getExactSizeIfKnown()
+    {
+        return -1;
+    }
+
     @Override
     public int count(Predicate<? super T> predicate)
     {
@@ -11,6 +11,7 @@
 package org.eclipse.collections.impl.lazy.parallel;
 
 import java.io.IOException;
+import java.lang.reflect.Array;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.NoSuchElementException;
@@ -466,10 +467,88 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return this.detectIfNone(Predicates.bind(predicate, parameter), function);
     }
 
+    /**
+     * Copies the elements into the target array in two passes. The first pass sizes each batch, evaluating into a
+     * buffer only the batches whose size is not known up front. The second pass writes each batch directly into the
+     * target array, starting at the offset given by the sizes of the batches before it.
+     */
     @Override
     public <E> E[] toArray(E[] array)
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".toArray() not implemented yet");
+        MutableList<B> batches = this.split().toList();
+        int batchCount = batches.size();
+        MutableList<T>[] buffers = new MutableList[batchCount];
+        MutableList<Future<?>> sizingFutures = FastList.newList();
+        for (int i = 0; i < batchCount; i++)
+        {
+            B batch = batches.get(i);
+            if (batch.getExactSizeIfKnown() < 0)
+            {
+                int index = i;
+                sizingFutures.add(this.getExecutorService().submit(() -> {
+                    MutableList<T> buffer = FastList.newList();
+                    batch.forEach(CollectionAddProcedure.on(buffer));
+                    buffers[index] = buffer;
+                }));
+            }
+        }
+        AbstractParallelIterable.waitForAll(sizingFutures);
+
+        int[] offsets = new int[batchCount + 1];
+        for (int i = 0; i < batchCount; i++)
+        {
+            int batchSize = buffers[i] == null ? batches.get(i).getExactSizeIfKnown() : buffers[i].size();
+            offsets[i + 1] = offsets[i] + batchSize;
+        }
+        int size = offsets[batchCount];
+
+        E[] result = array.length < size
+                ? (E[]) Array.newInstance(array.getClass().getComponentType(), size)
+                : array;
+        MutableList<Future<?>> writingFutures = FastList.newList(batchCount);
+        for (int i = 0; i < batchCount; i++)
+        {
+            Procedure<T> procedure = new ArrayStoreProcedure<>(result, offsets[i]);
+            MutableList<T> buffer = buffers[i];
+            B batch = batches.get(i);
+            writingFutures.add(this.getExecutorService().submit(() -> {
+                if (buffer == null)
+                {
+                    batch.forEach(procedure);
+                }
+                else
+                {
+                    buffer.each(procedure);
+                }
+            }));
+        }
+        AbstractParallelIterable.waitForAll(writingFutures);
+
+        if (result.length > size)
+        {
+            result[size] = null;
+        }
+        return result;
+    }
+
+    private static void waitForAll(MutableList<Future<?>> futures)
+    {
+        for (Future<?> future : futures)
+        {
+            try
+            {
+                future.get();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
     }
 
     @Override
@@ -485,10 +564,19 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return state;
     }
 
+    @Override
+    public MutableList<T> toSortedList()
+    {
+        return this.toSortedList(null);
+    }
+
+    /**
+     * Copies the elements into an array in parallel with {@link #toArray(Object[])}, then sorts the array in parallel.
+     */
     @Override
     public MutableList<T> toSortedList(Comparator<? super T> comparator)
     {
-        return this.toList().toSortedList(comparator);
+        return FastList.newListWith((T[]) this.toArray(new Object[0])).sortThisInParallel(comparator);
     }
 
     @Override
@@ -765,4 +853,24 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         });
         return result;
     }
+
+    private static final class ArrayStoreProcedure<T> implements Procedure<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] target;
+        private int index;
+
+        private ArrayStoreProcedure(Object[] target, int offset)
+        {
+            this.target = target;
+            this.index = offset;
+        }
+
+        @Override
+        public void value(T each)
+        {
+            this.target[this.index++] = each;
+        }
+    }
 }
@@ -33,6 +33,11 @@ public interface Batch<T>
 
     <V> Batch<V> flatCollect(Function<? super T, ? extends Iterable<V>> function);
 
+    /**
+     * Returns the number of elements in this batch if it is known without evaluating the batch, or -1 otherwise.
+     */
+    int getExactSizeIfKnown();
+
     int count(Predicate<? super T> predicate);
 
     String makeString(String separator);
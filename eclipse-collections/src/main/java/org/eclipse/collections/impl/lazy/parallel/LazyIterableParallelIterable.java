@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+
+package org.eclipse.collections.impl.lazy.parallel;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+import org.eclipse.collections.impl.lazy.parallel.list.ListIterableBatch;
+import org.eclipse.collections.impl.lazy.parallel.list.RootListBatch;
+import org.eclipse.collections.impl.list.mutable.FastList;
+
+/**
+ * A parallel iterable over a source that cannot be split, such as a lazy iterable whose stages depend on the order of
+ * iteration. The source is iterated on the calling thread and buffered into batches of {@code batchSize} elements,
+ * and each batch is handed to the executor as soon as it is full, so that the batches are processed while the rest of
+ * the source is still being read.
+ *
+ * @since 12.0
+ */
+@Beta
+public class LazyIterableParallelIterable<T> extends AbstractParallelIterableImpl<T, RootListBatch<T>>
+{
+    private final Iterable<T> delegate;
+    private final ExecutorService executorService;
+    private final int batchSize;
+
+    public LazyIterableParallelIterable(Iterable<T> delegate, ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        this.delegate = delegate;
+        this.executorService = executorService;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public ExecutorService getExecutorService()
+    {
+        return this.executorService;
+    }
+
+    @Override
+    public int getBatchSize()
+    {
+        return this.batchSize;
+    }
+
+    @Override
+    public LazyIterable<RootListBatch<T>> split()
+    {
+        return new BufferedBatchLazyIterable();
+    }
+
+    @Override
+    public void forEach(Procedure<? super T> procedure)
+    {
+        AbstractParallelIterable.forEach(this, procedure);
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        return AbstractParallelIterable.anySatisfy(this, predicate);
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return AbstractParallelIterable.allSatisfy(this, predicate);
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        return AbstractParallelIterable.detect(this, predicate);
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        return this.toArray(new Object[0]);
+    }
+
+    private class BufferedBatchIterator implements Iterator<RootListBatch<T>>
+    {
+        private final Iterator<T> iterator = LazyIterableParallelIterable.this.delegate.iterator();
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.iterator.hasNext();
+        }
+
+        @Override
+        public RootListBatch<T> next()
+        {
+            if (!this.iterator.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            int batchSize = LazyIterableParallelIterable.this.batchSize;
+            FastList<T> buffer = FastList.newList(batchSize);
+            while (buffer.size() < batchSize && this.iterator.hasNext())
+            {
+                buffer.add(this.iterator.next());
+            }
+            return new ListIterableBatch<>(buffer, 0, buffer.size());
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + LazyIterableParallelIterable.this.delegate.getClass().getSimpleName());
+        }
+    }
+
+    private class BufferedBatchLazyIterable
+            extends AbstractLazyIterable<RootListBatch<T>>
+    {
+        @Override
+        public void each(Procedure<? super RootListBatch<T>> procedure)
+        {
+            for (RootListBatch<T> chunk : this)
+            {
+                procedure.value(chunk);
+            }
+        }
+
+        @Override
+        public Iterator<RootListBatch<T>> iterator()
+        {
+            return new BufferedBatchIterator();
+        }
+    }
+}
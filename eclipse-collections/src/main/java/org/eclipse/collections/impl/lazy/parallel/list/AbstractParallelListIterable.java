@@ -15,13 +15,19 @@ import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.list.ParallelListIterable;
-import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.multimap.list.ListMultimap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.block.procedure.MultimapEachPutProcedure;
+import org.eclipse.collections.impl.block.procedure.MultimapPutProcedure;
 import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.lazy.parallel.Batch;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.multimap.list.FastListMultimap;
 
 @Beta
 public abstract class AbstractParallelListIterable<T, B extends ListBatch<T>> extends AbstractParallelIterable<T, B> implements ParallelListIterable<T>
@@ -95,35 +101,38 @@ public abstract class AbstractParallelListIterable<T, B extends ListBatch<T>> ex
     @Override
     public <V> ListMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
-        // TODO: Implement in parallel
-        return this.toList().groupBy(function);
+        Function<Batch<T>, MutableListMultimap<V, T>> map = batch -> {
+            MutableListMultimap<V, T> multimap = FastListMultimap.newMultimap();
+            batch.forEach(MultimapPutProcedure.on(multimap, function));
+            return multimap;
+        };
+        MutableListMultimap<V, T> state = FastListMultimap.newMultimap();
+        this.collectCombine(map, MutableListMultimap::putAll, state);
+        return state;
     }
 
     @Override
     public <V> ListMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
     {
-        // TODO: Implement in parallel
-        return this.toList().groupByEach(function);
-    }
-
-    @Override
-    public <V> MapIterable<V, T> groupByUniqueKey(Function<? super T, ? extends V> function)
-    {
-        // TODO: Implement in parallel
-        return this.toList().groupByUniqueKey(function);
+        Function<Batch<T>, MutableListMultimap<V, T>> map = batch -> {
+            MutableListMultimap<V, T> multimap = FastListMultimap.newMultimap();
+            batch.forEach(MultimapEachPutProcedure.on(multimap, function));
+            return multimap;
+        };
+        MutableListMultimap<V, T> state = FastListMultimap.newMultimap();
+        this.collectCombine(map, MutableListMultimap::putAll, state);
+        return state;
     }
 
     @Override
     public Object[] toArray()
     {
-        // TODO: Implement in parallel
-        return this.toList().toArray();
+        return this.toArray(new Object[0]);
     }
 
     @Override
-    public <E> E[] toArray(E[] array)
+    public MutableList<T> toList()
     {
-        // TODO: Implement in parallel
-        return this.toList().toArray(array);
+        return FastList.newListWith((T[]) this.toArray());
     }
 }
@@ -18,7 +18,7 @@ import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
 import org.eclipse.collections.impl.lazy.parallel.Batch;
 import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
-import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.set.mutable.ConcurrentUnifiedSet;
 
 @Beta
 public class CollectListBatch<T, V> extends AbstractBatch<V> implements ListBatch<V>
@@ -38,6 +38,12 @@ public class CollectListBatch<T, V> extends AbstractBatch<V> implements ListBatc
         this.batch.forEach(Functions.bind(procedure, this.function));
     }
 
+    @Override
+    public int getExactSizeIfKnown()
+    {
+        return this.batch.getExactSizeIfKnown();
+    }
+
     @Override
     public ListBatch<V> select(Predicate<? super V> predicate)
     {
@@ -58,7 +64,7 @@ public class CollectListBatch<T, V> extends AbstractBatch<V> implements ListBatc
     }
 
     @Override
-    public UnsortedSetBatch<V> distinct(ConcurrentHashMap<V, Boolean> distinct)
+    public UnsortedSetBatch<V> distinct(ConcurrentUnifiedSet<V> distinct)
     {
         return new DistinctBatch<>(this, distinct);
     }
@@ -17,7 +17,7 @@ import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
 import org.eclipse.collections.impl.lazy.parallel.Batch;
 import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
-import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.set.mutable.ConcurrentUnifiedSet;
 import org.eclipse.collections.impl.utility.Iterate;
 
 @Beta
@@ -57,7 +57,7 @@ public class FlatCollectListBatch<T, V> extends AbstractBatch<V> implements List
     }
 
     @Override
-    public UnsortedSetBatch<V> distinct(ConcurrentHashMap<V, Boolean> distinct)
+    public UnsortedSetBatch<V> distinct(ConcurrentUnifiedSet<V> distinct)
     {
         return new DistinctBatch<>(this, distinct);
     }
@@ -16,12 +16,9 @@ import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.annotation.Beta;
-import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.list.ListIterable;
-import org.eclipse.collections.api.map.MapIterable;
-import org.eclipse.collections.api.multimap.list.ListMultimap;
 import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
 import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
 
@@ -87,41 +84,6 @@ public final class ListIterableParallelIterable<T> extends AbstractParallelListI
         return AbstractParallelIterable.detect(this, predicate);
     }
 
-    @Override
-    public Object[] toArray()
-    {
-        // TODO: Implement in parallel
-        return this.delegate.toArray();
-    }
-
-    @Override
-    public <E> E[] toArray(E[] array)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.toArray(array);
-    }
-
-    @Override
-    public <V> ListMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.groupBy(function);
-    }
-
-    @Override
-    public <V> ListMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.groupByEach(function);
-    }
-
-    @Override
-    public <V> MapIterable<V, T> groupByUniqueKey(Function<? super T, ? extends V> function)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.groupByUniqueKey(function);
-    }
-
     @Override
     public int getBatchSize()
     {
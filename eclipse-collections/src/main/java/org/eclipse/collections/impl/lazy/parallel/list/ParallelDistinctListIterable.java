@@ -14,16 +14,11 @@ import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.annotation.Beta;
-import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
-import org.eclipse.collections.api.map.ConcurrentMutableMap;
-import org.eclipse.collections.api.map.MapIterable;
-import org.eclipse.collections.api.multimap.set.UnsortedSetMultimap;
 import org.eclipse.collections.impl.lazy.parallel.set.AbstractParallelUnsortedSetIterable;
 import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
-import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
-import org.eclipse.collections.impl.multimap.set.UnifiedSetMultimap;
+import org.eclipse.collections.impl.set.mutable.ConcurrentUnifiedSet;
 
 @Beta
 class ParallelDistinctListIterable<T> extends AbstractParallelUnsortedSetIterable<T, UnsortedSetBatch<T>>
@@ -50,18 +45,16 @@ class ParallelDistinctListIterable<T> extends AbstractParallelUnsortedSetIterabl
     @Override
     public LazyIterable<UnsortedSetBatch<T>> split()
     {
-        // TODO: Replace the map with a concurrent set once it's implemented
-        ConcurrentHashMap<T, Boolean> distinct = new ConcurrentHashMap<>();
+        ConcurrentUnifiedSet<T> distinct = new ConcurrentUnifiedSet<>();
         return this.delegate.split().collect(listBatch -> listBatch.distinct(distinct));
     }
 
     @Override
     public void forEach(Procedure<? super T> procedure)
     {
-        // TODO: Replace the map with a concurrent set once it's implemented
-        ConcurrentMutableMap<T, Boolean> distinct = new ConcurrentHashMap<>();
+        ConcurrentUnifiedSet<T> distinct = new ConcurrentUnifiedSet<>();
         this.delegate.forEach(each -> {
-            if (distinct.put(each, true) == null)
+            if (distinct.add(each))
             {
                 procedure.value(each);
             }
@@ -100,31 +93,9 @@ class ParallelDistinctListIterable<T> extends AbstractParallelUnsortedSetIterabl
         return this.delegate.toList().distinct().toArray(array);
     }
 
-    @Override
-    public <V> UnsortedSetMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.toSet().groupBy(function, new UnifiedSetMultimap<>());
-    }
-
-    @Override
-    public <V> UnsortedSetMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.toSet().groupByEach(function, new UnifiedSetMultimap<>());
-    }
-
-    @Override
-    public <V> MapIterable<V, T> groupByUniqueKey(Function<? super T, ? extends V> function)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.toSet().groupByUniqueKey(function);
-    }
-
     private static final class DistinctAndPredicate<T> implements Predicate<T>
     {
-        // TODO: Replace the map with a concurrent set once it's implemented
-        private final ConcurrentMutableMap<T, Boolean> distinct = new ConcurrentHashMap<>();
+        private final ConcurrentUnifiedSet<T> distinct = new ConcurrentUnifiedSet<>();
         private final Predicate<? super T> predicate;
 
         private DistinctAndPredicate(Predicate<? super T> predicate)
@@ -135,14 +106,13 @@ class ParallelDistinctListIterable<T> extends AbstractParallelUnsortedSetIterabl
         @Override
         public boolean accept(T each)
         {
-            return this.distinct.put(each, true) == null && this.predicate.accept(each);
+            return this.distinct.add(each) && this.predicate.accept(each);
         }
     }
 
     private static final class DistinctOrPredicate<T> implements Predicate<T>
     {
-        // TODO: Replace the map with a concurrent set once it's implemented
-        private final ConcurrentMutableMap<T, Boolean> distinct = new ConcurrentHashMap<>();
+        private final ConcurrentUnifiedSet<T> distinct = new ConcurrentUnifiedSet<>();
         private final Predicate<? super T> predicate;
 
         private DistinctOrPredicate(Predicate<? super T> predicate)
@@ -153,7 +123,7 @@ class ParallelDistinctListIterable<T> extends AbstractParallelUnsortedSetIterabl
         @Override
         public boolean accept(T each)
         {
-            boolean distinct = this.distinct.put(each, true) == null;
+            boolean distinct = this.distinct.add(each);
             return distinct && this.predicate.accept(each) || !distinct;
         }
     }
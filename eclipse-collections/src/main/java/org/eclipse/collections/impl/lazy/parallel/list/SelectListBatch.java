@@ -17,7 +17,7 @@ import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.impl.block.procedure.IfProcedure;
 import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
 import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
-import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.set.mutable.ConcurrentUnifiedSet;
 
 @Beta
 public class SelectListBatch<T> extends AbstractBatch<T> implements ListBatch<T>
@@ -56,7 +56,7 @@ public class SelectListBatch<T> extends AbstractBatch<T> implements ListBatch<T>
     }
 
     @Override
-    public UnsortedSetBatch<T> distinct(ConcurrentHashMap<T, Boolean> distinct)
+    public UnsortedSetBatch<T> distinct(ConcurrentUnifiedSet<T> distinct)
     {
         return new DistinctBatch<>(this, distinct);
     }
@@ -22,7 +22,7 @@ import org.eclipse.collections.impl.lazy.parallel.list.FlatCollectListBatch;
 import org.eclipse.collections.impl.lazy.parallel.list.ListBatch;
 import org.eclipse.collections.impl.lazy.parallel.list.SelectListBatch;
 import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
-import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.set.mutable.ConcurrentUnifiedSet;
 
 @Beta
 public class CollectSortedSetBatch<T, V> extends AbstractBatch<V> implements ListBatch<V>
@@ -42,6 +42,12 @@ public class CollectSortedSetBatch<T, V> extends AbstractBatch<V> implements Lis
         this.sortedSetBatch.forEach(Functions.bind(procedure, this.function));
     }
 
+    @Override
+    public int getExactSizeIfKnown()
+    {
+        return this.sortedSetBatch.getExactSizeIfKnown();
+    }
+
     @Override
     public ListBatch<V> select(Predicate<? super V> predicate)
     {
@@ -61,7 +67,7 @@ public class CollectSortedSetBatch<T, V> extends AbstractBatch<V> implements Lis
     }
 
     @Override
-    public UnsortedSetBatch<V> distinct(ConcurrentHashMap<V, Boolean> distinct)
+    public UnsortedSetBatch<V> distinct(ConcurrentUnifiedSet<V> distinct)
     {
         return new DistinctBatch<>(this, distinct);
     }
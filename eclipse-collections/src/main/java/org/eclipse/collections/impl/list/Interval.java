@@ -22,6 +22,7 @@ import java.util.NoSuchElementException;
 import java.util.RandomAccess;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.bag.MutableBag;
@@ -41,6 +42,7 @@ import org.eclipse.collections.api.factory.Bags;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.ParallelListIterable;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.block.procedure.CollectProcedure;
 import org.eclipse.collections.impl.block.procedure.CollectionAddProcedure;
@@ -49,6 +51,7 @@ import org.eclipse.collections.impl.block.procedure.SelectProcedure;
 import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.list.mutable.MutableListIterator;
+import org.eclipse.collections.impl.list.mutable.RandomAccessListAdapter;
 
 /**
  * An Interval is a range of integers that may be iterated over using a step value. Interval
@@ -1063,6 +1066,15 @@ public final class Interval
         return this;
     }
 
+    /**
+     * Splits this interval into batches by index, since every element can be computed from its position.
+     */
+    @Override
+    public ParallelListIterable<Integer> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return RandomAccessListAdapter.adapt(this).asParallel(executorService, batchSize);
+    }
+
     private void readObject(ObjectInputStream ois)
             throws IOException, ClassNotFoundException
     {
@@ -292,4 +292,20 @@ public class ImmutableListFactoryImpl implements ImmutableListFactory
         Arrays.sort(array, comparator);
         return new ImmutableArrayList<>(array);
     }
+
+    @Override
+    public <T> ImmutableList<T> emptyPersistent()
+    {
+        return ImmutablePersistentList.empty();
+    }
+
+    @Override
+    public <T> ImmutableList<T> withAllPersistent(Iterable<? extends T> items)
+    {
+        if (items instanceof ImmutablePersistentList<?>)
+        {
+            return (ImmutableList<T>) items;
+        }
+        return ImmutablePersistentList.newList(items);
+    }
 }
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.FastList;
+
+/**
+ * An ImmutablePersistentList is a persistent vector: a 32-way trie of leaf arrays plus a tail array holding the last
+ * 1 to 32 elements. {@link #newWith(Object)} shares every full leaf with the original list and copies at most one
+ * array per level of the trie, so appending is O(log32 n) instead of the O(n) array copy of ImmutableArrayList, and
+ * {@link #get(int)} reads at most one array per level.
+ * <p>
+ * Instances are created with {@code Lists.immutable.emptyPersistent()} and
+ * {@code Lists.immutable.withAllPersistent(Iterable)}. Lists which are built once in bulk should still use
+ * ImmutableArrayList, which is smaller and faster to iterate.
+ *
+ * @since 12.0
+ */
+final class ImmutablePersistentList<T>
+        extends AbstractImmutableList<T>
+        implements Serializable, RandomAccess
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final Object[] EMPTY_TAIL = new Object[0];
+
+    private static final ImmutablePersistentList<?> EMPTY = new ImmutablePersistentList<>(0, BITS, EMPTY_NODE, EMPTY_TAIL);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private ImmutablePersistentList(int size, int shift, Object[] root, Object[] tail)
+    {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    public static <E> ImmutablePersistentList<E> empty()
+    {
+        return (ImmutablePersistentList<E>) EMPTY;
+    }
+
+    public static <E> ImmutablePersistentList<E> newList(Iterable<? extends E> iterable)
+    {
+        Appender<E> appender = new Appender<>(ImmutablePersistentList.empty());
+        for (E each : iterable)
+        {
+            appender.add(each);
+        }
+        return appender.toList();
+    }
+
+    private static int tailOffset(int size)
+    {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private static Object[] pushTail(int size, int level, Object[] parent, Object[] tailNode)
+    {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Object[] result = parent.clone();
+        if (level == BITS)
+        {
+            result[subIndex] = tailNode;
+        }
+        else
+        {
+            Object[] child = (Object[]) parent[subIndex];
+            result[subIndex] = child == null
+                    ? ImmutablePersistentList.newPath(level - BITS, tailNode)
+                    : ImmutablePersistentList.pushTail(size, level - BITS, child, tailNode);
+        }
+        return result;
+    }
+
+    private static Object[] newPath(int level, Object[] node)
+    {
+        if (level == 0)
+        {
+            return node;
+        }
+        Object[] result = new Object[WIDTH];
+        result[0] = ImmutablePersistentList.newPath(level - BITS, node);
+        return result;
+    }
+
+    private Object[] leafFor(int index)
+    {
+        if (index >= ImmutablePersistentList.tailOffset(this.size))
+        {
+            return this.tail;
+        }
+        Object[] node = this.root;
+        for (int level = this.shift; level > 0; level -= BITS)
+        {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public T get(int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+        return (T) this.leafFor(index)[index & MASK];
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.isEmpty() ? null : this.get(0);
+    }
+
+    @Override
+    public T getLast()
+    {
+        return this.isEmpty() ? null : (T) this.tail[this.tail.length - 1];
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        int tailOffset = ImmutablePersistentList.tailOffset(this.size);
+        for (int i = 0; i < tailOffset; i += WIDTH)
+        {
+            Object[] leaf = this.leafFor(i);
+            for (Object each : leaf)
+            {
+                procedure.value((T) each);
+            }
+        }
+        for (Object each : this.tail)
+        {
+            procedure.value((T) each);
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        int tailOffset = ImmutablePersistentList.tailOffset(this.size);
+        for (int i = 0; i < tailOffset; i += WIDTH)
+        {
+            Object[] leaf = this.leafFor(i);
+            for (int j = 0; j < WIDTH; j++)
+            {
+                objectIntProcedure.value((T) leaf[j], i + j);
+            }
+        }
+        for (int j = 0; j < this.tail.length; j++)
+        {
+            objectIntProcedure.value((T) this.tail[j], tailOffset + j);
+        }
+    }
+
+    @Override
+    public ImmutableList<T> newWith(T newItem)
+    {
+        int tailSize = this.size - ImmutablePersistentList.tailOffset(this.size);
+        if (tailSize < WIDTH)
+        {
+            Object[] newTail = Arrays.copyOf(this.tail, tailSize + 1);
+            newTail[tailSize] = newItem;
+            return new ImmutablePersistentList<>(this.size + 1, this.shift, this.root, newTail);
+        }
+        Object[] newRoot;
+        int newShift = this.shift;
+        if ((this.size >>> BITS) > (1 << this.shift))
+        {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = this.root;
+            newRoot[1] = ImmutablePersistentList.newPath(this.shift, this.tail);
+            newShift += BITS;
+        }
+        else
+        {
+            newRoot = ImmutablePersistentList.pushTail(this.size, this.shift, this.root, this.tail);
+        }
+        return new ImmutablePersistentList<>(this.size + 1, newShift, newRoot, new Object[]{newItem});
+    }
+
+    @Override
+    public ImmutableList<T> newWithAll(Iterable<? extends T> elements)
+    {
+        Appender<T> appender = new Appender<>(this);
+        for (T each : elements)
+        {
+            appender.add(each);
+        }
+        return appender.toList();
+    }
+
+    @Override
+    public ImmutableList<T> newWithout(T element)
+    {
+        int indexToRemove = this.indexOf(element);
+        if (indexToRemove < 0)
+        {
+            return this;
+        }
+        Appender<T> appender = new Appender<>(ImmutablePersistentList.empty());
+        this.forEachWithIndex((each, index) ->
+        {
+            if (index != indexToRemove)
+            {
+                appender.add(each);
+            }
+        });
+        return appender.toList();
+    }
+
+    @Override
+    public ImmutableList<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        MutableList<T> result = FastList.newList(this);
+        this.removeAllFrom(elements, result);
+        return ImmutablePersistentList.newList(result);
+    }
+
+    /**
+     * Appends many elements to a list, filling its tail in place and pushing each full tail into the trie, so a bulk
+     * append copies one tail array per 32 elements rather than one per element.
+     */
+    private static final class Appender<T>
+    {
+        private int size;
+        private int shift;
+        private Object[] root;
+        private Object[] tail;
+        private int tailSize;
+
+        private Appender(ImmutablePersistentList<T> list)
+        {
+            this.size = list.size;
+            this.shift = list.shift;
+            this.root = list.root;
+            this.tailSize = list.tail.length;
+            this.tail = Arrays.copyOf(list.tail, WIDTH);
+        }
+
+        private void add(T item)
+        {
+            if (this.tailSize == WIDTH)
+            {
+                if ((this.size >>> BITS) > (1 << this.shift))
+                {
+                    Object[] newRoot = new Object[WIDTH];
+                    newRoot[0] = this.root;
+                    newRoot[1] = ImmutablePersistentList.newPath(this.shift, this.tail);
+                    this.root = newRoot;
+                    this.shift += BITS;
+                }
+                else
+                {
+                    this.root = ImmutablePersistentList.pushTail(this.size, this.shift, this.root, this.tail);
+                }
+                this.tail = new Object[WIDTH];
+                this.tailSize = 0;
+            }
+            this.tail[this.tailSize++] = item;
+            this.size++;
+        }
+
+        private ImmutablePersistentList<T> toList()
+        {
+            if (this.size == 0)
+            {
+                return ImmutablePersistentList.empty();
+            }
+            Object[] newTail = this.tailSize == WIDTH ? this.tail : Arrays.copyOf(this.tail, this.tailSize);
+            return new ImmutablePersistentList<>(this.size, this.shift, this.root, newTail);
+        }
+    }
+}
@@ -0,0 +1,858 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable.primitive;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import org.eclipse.collections.api.IntIterable;
+import org.eclipse.collections.api.LazyIntIterable;
+import org.eclipse.collections.api.bag.primitive.MutableIntBag;
+import org.eclipse.collections.api.block.function.primitive.IntToObjectFunction;
+import org.eclipse.collections.api.block.function.primitive.ObjectIntIntToObjectFunction;
+import org.eclipse.collections.api.block.function.primitive.ObjectIntToObjectFunction;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.procedure.primitive.IntIntProcedure;
+import org.eclipse.collections.api.block.procedure.primitive.IntProcedure;
+import org.eclipse.collections.api.collection.primitive.MutableIntCollection;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.iterator.IntIterator;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.ImmutableIntList;
+import org.eclipse.collections.api.list.primitive.IntList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.api.stack.primitive.MutableIntStack;
+import org.eclipse.collections.api.tuple.primitive.IntIntPair;
+import org.eclipse.collections.api.tuple.primitive.IntObjectPair;
+import org.eclipse.collections.impl.bag.mutable.primitive.IntHashBag;
+import org.eclipse.collections.impl.factory.primitive.IntStacks;
+import org.eclipse.collections.impl.lazy.primitive.LazyIntIterableAdapter;
+import org.eclipse.collections.impl.lazy.primitive.ReverseIntIterable;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.internal.BulkCodecFormat;
+import org.eclipse.collections.impl.utility.internal.MappedRegions;
+
+/**
+ * MappedIntList is an {@link ImmutableIntList} which reads its elements directly from a memory-mapped file rather than
+ * from an array on the heap. The elements live in the page cache, so they are not scanned by the garbage collector,
+ * opening a list costs the same whatever its size, and processes which map the same file share one copy of it.
+ * <p>
+ * The file is in the {@link BulkCodecFormat} list layout: a header followed by the elements as little-endian ints. It is
+ * written by a {@link Builder}, or by {@code IntBulkCodec.write}. The file must not be modified while it is mapped.
+ * Methods which return a new list, such as {@link #select(IntPredicate)} or {@link #newWith(int)}, copy the result
+ * onto the heap.
+ *
+ * @since 12.0
+ */
+public final class MappedIntList
+        implements ImmutableIntList
+{
+    private final MappedRegions items;
+    private final int size;
+
+    private MappedIntList(MappedRegions items, int size)
+    {
+        this.items = items;
+        this.size = size;
+    }
+
+    /**
+     * Maps the list stored in {@code file}.
+     *
+     * @throws IllegalArgumentException if {@code file} does not start with a list of ints in the {@link BulkCodecFormat}
+     */
+    public static MappedIntList open(Path file) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            int size = BulkCodecFormat.readHeader(channel, BulkCodecFormat.LIST, BulkCodecFormat.INT, BulkCodecFormat.NO_TYPE);
+            MappedRegions items = MappedRegions.map(channel, FileChannel.MapMode.READ_ONLY, BulkCodecFormat.HEADER_SIZE, (long) size * Integer.BYTES);
+            return new MappedIntList(items, size);
+        }
+    }
+
+    /**
+     * Returns a builder which writes a new list to {@code file}, replacing any existing content.
+     */
+    public static Builder newBuilder(Path file) throws IOException
+    {
+        return new Builder(file);
+    }
+
+    private int item(int index)
+    {
+        return this.items.getInt((long) index * Integer.BYTES);
+    }
+
+    private IndexOutOfBoundsException newIndexOutOfBoundsException(int index)
+    {
+        return new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+    }
+
+    @Override
+    public int get(int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw this.newIndexOutOfBoundsException(index);
+        }
+        return this.item(index);
+    }
+
+    @Override
+    public int getFirst()
+    {
+        return this.get(0);
+    }
+
+    @Override
+    public int getLast()
+    {
+        return this.get(this.size - 1);
+    }
+
+    @Override
+    public int indexOf(int value)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            if (this.item(i) == value)
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(int value)
+    {
+        for (int i = this.size - 1; i >= 0; i--)
+        {
+            if (this.item(i) == value)
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public IntIterator intIterator()
+    {
+        return new InternalIntIterator();
+    }
+
+    @Override
+    public void each(IntProcedure procedure)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            procedure.value(this.item(i));
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(IntIntProcedure procedure)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            procedure.value(this.item(i), i);
+        }
+    }
+
+    @Override
+    public int count(IntPredicate predicate)
+    {
+        int count = 0;
+        for (int i = 0; i < this.size; i++)
+        {
+            if (predicate.accept(this.item(i)))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public boolean anySatisfy(IntPredicate predicate)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            if (predicate.accept(this.item(i)))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean allSatisfy(IntPredicate predicate)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            if (!predicate.accept(this.item(i)))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ImmutableIntList select(IntPredicate predicate)
+    {
+        return this.select(predicate, new IntArrayList()).toImmutable();
+    }
+
+    @Override
+    public <R extends MutableIntCollection> R select(IntPredicate predicate, R target)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            int item = this.item(i);
+            if (predicate.accept(item))
+            {
+                target.add(item);
+            }
+        }
+        return target;
+    }
+
+    @Override
+    public ImmutableIntList reject(IntPredicate predicate)
+    {
+        return this.reject(predicate, new IntArrayList()).toImmutable();
+    }
+
+    @Override
+    public <R extends MutableIntCollection> R reject(IntPredicate predicate, R target)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            int item = this.item(i);
+            if (!predicate.accept(item))
+            {
+                target.add(item);
+            }
+        }
+        return target;
+    }
+
+    @Override
+    public int detectIfNone(IntPredicate predicate, int ifNone)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            int item = this.item(i);
+            if (predicate.accept(item))
+            {
+                return item;
+            }
+        }
+        return ifNone;
+    }
+
+    @Override
+    public <V> ImmutableList<V> collect(IntToObjectFunction<? extends V> function)
+    {
+        MutableList<V> list = this.collect(function, Lists.mutable.withInitialCapacity(this.size));
+        return list.toImmutable();
+    }
+
+    @Override
+    public <V, R extends Collection<V>> R collect(IntToObjectFunction<? extends V> function, R target)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            target.add(function.valueOf(this.item(i)));
+        }
+        return target;
+    }
+
+    @Override
+    public long sum()
+    {
+        long result = 0L;
+        for (int i = 0; i < this.size; i++)
+        {
+            result += this.item(i);
+        }
+        return result;
+    }
+
+    @Override
+    public int max()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        int max = this.item(0);
+        for (int i = 1; i < this.size; i++)
+        {
+            max = Math.max(max, this.item(i));
+        }
+        return max;
+    }
+
+    @Override
+    public int maxIfEmpty(int defaultValue)
+    {
+        return this.isEmpty() ? defaultValue : this.max();
+    }
+
+    @Override
+    public int min()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        int min = this.item(0);
+        for (int i = 1; i < this.size; i++)
+        {
+            min = Math.min(min, this.item(i));
+        }
+        return min;
+    }
+
+    @Override
+    public int minIfEmpty(int defaultValue)
+    {
+        return this.isEmpty() ? defaultValue : this.min();
+    }
+
+    @Override
+    public double average()
+    {
+        if (this.isEmpty())
+        {
+            throw new ArithmeticException();
+        }
+        return (double) this.sum() / (double) this.size;
+    }
+
+    @Override
+    public double median()
+    {
+        if (this.isEmpty())
+        {
+            throw new ArithmeticException();
+        }
+        int[] sortedArray = this.toSortedArray();
+        int middleIndex = sortedArray.length >> 1;
+        if (sortedArray.length > 1 && (sortedArray.length & 1) == 0)
+        {
+            int first = sortedArray[middleIndex];
+            int second = sortedArray[middleIndex - 1];
+            return ((double) first + (double) second) / 2.0;
+        }
+        return (double) sortedArray[middleIndex];
+    }
+
+    @Override
+    public int[] toSortedArray()
+    {
+        int[] array = this.toArray();
+        Arrays.sort(array);
+        return array;
+    }
+
+    @Override
+    public long dotProduct(IntList list)
+    {
+        if (this.size != list.size())
+        {
+            throw new IllegalArgumentException("Lists used in dotProduct must be the same size");
+        }
+        long sum = 0L;
+        for (int i = 0; i < this.size; i++)
+        {
+            sum += (long) this.item(i) * list.get(i);
+        }
+        return sum;
+    }
+
+    @Override
+    public LazyIntIterable asReversed()
+    {
+        return ReverseIntIterable.adapt(this);
+    }
+
+    @Override
+    public MutableIntList toSortedList()
+    {
+        return IntArrayList.newListWith(this.toSortedArray());
+    }
+
+    /**
+     * Searches the mapped elements directly, without copying them, so the list must be sorted.
+     */
+    @Override
+    public int binarySearch(int value)
+    {
+        int low = 0;
+        int high = this.size - 1;
+        while (low <= high)
+        {
+            int middle = (low + high) >>> 1;
+            int middleValue = this.item(middle);
+            if (middleValue < value)
+            {
+                low = middle + 1;
+            }
+            else if (middleValue > value)
+            {
+                high = middle - 1;
+            }
+            else
+            {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    @Override
+    public int[] toArray()
+    {
+        int[] result = new int[this.size];
+        this.items.getInts(0L, result, 0, this.size);
+        return result;
+    }
+
+    @Override
+    public int[] toArray(int[] target)
+    {
+        if (target.length < this.size)
+        {
+            target = new int[this.size];
+        }
+        this.items.getInts(0L, target, 0, this.size);
+        return target;
+    }
+
+    @Override
+    public boolean contains(int value)
+    {
+        return this.indexOf(value) != -1;
+    }
+
+    @Override
+    public boolean containsAll(int... source)
+    {
+        for (int value : source)
+        {
+            if (!this.contains(value))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean containsAll(IntIterable source)
+    {
+        for (IntIterator iterator = source.intIterator(); iterator.hasNext(); )
+        {
+            if (!this.contains(iterator.next()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public MutableIntList toList()
+    {
+        return IntArrayList.newListWith(this.toArray());
+    }
+
+    @Override
+    public MutableIntSet toSet()
+    {
+        return IntHashSet.newSet(this);
+    }
+
+    @Override
+    public MutableIntBag toBag()
+    {
+        return IntHashBag.newBag(this);
+    }
+
+    @Override
+    public LazyIntIterable asLazy()
+    {
+        return new LazyIntIterableAdapter(this);
+    }
+
+    @Override
+    public ImmutableIntList toImmutable()
+    {
+        return this;
+    }
+
+    @Override
+    public ImmutableIntList toReversed()
+    {
+        return this.toList().reverseThis().toImmutable();
+    }
+
+    @Override
+    public ImmutableIntList newWith(int element)
+    {
+        return this.toList().with(element).toImmutable();
+    }
+
+    @Override
+    public ImmutableIntList newWithout(int element)
+    {
+        int index = this.indexOf(element);
+        if (index == -1)
+        {
+            return this;
+        }
+        MutableIntList list = this.toList();
+        list.removeAtIndex(index);
+        return list.toImmutable();
+    }
+
+    @Override
+    public ImmutableIntList newWithAll(IntIterable elements)
+    {
+        return this.toList().withAll(elements).toImmutable();
+    }
+
+    @Override
+    public ImmutableIntList newWithoutAll(IntIterable elements)
+    {
+        return this.toList().withoutAll(elements).toImmutable();
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return this.size != 0;
+    }
+
+    @Override
+    public <T> T injectInto(T injectedValue, ObjectIntToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        for (int i = 0; i < this.size; i++)
+        {
+            result = function.valueOf(result, this.item(i));
+        }
+        return result;
+    }
+
+    @Override
+    public <T> T injectIntoWithIndex(T injectedValue, ObjectIntIntToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        for (int i = 0; i < this.size; i++)
+        {
+            result = function.valueOf(result, this.item(i), i);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object otherList)
+    {
+        if (otherList == this)
+        {
+            return true;
+        }
+        if (!(otherList instanceof IntList))
+        {
+            return false;
+        }
+        IntList list = (IntList) otherList;
+        if (this.size != list.size())
+        {
+            return false;
+        }
+        for (int i = 0; i < this.size; i++)
+        {
+            if (this.item(i) != list.get(i))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 1;
+        for (int i = 0; i < this.size; i++)
+        {
+            hashCode = 31 * hashCode + this.item(i);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.makeString("[", ", ", "]");
+    }
+
+    @Override
+    public String makeString()
+    {
+        return this.makeString(", ");
+    }
+
+    @Override
+    public String makeString(String separator)
+    {
+        return this.makeString("", separator, "");
+    }
+
+    @Override
+    public String makeString(String start, String separator, String end)
+    {
+        Appendable stringBuilder = new StringBuilder();
+        this.appendString(stringBuilder, start, separator, end);
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public void appendString(Appendable appendable)
+    {
+        this.appendString(appendable, ", ");
+    }
+
+    @Override
+    public void appendString(Appendable appendable, String separator)
+    {
+        this.appendString(appendable, "", separator, "");
+    }
+
+    @Override
+    public void appendString(Appendable appendable, String start, String separator, String end)
+    {
+        try
+        {
+            appendable.append(start);
+            for (int i = 0; i < this.size; i++)
+            {
+                if (i > 0)
+                {
+                    appendable.append(separator);
+                }
+                appendable.append(String.valueOf(this.item(i)));
+            }
+            appendable.append(end);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public ImmutableIntList distinct()
+    {
+        MutableIntSet seenSoFar = new IntHashSet(this.size);
+        return this.select(seenSoFar::add);
+    }
+
+    @Override
+    public ImmutableIntList subList(int fromIndex, int toIndex)
+    {
+        throw new UnsupportedOperationException("subList not yet implemented!");
+    }
+
+    @Override
+    public ImmutableList<IntIntPair> zipInt(IntIterable iterable)
+    {
+        int otherSize = iterable.size();
+        MutableList<IntIntPair> target = Lists.mutable.withInitialCapacity(Math.min(this.size, otherSize));
+        IntIterator iterator = iterable.intIterator();
+        for (int i = 0; i < this.size && iterator.hasNext(); i++)
+        {
+            target.add(PrimitiveTuples.pair(this.item(i), iterator.next()));
+        }
+        return target.toImmutable();
+    }
+
+    @Override
+    public <T> ImmutableList<IntObjectPair<T>> zip(Iterable<T> iterable)
+    {
+        int otherSize = Iterate.sizeOf(iterable);
+        MutableList<IntObjectPair<T>> target = Lists.mutable.withInitialCapacity(Math.min(this.size, otherSize));
+        Iterator<T> iterator = iterable.iterator();
+        for (int i = 0; i < this.size && iterator.hasNext(); i++)
+        {
+            target.add(PrimitiveTuples.pair(this.item(i), iterator.next()));
+        }
+        return target.toImmutable();
+    }
+
+    @Override
+    public MutableIntStack toStack()
+    {
+        return IntStacks.mutable.withAll(this);
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator()
+    {
+        return IntStream.range(0, this.size).map(this::item).spliterator();
+    }
+
+    private class InternalIntIterator implements IntIterator
+    {
+        /**
+         * Index of element to be returned by subsequent call to next.
+         */
+        private int currentIndex;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.currentIndex != MappedIntList.this.size;
+        }
+
+        @Override
+        public int next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            int next = MappedIntList.this.item(this.currentIndex);
+            this.currentIndex++;
+            return next;
+        }
+    }
+
+    /**
+     * Builder appends ints to a file, and {@link #build()} maps the finished file as a {@link MappedIntList}. The
+     * elements are written through a direct buffer as they are added, so the list is never held on the heap. Closing a
+     * builder without building it leaves a file which {@link #open(Path)} rejects.
+     */
+    public static final class Builder implements Closeable
+    {
+        private final Path file;
+        private final FileChannel channel;
+        private final ByteBuffer chunk = BulkCodecFormat.newChunk();
+        private int size;
+
+        private Builder(Path file) throws IOException
+        {
+            this.file = file;
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            this.chunk.position(BulkCodecFormat.HEADER_SIZE);
+        }
+
+        public Builder add(int element) throws IOException
+        {
+            if (!this.channel.isOpen())
+            {
+                throw new IllegalStateException("Builder is closed");
+            }
+            if (this.size == Integer.MAX_VALUE)
+            {
+                throw new IllegalStateException("A list cannot hold more than " + Integer.MAX_VALUE + " elements");
+            }
+            if (this.chunk.remaining() < Integer.BYTES)
+            {
+                BulkCodecFormat.flush(this.chunk, this.channel);
+            }
+            this.chunk.putInt(element);
+            this.size++;
+            return this;
+        }
+
+        public Builder addAll(int... elements) throws IOException
+        {
+            for (int element : elements)
+            {
+                this.add(element);
+            }
+            return this;
+        }
+
+        public Builder addAll(IntIterable elements) throws IOException
+        {
+            for (IntIterator iterator = elements.intIterator(); iterator.hasNext(); )
+            {
+                this.add(iterator.next());
+            }
+            return this;
+        }
+
+        /**
+         * Completes the file, closes this builder, and maps the file.
+         */
+        public MappedIntList build() throws IOException
+        {
+            if (!this.channel.isOpen())
+            {
+                throw new IllegalStateException("Builder is closed");
+            }
+            BulkCodecFormat.flush(this.chunk, this.channel);
+            BulkCodecFormat.writeHeader(this.chunk, BulkCodecFormat.LIST, BulkCodecFormat.INT, BulkCodecFormat.NO_TYPE, this.size);
+            this.chunk.flip();
+            long position = 0L;
+            while (this.chunk.hasRemaining())
+            {
+                position += this.channel.write(this.chunk, position);
+            }
+            this.channel.force(true);
+            this.channel.close();
+            return MappedIntList.open(this.file);
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            this.channel.close();
+        }
+    }
+}
@@ -300,6 +300,23 @@ public class FastList<T>
         return (FastList<T>) super.sortThis();
     }
 
+    /**
+     * Sorts the backing array with {@link Arrays#parallelSort(Object[], int, int, Comparator)}, a merge sort which
+     * splits the work across the common fork join pool.
+     */
+    @Override
+    public FastList<T> sortThisInParallel(Comparator<? super T> comparator)
+    {
+        Arrays.parallelSort(this.items, 0, this.size, comparator);
+        return this;
+    }
+
+    @Override
+    public FastList<T> sortThisInParallel()
+    {
+        return this.sortThisInParallel(null);
+    }
+
     @Override
     public FastList<T> reverseThis()
     {
@@ -107,7 +107,7 @@ public final class MultiReaderFastList<T>
         this(newDelegate, new ReentrantReadWriteLock());
     }
 
-    private MultiReaderFastList(MutableList<T> newDelegate, ReadWriteLock newLock)
+    MultiReaderFastList(MutableList<T> newDelegate, ReadWriteLock newLock)
     {
         this.lock = newLock;
         this.lockWrapper = new ReadWriteLockWrapper(newLock);
@@ -414,6 +414,26 @@ public final class MultiReaderFastList<T>
         }
     }
 
+    @Override
+    public MultiReaderList<T> sortThisInParallel(Comparator<? super T> comparator)
+    {
+        try (LockWrapper wrapper = this.lockWrapper.acquireWriteLock())
+        {
+            this.delegate.sortThisInParallel(comparator);
+            return this;
+        }
+    }
+
+    @Override
+    public MultiReaderList<T> sortThisInParallel()
+    {
+        try (LockWrapper wrapper = this.lockWrapper.acquireWriteLock())
+        {
+            this.delegate.sortThisInParallel();
+            return this;
+        }
+    }
+
     @Override
     public <V extends Comparable<? super V>> MultiReaderList<T> sortThisBy(
             Function<? super T, ? extends V> function)
@@ -535,6 +555,10 @@ public final class MultiReaderFastList<T>
     @Override
     public T get(int index)
     {
+        if (this.lockWrapper.isOptimistic())
+        {
+            return this.lockWrapper.readOptimistically(() -> this.delegate.get(index));
+        }
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
             return this.delegate.get(index);
@@ -10,28 +10,57 @@
 
 package org.eclipse.collections.impl.list.mutable;
 
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.list.MultiReaderListFactory;
 import org.eclipse.collections.api.list.MultiReaderList;
+import org.eclipse.collections.impl.collection.mutable.AbstractMultiReaderMutableCollection.OptimisticReadWriteLock;
 
 @aQute.bnd.annotation.spi.ServiceProvider(MultiReaderListFactory.class)
 public class MultiReaderMutableListFactory implements MultiReaderListFactory
 {
     public static final MultiReaderListFactory INSTANCE = new MultiReaderMutableListFactory();
 
+    /**
+     * A factory whose collections use an {@link OptimisticReadWriteLock}, so that simple queries are answered with
+     * optimistic reads instead of taking the read lock.
+     *
+     * @since 12.0
+     */
+    public static final MultiReaderListFactory OPTIMISTIC_READ = new MultiReaderMutableListFactory(true);
+
+    private final boolean optimisticRead;
+
+    public MultiReaderMutableListFactory()
+    {
+        this(false);
+    }
+
+    private MultiReaderMutableListFactory(boolean optimisticRead)
+    {
+        this.optimisticRead = optimisticRead;
+    }
+
+    private ReadWriteLock newLock()
+    {
+        return this.optimisticRead ? new OptimisticReadWriteLock() : new ReentrantReadWriteLock();
+    }
+
     @Override
     public <T> MultiReaderList<T> empty()
     {
-        return MultiReaderFastList.newList();
+        return new MultiReaderFastList<>(FastList.newList(), this.newLock());
     }
 
     @Override
     public <T> MultiReaderList<T> with(T... items)
     {
-        return MultiReaderFastList.newListWith(items);
+        return new MultiReaderFastList<>(FastList.newListWith(items), this.newLock());
     }
 
     @Override
@@ -42,25 +71,25 @@ public class MultiReaderMutableListFactory implements MultiReaderListFactory
             throw new IllegalArgumentException("initial capacity cannot be less than 0");
         }
 
-        return MultiReaderFastList.newList(capacity);
+        return new MultiReaderFastList<>(Lists.mutable.withInitialCapacity(capacity), this.newLock());
     }
 
     @Override
     public <T> MultiReaderList<T> withAll(Iterable<? extends T> iterable)
     {
-        return MultiReaderFastList.newList(iterable);
+        return new MultiReaderFastList<>(FastList.newList(iterable), this.newLock());
     }
 
     @Override
     public <T> MultiReaderList<T> fromStream(Stream<? extends T> stream)
     {
-        return stream.collect(Collectors.toCollection(MultiReaderFastList::newList));
+        return stream.collect(Collectors.toCollection(this::empty));
     }
 
     @Override
     public <T> MultiReaderList<T> withNValues(int size, Function0<? extends T> factory)
     {
-        MultiReaderFastList<T> newFastList = MultiReaderFastList.newList(size);
+        MultiReaderList<T> newFastList = this.withInitialCapacity(size);
         for (int i = 0; i < size; i++)
         {
             newFastList.add(factory.value());
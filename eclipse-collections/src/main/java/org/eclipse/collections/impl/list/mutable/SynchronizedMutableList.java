@@ -456,6 +456,26 @@ public class SynchronizedMutableList<T>
         }
     }
 
+    @Override
+    public MutableList<T> sortThisInParallel(Comparator<? super T> comparator)
+    {
+        synchronized (this.getLock())
+        {
+            this.getDelegate().sortThisInParallel(comparator);
+            return this;
+        }
+    }
+
+    @Override
+    public MutableList<T> sortThisInParallel()
+    {
+        synchronized (this.getLock())
+        {
+            this.getDelegate().sortThisInParallel();
+            return this;
+        }
+    }
+
     @Override
     public <V extends Comparable<? super V>> MutableList<T> sortThisBy(Function<? super T, ? extends V> function)
     {
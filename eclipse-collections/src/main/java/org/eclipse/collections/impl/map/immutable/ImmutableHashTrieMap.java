@@ -0,0 +1,807 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.tuple.Tuples;
+
+/**
+ * An ImmutableHashTrieMap is a persistent hash array mapped trie in the compressed (CHAMP) layout. Every node holds
+ * up to 32 entries and sub-nodes indexed by five bits of the key hash, so {@link #newWithKeyValue(Object, Object)}
+ * and {@link #newWithoutKey(Object)} copy one node per level and share the rest of the trie with the original map,
+ * instead of copying the whole map like ImmutableUnifiedMap. The layout is canonical, so two maps with the same
+ * entries have the same shape, and {@link #equals(Object)} between two ImmutableHashTrieMaps skips every sub-trie
+ * they share.
+ * <p>
+ * ImmutableUnifiedMap switches to this representation when it is updated with at least
+ * {@link #CONVERSION_THRESHOLD} entries. Maps built in bulk stay ImmutableUnifiedMaps, which are faster to read.
+ *
+ * @since 12.0
+ */
+public final class ImmutableHashTrieMap<K, V>
+        extends AbstractImmutableMap<K, V>
+        implements Serializable
+{
+    /**
+     * The size from which single-entry updates of an immutable map are made on a hash trie rather than on a copy.
+     */
+    public static final int CONVERSION_THRESHOLD = 64;
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int HASH_BITS = 32;
+
+    private static final Object NOT_FOUND = new Object();
+
+    private static final ImmutableHashTrieMap<?, ?> EMPTY =
+            new ImmutableHashTrieMap<>(new BitmapNode(0, 0, new Object[0]), 0);
+
+    private final TrieNode root;
+    private final int size;
+
+    private ImmutableHashTrieMap(TrieNode root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <K, V> ImmutableHashTrieMap<K, V> empty()
+    {
+        return (ImmutableHashTrieMap<K, V>) EMPTY;
+    }
+
+    public static <K, V> ImmutableHashTrieMap<K, V> newMap(MapIterable<? extends K, ? extends V> mapIterable)
+    {
+        if (mapIterable instanceof ImmutableHashTrieMap<?, ?>)
+        {
+            return (ImmutableHashTrieMap<K, V>) mapIterable;
+        }
+        Change change = new Change();
+        TrieNode[] root = {EMPTY.root};
+        mapIterable.forEachKeyValue((key, value) ->
+                root[0] = root[0].put(key, value, ImmutableHashTrieMap.hash(key), 0, change));
+        return new ImmutableHashTrieMap<>(root[0], change.sizeDelta);
+    }
+
+    private static int hash(Object key)
+    {
+        int hashCode = key == null ? 0 : key.hashCode();
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    private static int mask(int hash, int shift)
+    {
+        return (hash >>> shift) & MASK;
+    }
+
+    private static int bitPosition(int mask)
+    {
+        return 1 << mask;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.root.find(key, ImmutableHashTrieMap.hash(key), 0) != NOT_FOUND;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        return this.valuesView().contains(value);
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        Object result = this.root.find(key, ImmutableHashTrieMap.hash(key), 0);
+        return result == NOT_FOUND ? null : (V) result;
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithKeyValue(K key, V value)
+    {
+        Change change = new Change();
+        TrieNode newRoot = this.root.put(key, value, ImmutableHashTrieMap.hash(key), 0, change);
+        return newRoot == this.root ? this : new ImmutableHashTrieMap<>(newRoot, this.size + change.sizeDelta);
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        ImmutableMap<K, V> result = this;
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValues)
+        {
+            result = result.newWithKeyValue(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithMap(Map<? extends K, ? extends V> map)
+    {
+        ImmutableMap<K, V> result = this;
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            result = result.newWithKeyValue(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithMapIterable(MapIterable<? extends K, ? extends V> mapIterable)
+    {
+        ImmutableMap<K, V>[] result = new ImmutableMap[]{this};
+        mapIterable.forEachKeyValue((key, value) -> result[0] = result[0].newWithKeyValue(key, value));
+        return result[0];
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValuePairs)
+    {
+        ImmutableMap<K, V> result = this;
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValuePairs)
+        {
+            result = result.newWithKeyValue(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithoutKey(K key)
+    {
+        Change change = new Change();
+        TrieNode newRoot = this.root.remove(key, ImmutableHashTrieMap.hash(key), 0, change);
+        return newRoot == this.root ? this : new ImmutableHashTrieMap<>(newRoot, this.size + change.sizeDelta);
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithoutAllKeys(Iterable<? extends K> keys)
+    {
+        ImmutableMap<K, V> result = this;
+        for (K key : keys)
+        {
+            result = result.newWithoutKey(key);
+        }
+        return result;
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.root.forEachKeyValue((Procedure2<Object, Object>) procedure);
+    }
+
+    /**
+     * Returns the key this map visits first, found by following the first slot of each trie node, or null if the map
+     * is empty.
+     */
+    public K getFirstKey()
+    {
+        return this.size == 0 ? null : (K) this.root.firstKey();
+    }
+
+    /**
+     * Returns the key this map visits last, found by following the last slot of each trie node, or null if the map
+     * is empty.
+     */
+    public K getLastKey()
+    {
+        return this.size == 0 ? null : (K) this.root.lastKey();
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(key));
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(value));
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super V> objectIntProcedure)
+    {
+        int[] index = {0};
+        this.forEachValue(each -> objectIntProcedure.value(each, index[0]++));
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super V, ? super P> procedure, P parameter)
+    {
+        this.forEachValue(each -> procedure.value(each, parameter));
+    }
+
+    @Override
+    public RichIterable<K> keysView()
+    {
+        MutableList<K> keys = FastList.newList(this.size);
+        this.forEachKey(keys::add);
+        return keys.asUnmodifiable().asLazy();
+    }
+
+    @Override
+    public RichIterable<V> valuesView()
+    {
+        MutableList<V> values = FastList.newList(this.size);
+        this.forEachValue(values::add);
+        return values.asUnmodifiable().asLazy();
+    }
+
+    @Override
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        MutableList<Pair<K, V>> pairs = FastList.newList(this.size);
+        this.forEachKeyValue((key, value) -> pairs.add(Tuples.pair(key, value)));
+        return pairs.asUnmodifiable().asLazy();
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return Sets.immutable.withAll(this.keysView()).castToSet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return this.valuesView().toList().asUnmodifiable();
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int[] hashCode = {0};
+        this.forEachKeyValue((key, value) -> hashCode[0] += this.keyAndValueHashCode(key, value));
+        return hashCode[0];
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (other == this)
+        {
+            return true;
+        }
+        if (other instanceof ImmutableHashTrieMap<?, ?>)
+        {
+            ImmutableHashTrieMap<?, ?> that = (ImmutableHashTrieMap<?, ?>) other;
+            return this.size == that.size && ImmutableHashTrieMap.sameEntries(this.root, that.root);
+        }
+        if (!(other instanceof Map))
+        {
+            return false;
+        }
+        Map<K, V> that = (Map<K, V>) other;
+        return this.size == that.size()
+                && this.root.allSatisfy((key, value) -> this.keyAndValueEquals((K) key, (V) value, that));
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("{");
+        this.forEachKeyValue((key, value) ->
+        {
+            if (builder.length() > 1)
+            {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableMapSerializationProxy<>(this);
+    }
+
+    private static boolean sameEntries(TrieNode one, TrieNode two)
+    {
+        if (one == two)
+        {
+            return true;
+        }
+        if (one.getClass() != two.getClass())
+        {
+            return false;
+        }
+        return one.sameEntries(two);
+    }
+
+    private static final class Change
+    {
+        private int sizeDelta;
+    }
+
+    private interface EntryPredicate
+    {
+        boolean accept(Object key, Object value);
+    }
+
+    private abstract static class TrieNode implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        abstract Object find(Object key, int hash, int shift);
+
+        abstract TrieNode put(Object key, Object value, int hash, int shift, Change change);
+
+        abstract TrieNode remove(Object key, int hash, int shift, Change change);
+
+        abstract void forEachKeyValue(Procedure2<Object, Object> procedure);
+
+        abstract Object firstKey();
+
+        abstract Object lastKey();
+
+        abstract boolean allSatisfy(EntryPredicate predicate);
+
+        abstract boolean sameEntries(TrieNode other);
+    }
+
+    /**
+     * A node which holds its entries inline at the start of {@code content} and its sub-nodes in reverse order at
+     * the end, each located through the bit of its hash fragment in {@code dataMap} or {@code nodeMap}.
+     */
+    private static final class BitmapNode extends TrieNode
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int dataMap;
+        private final int nodeMap;
+        private final Object[] content;
+
+        private BitmapNode(int dataMap, int nodeMap, Object[] content)
+        {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        private static TrieNode mergeTwo(Object key0, Object value0, int hash0, Object key1, Object value1, int hash1, int shift)
+        {
+            if (shift >= HASH_BITS)
+            {
+                return new CollisionNode(hash0, new Object[]{key0, value0, key1, value1});
+            }
+            int mask0 = ImmutableHashTrieMap.mask(hash0, shift);
+            int mask1 = ImmutableHashTrieMap.mask(hash1, shift);
+            if (mask0 != mask1)
+            {
+                int dataMap = ImmutableHashTrieMap.bitPosition(mask0) | ImmutableHashTrieMap.bitPosition(mask1);
+                Object[] content = mask0 < mask1
+                        ? new Object[]{key0, value0, key1, value1}
+                        : new Object[]{key1, value1, key0, value0};
+                return new BitmapNode(dataMap, 0, content);
+            }
+            TrieNode node = BitmapNode.mergeTwo(key0, value0, hash0, key1, value1, hash1, shift + BITS);
+            return new BitmapNode(0, ImmutableHashTrieMap.bitPosition(mask0), new Object[]{node});
+        }
+
+        private int dataIndex(int bit)
+        {
+            return Integer.bitCount(this.dataMap & (bit - 1));
+        }
+
+        private int nodeIndex(int bit)
+        {
+            return Integer.bitCount(this.nodeMap & (bit - 1));
+        }
+
+        private TrieNode nodeAt(int bit)
+        {
+            return (TrieNode) this.content[this.content.length - 1 - this.nodeIndex(bit)];
+        }
+
+        private int payloadArity()
+        {
+            return Integer.bitCount(this.dataMap);
+        }
+
+        private int nodeArity()
+        {
+            return Integer.bitCount(this.nodeMap);
+        }
+
+        private boolean isSingleEntry()
+        {
+            return this.nodeMap == 0 && this.payloadArity() == 1;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift)
+        {
+            int bit = ImmutableHashTrieMap.bitPosition(ImmutableHashTrieMap.mask(hash, shift));
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = 2 * this.dataIndex(bit);
+                return Objects.equals(this.content[index], key) ? this.content[index + 1] : NOT_FOUND;
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                return this.nodeAt(bit).find(key, hash, shift + BITS);
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        TrieNode put(Object key, Object value, int hash, int shift, Change change)
+        {
+            int bit = ImmutableHashTrieMap.bitPosition(ImmutableHashTrieMap.mask(hash, shift));
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = 2 * this.dataIndex(bit);
+                Object currentKey = this.content[index];
+                if (Objects.equals(currentKey, key))
+                {
+                    if (this.content[index + 1] == value)
+                    {
+                        return this;
+                    }
+                    Object[] newContent = this.content.clone();
+                    newContent[index + 1] = value;
+                    return new BitmapNode(this.dataMap, this.nodeMap, newContent);
+                }
+                TrieNode node = BitmapNode.mergeTwo(
+                        currentKey, this.content[index + 1], ImmutableHashTrieMap.hash(currentKey),
+                        key, value, hash,
+                        shift + BITS);
+                change.sizeDelta++;
+                return this.copyAndMigrateFromInlineToNode(bit, node);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                TrieNode node = this.nodeAt(bit);
+                TrieNode newNode = node.put(key, value, hash, shift + BITS, change);
+                return newNode == node ? this : this.copyAndSetNode(bit, newNode);
+            }
+            change.sizeDelta++;
+            return this.copyAndInsertValue(bit, key, value);
+        }
+
+        @Override
+        TrieNode remove(Object key, int hash, int shift, Change change)
+        {
+            int bit = ImmutableHashTrieMap.bitPosition(ImmutableHashTrieMap.mask(hash, shift));
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = 2 * this.dataIndex(bit);
+                if (!Objects.equals(this.content[index], key))
+                {
+                    return this;
+                }
+                change.sizeDelta--;
+                if (shift > 0 && this.nodeMap == 0 && this.payloadArity() == 2)
+                {
+                    // The remaining entry is inlined by the parent, or becomes the root, so it is placed by the
+                    // first fragment of its hash
+                    int remaining = index == 0 ? 2 : 0;
+                    Object remainingKey = this.content[remaining];
+                    int remainingMask = ImmutableHashTrieMap.mask(ImmutableHashTrieMap.hash(remainingKey), 0);
+                    return new BitmapNode(
+                            ImmutableHashTrieMap.bitPosition(remainingMask),
+                            0,
+                            new Object[]{remainingKey, this.content[remaining + 1]});
+                }
+                return this.copyAndRemoveValue(bit);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                TrieNode node = this.nodeAt(bit);
+                TrieNode newNode = node.remove(key, hash, shift + BITS, change);
+                if (newNode == node)
+                {
+                    return this;
+                }
+                if (newNode instanceof BitmapNode && ((BitmapNode) newNode).isSingleEntry())
+                {
+                    if (shift > 0 && this.dataMap == 0 && this.nodeArity() == 1)
+                    {
+                        return newNode;
+                    }
+                    return this.copyAndMigrateFromNodeToInline(bit, (BitmapNode) newNode);
+                }
+                return this.copyAndSetNode(bit, newNode);
+            }
+            return this;
+        }
+
+        private BitmapNode copyAndInsertValue(int bit, Object key, Object value)
+        {
+            int index = 2 * this.dataIndex(bit);
+            Object[] newContent = new Object[this.content.length + 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            newContent[index] = key;
+            newContent[index + 1] = value;
+            System.arraycopy(this.content, index, newContent, index + 2, this.content.length - index);
+            return new BitmapNode(this.dataMap | bit, this.nodeMap, newContent);
+        }
+
+        private BitmapNode copyAndRemoveValue(int bit)
+        {
+            int index = 2 * this.dataIndex(bit);
+            Object[] newContent = new Object[this.content.length - 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            System.arraycopy(this.content, index + 2, newContent, index, this.content.length - index - 2);
+            return new BitmapNode(this.dataMap ^ bit, this.nodeMap, newContent);
+        }
+
+        private BitmapNode copyAndSetNode(int bit, TrieNode node)
+        {
+            Object[] newContent = this.content.clone();
+            newContent[this.content.length - 1 - this.nodeIndex(bit)] = node;
+            return new BitmapNode(this.dataMap, this.nodeMap, newContent);
+        }
+
+        private BitmapNode copyAndMigrateFromInlineToNode(int bit, TrieNode node)
+        {
+            int oldIndex = 2 * this.dataIndex(bit);
+            int newIndex = this.content.length - 2 - this.nodeIndex(bit);
+            Object[] newContent = new Object[this.content.length - 1];
+            System.arraycopy(this.content, 0, newContent, 0, oldIndex);
+            System.arraycopy(this.content, oldIndex + 2, newContent, oldIndex, newIndex - oldIndex);
+            newContent[newIndex] = node;
+            System.arraycopy(this.content, newIndex + 2, newContent, newIndex + 1, this.content.length - newIndex - 2);
+            return new BitmapNode(this.dataMap ^ bit, this.nodeMap | bit, newContent);
+        }
+
+        private BitmapNode copyAndMigrateFromNodeToInline(int bit, BitmapNode node)
+        {
+            int oldIndex = this.content.length - 1 - this.nodeIndex(bit);
+            int newIndex = 2 * this.dataIndex(bit);
+            Object[] newContent = new Object[this.content.length + 1];
+            System.arraycopy(this.content, 0, newContent, 0, newIndex);
+            newContent[newIndex] = node.content[0];
+            newContent[newIndex + 1] = node.content[1];
+            System.arraycopy(this.content, newIndex, newContent, newIndex + 2, oldIndex - newIndex);
+            System.arraycopy(this.content, oldIndex + 1, newContent, oldIndex + 2, this.content.length - oldIndex - 1);
+            return new BitmapNode(this.dataMap | bit, this.nodeMap ^ bit, newContent);
+        }
+
+        @Override
+        void forEachKeyValue(Procedure2<Object, Object> procedure)
+        {
+            int payloadEnd = 2 * this.payloadArity();
+            for (int i = 0; i < payloadEnd; i += 2)
+            {
+                procedure.value(this.content[i], this.content[i + 1]);
+            }
+            for (int i = payloadEnd; i < this.content.length; i++)
+            {
+                ((TrieNode) this.content[i]).forEachKeyValue(procedure);
+            }
+        }
+
+        @Override
+        Object firstKey()
+        {
+            return this.payloadArity() > 0 ? this.content[0] : ((TrieNode) this.content[0]).firstKey();
+        }
+
+        @Override
+        Object lastKey()
+        {
+            int payloadEnd = 2 * this.payloadArity();
+            return this.content.length > payloadEnd
+                    ? ((TrieNode) this.content[this.content.length - 1]).lastKey()
+                    : this.content[payloadEnd - 2];
+        }
+
+        @Override
+        boolean allSatisfy(EntryPredicate predicate)
+        {
+            int payloadEnd = 2 * this.payloadArity();
+            for (int i = 0; i < payloadEnd; i += 2)
+            {
+                if (!predicate.accept(this.content[i], this.content[i + 1]))
+                {
+                    return false;
+                }
+            }
+            for (int i = payloadEnd; i < this.content.length; i++)
+            {
+                if (!((TrieNode) this.content[i]).allSatisfy(predicate))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        boolean sameEntries(TrieNode other)
+        {
+            BitmapNode that = (BitmapNode) other;
+            if (this.dataMap != that.dataMap || this.nodeMap != that.nodeMap)
+            {
+                return false;
+            }
+            int payloadEnd = 2 * this.payloadArity();
+            for (int i = 0; i < payloadEnd; i++)
+            {
+                if (!Objects.equals(this.content[i], that.content[i]))
+                {
+                    return false;
+                }
+            }
+            for (int i = payloadEnd; i < this.content.length; i++)
+            {
+                if (!ImmutableHashTrieMap.sameEntries((TrieNode) this.content[i], (TrieNode) that.content[i]))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A leaf for two or more keys whose hashes are equal in all 32 bits.
+     */
+    private static final class CollisionNode extends TrieNode
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int hash;
+        private final Object[] content;
+
+        private CollisionNode(int hash, Object[] content)
+        {
+            this.hash = hash;
+            this.content = content;
+        }
+
+        private int indexOf(Object key)
+        {
+            for (int i = 0; i < this.content.length; i += 2)
+            {
+                if (Objects.equals(this.content[i], key))
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift)
+        {
+            int index = this.indexOf(key);
+            return index < 0 ? NOT_FOUND : this.content[index + 1];
+        }
+
+        @Override
+        TrieNode put(Object key, Object value, int hash, int shift, Change change)
+        {
+            int index = this.indexOf(key);
+            if (index >= 0)
+            {
+                if (this.content[index + 1] == value)
+                {
+                    return this;
+                }
+                Object[] newContent = this.content.clone();
+                newContent[index + 1] = value;
+                return new CollisionNode(this.hash, newContent);
+            }
+            Object[] newContent = new Object[this.content.length + 2];
+            System.arraycopy(this.content, 0, newContent, 0, this.content.length);
+            newContent[this.content.length] = key;
+            newContent[this.content.length + 1] = value;
+            change.sizeDelta++;
+            return new CollisionNode(this.hash, newContent);
+        }
+
+        @Override
+        TrieNode remove(Object key, int hash, int shift, Change change)
+        {
+            int index = this.indexOf(key);
+            if (index < 0)
+            {
+                return this;
+            }
+            change.sizeDelta--;
+            if (this.content.length == 4)
+            {
+                int remaining = index == 0 ? 2 : 0;
+                return new BitmapNode(
+                        ImmutableHashTrieMap.bitPosition(ImmutableHashTrieMap.mask(this.hash, 0)),
+                        0,
+                        new Object[]{this.content[remaining], this.content[remaining + 1]});
+            }
+            Object[] newContent = new Object[this.content.length - 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            System.arraycopy(this.content, index + 2, newContent, index, this.content.length - index - 2);
+            return new CollisionNode(this.hash, newContent);
+        }
+
+        @Override
+        void forEachKeyValue(Procedure2<Object, Object> procedure)
+        {
+            for (int i = 0; i < this.content.length; i += 2)
+            {
+                procedure.value(this.content[i], this.content[i + 1]);
+            }
+        }
+
+        @Override
+        Object firstKey()
+        {
+            return this.content[0];
+        }
+
+        @Override
+        Object lastKey()
+        {
+            return this.content[this.content.length - 2];
+        }
+
+        @Override
+        boolean allSatisfy(EntryPredicate predicate)
+        {
+            for (int i = 0; i < this.content.length; i += 2)
+            {
+                if (!predicate.accept(this.content[i], this.content[i + 1]))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        boolean sameEntries(TrieNode other)
+        {
+            CollisionNode that = (CollisionNode) other;
+            if (this.hash != that.hash || this.content.length != that.content.length)
+            {
+                return false;
+            }
+            for (int i = 0; i < this.content.length; i += 2)
+            {
+                int index = that.indexOf(this.content[i]);
+                if (index < 0 || !Objects.equals(this.content[i + 1], that.content[index + 1]))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
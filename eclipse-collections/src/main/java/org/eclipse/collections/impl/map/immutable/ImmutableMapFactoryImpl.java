@@ -156,6 +156,10 @@ public class ImmutableMapFactoryImpl implements ImmutableMapFactory
             return this.empty();
         }
 
+        if (map instanceof ImmutableHashTrieMap<?, ?>)
+        {
+            return (ImmutableMap<K, V>) map;
+        }
         if (map.size() > 4)
         {
             return new ImmutableUnifiedMap<>(map);
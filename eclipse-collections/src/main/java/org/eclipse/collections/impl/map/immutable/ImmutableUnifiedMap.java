@@ -161,6 +161,26 @@ public class ImmutableUnifiedMap<K, V>
         this.delegate.forEachWith(procedure, parameter);
     }
 
+    @Override
+    public ImmutableMap<K, V> newWithKeyValue(K key, V value)
+    {
+        if (this.size() >= ImmutableHashTrieMap.CONVERSION_THRESHOLD)
+        {
+            return ImmutableHashTrieMap.newMap(this).newWithKeyValue(key, value);
+        }
+        return super.newWithKeyValue(key, value);
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithoutKey(K key)
+    {
+        if (this.size() >= ImmutableHashTrieMap.CONVERSION_THRESHOLD && this.containsKey(key))
+        {
+            return ImmutableHashTrieMap.newMap(this).newWithoutKey(key);
+        }
+        return super.newWithoutKey(key);
+    }
+
     protected Object writeReplace()
     {
         return new ImmutableMapSerializationProxy<>(this);
@@ -0,0 +1,913 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable.primitive;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.LazyLongIterable;
+import org.eclipse.collections.api.LongIterable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.ImmutableBag;
+import org.eclipse.collections.api.bag.primitive.ImmutableLongBag;
+import org.eclipse.collections.api.bag.primitive.MutableLongBag;
+import org.eclipse.collections.api.block.function.primitive.LongToObjectFunction;
+import org.eclipse.collections.api.block.function.primitive.ObjectLongToObjectFunction;
+import org.eclipse.collections.api.block.predicate.primitive.LongLongPredicate;
+import org.eclipse.collections.api.block.predicate.primitive.LongPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.LongLongProcedure;
+import org.eclipse.collections.api.block.procedure.primitive.LongProcedure;
+import org.eclipse.collections.api.collection.primitive.MutableLongCollection;
+import org.eclipse.collections.api.iterator.LongIterator;
+import org.eclipse.collections.api.list.primitive.MutableLongList;
+import org.eclipse.collections.api.map.primitive.ImmutableLongLongMap;
+import org.eclipse.collections.api.map.primitive.LongLongMap;
+import org.eclipse.collections.api.map.primitive.MutableLongLongMap;
+import org.eclipse.collections.api.set.primitive.MutableLongSet;
+import org.eclipse.collections.api.tuple.primitive.LongLongPair;
+import org.eclipse.collections.impl.SpreadFunctions;
+import org.eclipse.collections.impl.collection.mutable.primitive.UnmodifiableLongCollection;
+import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+import org.eclipse.collections.impl.lazy.primitive.AbstractLazyLongIterable;
+import org.eclipse.collections.impl.map.mutable.primitive.LongLongHashMap;
+import org.eclipse.collections.impl.set.mutable.primitive.UnmodifiableLongSet;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.eclipse.collections.impl.utility.internal.BulkCodecFormat;
+import org.eclipse.collections.impl.utility.internal.MappedRegions;
+
+/**
+ * MappedLongLongMap is an {@link ImmutableLongLongMap} which looks up its entries directly in a memory-mapped file
+ * rather than in arrays on the heap. The table lives in the page cache, so it is not scanned by the garbage collector,
+ * opening a map costs the same whatever its size, and processes which map the same file share one copy of it.
+ * <p>
+ * The file holds the table in the layout of {@link LongLongHashMap}: keys and values interleaved in a power of two
+ * number of slots, with the keys 0 and 1 stored beside the table because they mark empty and removed slots. A key is
+ * looked for with the same three stage probe, widened to 64-bit slot indexes so that a table may have more than
+ * 2<sup>31</sup> slots. The file is written by a {@link Builder}, and must not be modified while it is mapped.
+ * <p>
+ * Methods which return a new map or collection, such as {@link #select(LongLongPredicate)} or {@link #keySet()}, copy
+ * the result onto the heap. {@link #keysView()}, {@link #keyValuesView()} and {@link #asLazy()} read the file
+ * directly.
+ *
+ * @since 12.0
+ */
+public final class MappedLongLongMap
+        implements ImmutableLongLongMap
+{
+    private static final long EMPTY_KEY = 0L;
+    private static final long REMOVED_KEY = 1L;
+    private static final long EMPTY_VALUE = 0L;
+    private static final int SLOT_SIZE = Long.BYTES * 2;
+    private static final int CACHE_LINE_SIZE = 64;
+    private static final int INITIAL_LINEAR_PROBE = CACHE_LINE_SIZE / SLOT_SIZE / 2; /* half a cache line */
+    private static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+    /**
+     * The table metadata which follows the {@link BulkCodecFormat} header: the number of slots, the values of the keys 0
+     * and 1, and whether those keys are present.
+     */
+    private static final int METADATA_SIZE = 32;
+    private static final int TABLE_OFFSET = BulkCodecFormat.HEADER_SIZE + METADATA_SIZE;
+
+    private final MappedRegions table;
+    private final long mask;
+    private final int size;
+    private final boolean containsZeroKey;
+    private final boolean containsOneKey;
+    private final long zeroValue;
+    private final long oneValue;
+
+    private MappedLongLongMap(MappedRegions table, int size, ByteBuffer metadata)
+    {
+        this.table = table;
+        this.mask = metadata.getLong() - 1L;
+        this.zeroValue = metadata.getLong();
+        this.oneValue = metadata.getLong();
+        this.containsZeroKey = metadata.get() != 0;
+        this.containsOneKey = metadata.get() != 0;
+        this.size = size;
+    }
+
+    /**
+     * Maps the map stored in {@code file}.
+     *
+     * @throws IllegalArgumentException if {@code file} was not written by a {@link Builder}
+     */
+    public static MappedLongLongMap open(Path file) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            int size = BulkCodecFormat.readHeader(channel, BulkCodecFormat.HASH_TABLE, BulkCodecFormat.LONG, BulkCodecFormat.LONG);
+            ByteBuffer metadata = BulkCodecFormat.map(channel, BulkCodecFormat.HEADER_SIZE, METADATA_SIZE);
+            long capacity = metadata.getLong(0);
+            if (capacity < DEFAULT_INITIAL_CAPACITY || Long.bitCount(capacity) != 1 || capacity > Long.MAX_VALUE / SLOT_SIZE)
+            {
+                throw new IllegalArgumentException("Invalid table capacity: " + capacity);
+            }
+            MappedRegions table = MappedRegions.map(channel, FileChannel.MapMode.READ_ONLY, TABLE_OFFSET, capacity * SLOT_SIZE);
+            return new MappedLongLongMap(table, size, metadata);
+        }
+    }
+
+    /**
+     * Returns a builder which writes a new map to {@code file}, replacing any existing content. Like a
+     * {@link LongLongHashMap}, the table has at least twice as many slots as {@code expectedSize}, but it cannot grow.
+     */
+    public static Builder newBuilder(Path file, int expectedSize) throws IOException
+    {
+        return new Builder(file, expectedSize);
+    }
+
+    private static boolean isNonSentinel(long key)
+    {
+        return key != EMPTY_KEY && key != REMOVED_KEY;
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or the empty slot where it belongs. Tables written by a {@link Builder}
+     * have no removed slots and are never more than half full, so the final double hashing loop always ends.
+     */
+    private static long probe(MappedRegions table, long mask, long key)
+    {
+        long index = key & mask;
+        for (int i = 0; i < INITIAL_LINEAR_PROBE; i++)
+        {
+            long slot = (index + i) & mask;
+            long keyAtSlot = table.getLong(slot * SLOT_SIZE);
+            if (keyAtSlot == key || keyAtSlot == EMPTY_KEY)
+            {
+                return slot;
+            }
+        }
+        index = SpreadFunctions.longSpreadTwo(key) & mask;
+        for (int i = 0; i < INITIAL_LINEAR_PROBE; i++)
+        {
+            long slot = (index + i) & mask;
+            long keyAtSlot = table.getLong(slot * SLOT_SIZE);
+            if (keyAtSlot == key || keyAtSlot == EMPTY_KEY)
+            {
+                return slot;
+            }
+        }
+        long slot = SpreadFunctions.longSpreadOne(key);
+        long step = Long.reverse(SpreadFunctions.longSpreadTwo(key)) | 1L;
+        while (true)
+        {
+            slot = (slot + step) & mask;
+            long keyAtSlot = table.getLong(slot * SLOT_SIZE);
+            if (keyAtSlot == key || keyAtSlot == EMPTY_KEY)
+            {
+                return slot;
+            }
+        }
+    }
+
+    private long keyAt(long slot)
+    {
+        return this.table.getLong(slot * SLOT_SIZE);
+    }
+
+    private long valueAt(long slot)
+    {
+        return this.table.getLong(slot * SLOT_SIZE + Long.BYTES);
+    }
+
+    @Override
+    public long get(long key)
+    {
+        return this.getIfAbsent(key, EMPTY_VALUE);
+    }
+
+    @Override
+    public long getIfAbsent(long key, long ifAbsent)
+    {
+        if (key == EMPTY_KEY)
+        {
+            return this.containsZeroKey ? this.zeroValue : ifAbsent;
+        }
+        if (key == REMOVED_KEY)
+        {
+            return this.containsOneKey ? this.oneValue : ifAbsent;
+        }
+        long slot = MappedLongLongMap.probe(this.table, this.mask, key);
+        return this.keyAt(slot) == key ? this.valueAt(slot) : ifAbsent;
+    }
+
+    @Override
+    public long getOrThrow(long key)
+    {
+        if (!this.containsKey(key))
+        {
+            throw new IllegalStateException("Key " + key + " not present.");
+        }
+        return this.get(key);
+    }
+
+    @Override
+    public boolean containsKey(long key)
+    {
+        if (key == EMPTY_KEY)
+        {
+            return this.containsZeroKey;
+        }
+        if (key == REMOVED_KEY)
+        {
+            return this.containsOneKey;
+        }
+        return this.keyAt(MappedLongLongMap.probe(this.table, this.mask, key)) == key;
+    }
+
+    @Override
+    public boolean containsValue(long value)
+    {
+        return this.anySatisfy(each -> each == value);
+    }
+
+    @Override
+    public void forEachValue(LongProcedure procedure)
+    {
+        this.each(procedure);
+    }
+
+    @Override
+    public void forEachKey(LongProcedure procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(key));
+    }
+
+    @Override
+    public void forEachKeyValue(LongLongProcedure procedure)
+    {
+        if (this.containsZeroKey)
+        {
+            procedure.value(EMPTY_KEY, this.zeroValue);
+        }
+        if (this.containsOneKey)
+        {
+            procedure.value(REMOVED_KEY, this.oneValue);
+        }
+        for (long slot = 0L; slot <= this.mask; slot++)
+        {
+            long key = this.keyAt(slot);
+            if (isNonSentinel(key))
+            {
+                procedure.value(key, this.valueAt(slot));
+            }
+        }
+    }
+
+    @Override
+    public LazyLongIterable keysView()
+    {
+        return new KeysView();
+    }
+
+    @Override
+    public RichIterable<LongLongPair> keyValuesView()
+    {
+        return new KeyValuesView();
+    }
+
+    @Override
+    public ImmutableLongLongMap flipUniqueValues()
+    {
+        MutableLongLongMap result = new LongLongHashMap(this.size);
+        this.forEachKeyValue((key, value) ->
+        {
+            if (result.containsKey(value))
+            {
+                throw new IllegalStateException("Duplicate value: " + value + " found at key: " + result.get(value) + " and key: " + key);
+            }
+            result.put(value, key);
+        });
+        return result.toImmutable();
+    }
+
+    @Override
+    public ImmutableLongLongMap select(LongLongPredicate predicate)
+    {
+        MutableLongLongMap result = new LongLongHashMap();
+        this.forEachKeyValue((key, value) ->
+        {
+            if (predicate.accept(key, value))
+            {
+                result.put(key, value);
+            }
+        });
+        return result.toImmutable();
+    }
+
+    @Override
+    public ImmutableLongLongMap reject(LongLongPredicate predicate)
+    {
+        return this.select((key, value) -> !predicate.accept(key, value));
+    }
+
+    @Override
+    public <T> T injectInto(T injectedValue, ObjectLongToObjectFunction<? super T, ? extends T> function)
+    {
+        return this.asLazy().injectInto(injectedValue, function);
+    }
+
+    @Override
+    public RichIterable<LongIterable> chunk(int size)
+    {
+        return this.asLazy().chunk(size);
+    }
+
+    @Override
+    public ImmutableLongLongMap toImmutable()
+    {
+        return this;
+    }
+
+    @Override
+    public LongIterator longIterator()
+    {
+        return new ValuesIterator();
+    }
+
+    @Override
+    public void each(LongProcedure procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(value));
+    }
+
+    @Override
+    public int count(LongPredicate predicate)
+    {
+        return this.asLazy().count(predicate);
+    }
+
+    @Override
+    public boolean anySatisfy(LongPredicate predicate)
+    {
+        return this.asLazy().anySatisfy(predicate);
+    }
+
+    @Override
+    public boolean allSatisfy(LongPredicate predicate)
+    {
+        return this.asLazy().allSatisfy(predicate);
+    }
+
+    @Override
+    public boolean noneSatisfy(LongPredicate predicate)
+    {
+        return this.asLazy().noneSatisfy(predicate);
+    }
+
+    @Override
+    public ImmutableLongBag select(LongPredicate predicate)
+    {
+        return this.asLazy().select(predicate).toBag().toImmutable();
+    }
+
+    @Override
+    public ImmutableLongBag reject(LongPredicate predicate)
+    {
+        return this.asLazy().reject(predicate).toBag().toImmutable();
+    }
+
+    @Override
+    public <V> ImmutableBag<V> collect(LongToObjectFunction<? extends V> function)
+    {
+        return this.asLazy().<V>collect(function).toBag().toImmutable();
+    }
+
+    @Override
+    public long detectIfNone(LongPredicate predicate, long ifNone)
+    {
+        return this.asLazy().detectIfNone(predicate, ifNone);
+    }
+
+    @Override
+    public long sum()
+    {
+        return this.asLazy().sum();
+    }
+
+    @Override
+    public long max()
+    {
+        return this.asLazy().max();
+    }
+
+    @Override
+    public long maxIfEmpty(long defaultValue)
+    {
+        return this.asLazy().maxIfEmpty(defaultValue);
+    }
+
+    @Override
+    public long min()
+    {
+        return this.asLazy().min();
+    }
+
+    @Override
+    public long minIfEmpty(long defaultValue)
+    {
+        return this.asLazy().minIfEmpty(defaultValue);
+    }
+
+    @Override
+    public double average()
+    {
+        return this.asLazy().average();
+    }
+
+    @Override
+    public double median()
+    {
+        return this.asLazy().median();
+    }
+
+    @Override
+    public long[] toSortedArray()
+    {
+        return this.asLazy().toSortedArray();
+    }
+
+    @Override
+    public MutableLongList toSortedList()
+    {
+        return this.asLazy().toSortedList();
+    }
+
+    @Override
+    public long[] toArray()
+    {
+        return this.asLazy().toArray();
+    }
+
+    @Override
+    public long[] toArray(long[] target)
+    {
+        return this.asLazy().toArray(target);
+    }
+
+    @Override
+    public boolean contains(long value)
+    {
+        return this.containsValue(value);
+    }
+
+    @Override
+    public boolean containsAll(long... source)
+    {
+        return this.asLazy().containsAll(source);
+    }
+
+    @Override
+    public boolean containsAll(LongIterable source)
+    {
+        return this.asLazy().containsAll(source);
+    }
+
+    @Override
+    public MutableLongList toList()
+    {
+        return this.asLazy().toList();
+    }
+
+    @Override
+    public MutableLongSet toSet()
+    {
+        return this.asLazy().toSet();
+    }
+
+    @Override
+    public MutableLongBag toBag()
+    {
+        return this.asLazy().toBag();
+    }
+
+    @Override
+    public LazyLongIterable asLazy()
+    {
+        return new ValuesView();
+    }
+
+    @Override
+    public ImmutableLongLongMap newWithKeyValue(long key, long value)
+    {
+        MutableLongLongMap map = new LongLongHashMap(this.size + 1);
+        map.putAll(this);
+        map.put(key, value);
+        return map.toImmutable();
+    }
+
+    @Override
+    public ImmutableLongLongMap newWithoutKey(long key)
+    {
+        MutableLongLongMap map = new LongLongHashMap(this.size);
+        map.putAll(this);
+        map.removeKey(key);
+        return map.toImmutable();
+    }
+
+    @Override
+    public ImmutableLongLongMap newWithoutAllKeys(LongIterable keys)
+    {
+        MutableLongLongMap map = new LongLongHashMap(this.size);
+        map.putAll(this);
+        LongIterator iterator = keys.longIterator();
+        while (iterator.hasNext())
+        {
+            map.removeKey(iterator.next());
+        }
+        return map.toImmutable();
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return this.size != 0;
+    }
+
+    @Override
+    public String makeString()
+    {
+        return this.asLazy().makeString();
+    }
+
+    @Override
+    public String makeString(String separator)
+    {
+        return this.asLazy().makeString(separator);
+    }
+
+    @Override
+    public String makeString(String start, String separator, String end)
+    {
+        return this.asLazy().makeString(start, separator, end);
+    }
+
+    @Override
+    public void appendString(Appendable appendable)
+    {
+        this.asLazy().appendString(appendable);
+    }
+
+    @Override
+    public void appendString(Appendable appendable, String separator)
+    {
+        this.asLazy().appendString(appendable, separator);
+    }
+
+    @Override
+    public void appendString(Appendable appendable, String start, String separator, String end)
+    {
+        this.asLazy().appendString(appendable, start, separator, end);
+    }
+
+    @Override
+    public MutableLongSet keySet()
+    {
+        return UnmodifiableLongSet.of(this.keysView().toSet());
+    }
+
+    @Override
+    public MutableLongCollection values()
+    {
+        return UnmodifiableLongCollection.of(this.toList());
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj)
+        {
+            return true;
+        }
+        if (!(obj instanceof LongLongMap))
+        {
+            return false;
+        }
+        LongLongMap other = (LongLongMap) obj;
+        if (this.size != other.size())
+        {
+            return false;
+        }
+        return this.allSatisfyKeyValue((key, value) -> other.containsKey(key) && other.getOrThrow(key) == value);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = 0;
+        EntryIterator iterator = new EntryIterator();
+        while (iterator.hasNext())
+        {
+            iterator.advance();
+            result += (int) (iterator.key ^ iterator.key >>> 32) ^ (int) (iterator.value ^ iterator.value >>> 32);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder appendable = new StringBuilder("{");
+        EntryIterator iterator = new EntryIterator();
+        while (iterator.hasNext())
+        {
+            iterator.advance();
+            appendable.append(iterator.key).append("=").append(iterator.value);
+            if (iterator.hasNext())
+            {
+                appendable.append(", ");
+            }
+        }
+        return appendable.append("}").toString();
+    }
+
+    /**
+     * Visits the entries in the same order as {@link #forEachKeyValue(LongLongProcedure)}, leaving the current entry in
+     * {@link #key} and {@link #value}.
+     */
+    private class EntryIterator
+    {
+        protected long key;
+        protected long value;
+        private int count;
+        private long slot;
+        private boolean handledZero;
+        private boolean handledOne;
+
+        public boolean hasNext()
+        {
+            return this.count != MappedLongLongMap.this.size;
+        }
+
+        protected void advance()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException("next() called, but the iterator is exhausted");
+            }
+            this.count++;
+            if (!this.handledZero)
+            {
+                this.handledZero = true;
+                if (MappedLongLongMap.this.containsZeroKey)
+                {
+                    this.key = EMPTY_KEY;
+                    this.value = MappedLongLongMap.this.zeroValue;
+                    return;
+                }
+            }
+            if (!this.handledOne)
+            {
+                this.handledOne = true;
+                if (MappedLongLongMap.this.containsOneKey)
+                {
+                    this.key = REMOVED_KEY;
+                    this.value = MappedLongLongMap.this.oneValue;
+                    return;
+                }
+            }
+            while (!isNonSentinel(MappedLongLongMap.this.keyAt(this.slot)))
+            {
+                this.slot++;
+            }
+            this.key = MappedLongLongMap.this.keyAt(this.slot);
+            this.value = MappedLongLongMap.this.valueAt(this.slot);
+            this.slot++;
+        }
+    }
+
+    private class ValuesIterator extends EntryIterator implements LongIterator
+    {
+        @Override
+        public long next()
+        {
+            this.advance();
+            return this.value;
+        }
+    }
+
+    private class KeysIterator extends EntryIterator implements LongIterator
+    {
+        @Override
+        public long next()
+        {
+            this.advance();
+            return this.key;
+        }
+    }
+
+    private class KeyValuesIterator extends EntryIterator implements Iterator<LongLongPair>
+    {
+        @Override
+        public LongLongPair next()
+        {
+            this.advance();
+            return PrimitiveTuples.pair(this.key, this.value);
+        }
+    }
+
+    private class ValuesView extends AbstractLazyLongIterable
+    {
+        @Override
+        public LongIterator longIterator()
+        {
+            return new ValuesIterator();
+        }
+
+        @Override
+        public void each(LongProcedure procedure)
+        {
+            MappedLongLongMap.this.each(procedure);
+        }
+
+        @Override
+        public int size()
+        {
+            return MappedLongLongMap.this.size;
+        }
+    }
+
+    private class KeysView extends AbstractLazyLongIterable
+    {
+        @Override
+        public LongIterator longIterator()
+        {
+            return new KeysIterator();
+        }
+
+        @Override
+        public void each(LongProcedure procedure)
+        {
+            MappedLongLongMap.this.forEachKey(procedure);
+        }
+
+        @Override
+        public int size()
+        {
+            return MappedLongLongMap.this.size;
+        }
+    }
+
+    private class KeyValuesView extends AbstractLazyIterable<LongLongPair>
+    {
+        @Override
+        public void each(Procedure<? super LongLongPair> procedure)
+        {
+            MappedLongLongMap.this.forEachKeyValue((key, value) -> procedure.value(PrimitiveTuples.pair(key, value)));
+        }
+
+        @Override
+        public Iterator<LongLongPair> iterator()
+        {
+            return new KeyValuesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return MappedLongLongMap.this.size;
+        }
+    }
+
+    /**
+     * Builder writes entries straight into the table of a new file as they are put, so the map is never held on the
+     * heap, and {@link #build()} maps the finished file as a {@link MappedLongLongMap}. Putting a key which is already
+     * present replaces its value. Closing a builder without building it leaves a file which {@link #open(Path)} rejects.
+     */
+    public static final class Builder implements Closeable
+    {
+        private final Path file;
+        private final FileChannel channel;
+        private final MappedRegions table;
+        private final long capacity;
+        private final long mask;
+        private int size;
+        private long occupied;
+        private boolean containsZeroKey;
+        private boolean containsOneKey;
+        private long zeroValue;
+        private long oneValue;
+
+        private Builder(Path file, int expectedSize) throws IOException
+        {
+            if (expectedSize < 0)
+            {
+                throw new IllegalArgumentException("expected size cannot be less than zero");
+            }
+            this.file = file;
+            this.capacity = Long.highestOneBit(((long) Math.max(expectedSize, DEFAULT_INITIAL_CAPACITY) << 1) - 1L) << 1;
+            this.mask = this.capacity - 1L;
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.table = MappedRegions.map(this.channel, FileChannel.MapMode.READ_WRITE, TABLE_OFFSET, this.capacity * SLOT_SIZE);
+        }
+
+        /**
+         * @throws IllegalStateException if the table is already half full, which happens after more entries than the
+         * expected size were put
+         */
+        public Builder put(long key, long value)
+        {
+            if (!this.channel.isOpen())
+            {
+                throw new IllegalStateException("Builder is closed");
+            }
+            if (key == EMPTY_KEY)
+            {
+                this.size += this.containsZeroKey ? 0 : 1;
+                this.containsZeroKey = true;
+                this.zeroValue = value;
+                return this;
+            }
+            if (key == REMOVED_KEY)
+            {
+                this.size += this.containsOneKey ? 0 : 1;
+                this.containsOneKey = true;
+                this.oneValue = value;
+                return this;
+            }
+            long slot = MappedLongLongMap.probe(this.table, this.mask, key);
+            if (this.table.getLong(slot * SLOT_SIZE) != key)
+            {
+                if (this.occupied >= this.capacity >>> 1)
+                {
+                    throw new IllegalStateException("Table of " + this.capacity + " slots is half full; expected size was too small");
+                }
+                this.table.putLong(slot * SLOT_SIZE, key);
+                this.occupied++;
+                this.size++;
+            }
+            this.table.putLong(slot * SLOT_SIZE + Long.BYTES, value);
+            return this;
+        }
+
+        public Builder putAll(LongLongMap map)
+        {
+            map.forEachKeyValue(this::put);
+            return this;
+        }
+
+        /**
+         * Completes the file, closes this builder, and maps the file.
+         */
+        public MappedLongLongMap build() throws IOException
+        {
+            if (!this.channel.isOpen())
+            {
+                throw new IllegalStateException("Builder is closed");
+            }
+            this.table.force();
+            ByteBuffer header = ByteBuffer.allocate(TABLE_OFFSET).order(ByteOrder.LITTLE_ENDIAN);
+            BulkCodecFormat.writeHeader(header, BulkCodecFormat.HASH_TABLE, BulkCodecFormat.LONG, BulkCodecFormat.LONG, this.size);
+            header.putLong(this.capacity);
+            header.putLong(this.zeroValue);
+            header.putLong(this.oneValue);
+            header.put((byte) (this.containsZeroKey ? 1 : 0));
+            header.put((byte) (this.containsOneKey ? 1 : 0));
+            header.clear();
+            long position = 0L;
+            while (header.hasRemaining())
+            {
+                position += this.channel.write(header, position);
+            }
+            this.channel.force(true);
+            this.channel.close();
+            return MappedLongLongMap.open(this.file);
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            this.channel.close();
+        }
+    }
+}
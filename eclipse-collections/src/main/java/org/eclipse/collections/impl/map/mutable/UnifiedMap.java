@@ -25,9 +25,11 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
+import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
@@ -54,6 +56,7 @@ import org.eclipse.collections.impl.tuple.ImmutableEntry;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.ArrayIterate;
 import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.LazyIterate;
 
 /**
  * UnifiedMap stores key/value pairs in a single array, where alternate slots are keys and values. This is nicer to CPU caches as
@@ -1416,6 +1419,19 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         return this.occupied;
     }
 
+    /**
+     * Returns a spliterator over the values which splits on ranges of the underlying table rather than by copying
+     * elements into arrays.
+     *
+     * @since 12.0
+     */
+    @Override
+    public Spliterator<V> spliterator()
+    {
+        Object[] table = this.table;
+        return new ValuesSpliterator(table, 0, table.length, this.occupied, true);
+    }
+
     @Override
     public Set<Entry<K, V>> entrySet()
     {
@@ -2151,6 +2167,16 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         return atEnd;
     }
 
+    /**
+     * Adapts the map itself rather than its values collection, so that lazy iteration over the values uses the internal
+     * loop of {@link #forEachValue(Procedure)} and the short-circuiting one of {@link #anySatisfy(Predicate)}.
+     */
+    @Override
+    public LazyIterable<V> asLazy()
+    {
+        return LazyIterate.adapt(this);
+    }
+
     @Override
     public boolean anySatisfy(Predicate<? super V> predicate)
     {
@@ -2240,6 +2266,13 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
             return new KeySetIterator();
         }
 
+        @Override
+        public Spliterator<K> spliterator()
+        {
+            Object[] table = UnifiedMap.this.table;
+            return new KeySpliterator(table, 0, table.length, UnifiedMap.this.occupied, true);
+        }
+
         @Override
         public boolean remove(Object key)
         {
@@ -2752,6 +2785,13 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
             return new EntrySetIterator(this.holder);
         }
 
+        @Override
+        public Spliterator<Entry<K, V>> spliterator()
+        {
+            Object[] table = UnifiedMap.this.table;
+            return new EntrySetSpliterator(table, 0, table.length, UnifiedMap.this.occupied, true, this.holder);
+        }
+
         @Override
         public boolean remove(Object e)
         {
@@ -3164,6 +3204,12 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
             return new ValuesIterator();
         }
 
+        @Override
+        public Spliterator<V> spliterator()
+        {
+            return UnifiedMap.this.spliterator();
+        }
+
         @Override
         public boolean remove(Object o)
         {
@@ -3393,6 +3439,221 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         }
     }
 
+    protected abstract class PositionalSpliterator<T> implements Spliterator<T>
+    {
+        protected final Object[] table;
+        protected final int fence;
+        protected final int characteristics;
+        protected int index;
+        protected int estimatedSize;
+        protected boolean exactSize;
+        protected Object[] chain;
+        protected int chainPosition;
+
+        protected PositionalSpliterator(Object[] table, int index, int fence, int estimatedSize, boolean exactSize, int characteristics)
+        {
+            this.table = table;
+            this.index = index;
+            this.fence = fence;
+            this.estimatedSize = estimatedSize;
+            this.exactSize = exactSize;
+            this.characteristics = characteristics;
+        }
+
+        protected abstract T element(Object key, Object value);
+
+        protected abstract PositionalSpliterator<T> split(int index, int fence, int estimatedSize);
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action)
+        {
+            Objects.requireNonNull(action);
+            if (!this.advance(action))
+            {
+                return false;
+            }
+            if (this.estimatedSize > 0)
+            {
+                this.estimatedSize--;
+            }
+            return true;
+        }
+
+        private boolean advance(Consumer<? super T> action)
+        {
+            if (this.chain != null)
+            {
+                this.acceptNextFromChain(action);
+                return true;
+            }
+            while (this.index < this.fence)
+            {
+                Object cur = this.table[this.index];
+                Object value = this.table[this.index + 1];
+                this.index += 2;
+                if (cur == CHAINED_KEY)
+                {
+                    this.chain = (Object[]) value;
+                    this.chainPosition = 0;
+                    this.acceptNextFromChain(action);
+                    return true;
+                }
+                if (cur != null)
+                {
+                    action.accept(this.element(cur, value));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void acceptNextFromChain(Consumer<? super T> action)
+        {
+            Object[] chain = this.chain;
+            int position = this.chainPosition;
+            this.chainPosition += 2;
+            if (this.chainPosition >= chain.length || chain[this.chainPosition] == null)
+            {
+                this.chain = null;
+            }
+            action.accept(this.element(chain[position], chain[position + 1]));
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action)
+        {
+            Objects.requireNonNull(action);
+            if (this.chain != null)
+            {
+                this.chainedForEachRemaining(this.chain, this.chainPosition, action);
+                this.chain = null;
+            }
+            Object[] table = this.table;
+            int start = this.index;
+            this.index = this.fence;
+            for (int i = start; i < this.fence; i += 2)
+            {
+                Object cur = table[i];
+                if (cur == CHAINED_KEY)
+                {
+                    this.chainedForEachRemaining((Object[]) table[i + 1], 0, action);
+                }
+                else if (cur != null)
+                {
+                    action.accept(this.element(cur, table[i + 1]));
+                }
+            }
+            this.estimatedSize = 0;
+        }
+
+        private void chainedForEachRemaining(Object[] chain, int start, Consumer<? super T> action)
+        {
+            for (int i = start; i < chain.length; i += 2)
+            {
+                Object cur = chain[i];
+                if (cur == null)
+                {
+                    return;
+                }
+                action.accept(this.element(cur, chain[i + 1]));
+            }
+        }
+
+        /**
+         * Splits off the lower half of the remaining table range. Splitting is done on key/value slot boundaries and
+         * never inside a chain, so each half can be traversed without copying elements.
+         */
+        @Override
+        public Spliterator<T> trySplit()
+        {
+            int lo = this.index;
+            int mid = ((lo + this.fence) >>> 1) & ~1;
+            if (this.chain != null || mid <= lo)
+            {
+                return null;
+            }
+            this.index = mid;
+            this.estimatedSize >>>= 1;
+            this.exactSize = false;
+            return this.split(lo, mid, this.estimatedSize);
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return this.estimatedSize;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return this.exactSize ? this.characteristics | Spliterator.SIZED : this.characteristics;
+        }
+    }
+
+    protected class KeySpliterator extends PositionalSpliterator<K>
+    {
+        protected KeySpliterator(Object[] table, int index, int fence, int estimatedSize, boolean exactSize)
+        {
+            super(table, index, fence, estimatedSize, exactSize, Spliterator.DISTINCT);
+        }
+
+        @Override
+        protected K element(Object key, Object value)
+        {
+            return UnifiedMap.this.nonSentinel(key);
+        }
+
+        @Override
+        protected KeySpliterator split(int index, int fence, int estimatedSize)
+        {
+            return new KeySpliterator(this.table, index, fence, estimatedSize, false);
+        }
+    }
+
+    protected class ValuesSpliterator extends PositionalSpliterator<V>
+    {
+        protected ValuesSpliterator(Object[] table, int index, int fence, int estimatedSize, boolean exactSize)
+        {
+            super(table, index, fence, estimatedSize, exactSize, 0);
+        }
+
+        @Override
+        protected V element(Object key, Object value)
+        {
+            return (V) value;
+        }
+
+        @Override
+        protected ValuesSpliterator split(int index, int fence, int estimatedSize)
+        {
+            return new ValuesSpliterator(this.table, index, fence, estimatedSize, false);
+        }
+    }
+
+    protected class EntrySetSpliterator extends PositionalSpliterator<Entry<K, V>>
+    {
+        protected final WeakReference<UnifiedMap<K, V>> holder;
+
+        protected EntrySetSpliterator(Object[] table, int index, int fence, int estimatedSize, boolean exactSize, WeakReference<UnifiedMap<K, V>> holder)
+        {
+            super(table, index, fence, estimatedSize, exactSize, Spliterator.DISTINCT);
+            this.holder = holder;
+        }
+
+        @Override
+        protected Entry<K, V> element(Object key, Object value)
+        {
+            return new WeakBoundEntry<>(UnifiedMap.this.nonSentinel(key), (V) value, this.holder);
+        }
+
+        @Override
+        protected EntrySetSpliterator split(int index, int fence, int estimatedSize)
+        {
+            return new EntrySetSpliterator(this.table, index, fence, estimatedSize, false, this.holder);
+        }
+    }
+
     private K nonSentinel(Object key)
     {
         return key == NULL_KEY ? null : (K) key;
@@ -14,7 +14,6 @@ import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -57,7 +56,7 @@ import org.eclipse.collections.api.ordered.OrderedIterable;
 import org.eclipse.collections.api.partition.list.PartitionImmutableList;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.map.AbstractMapIterable;
-import org.eclipse.collections.impl.map.ordered.mutable.OrderedMapAdapter;
+import org.eclipse.collections.impl.map.ordered.mutable.OrderedHashMap;
 
 public class ImmutableOrderedMapAdapter<K, V>
         extends AbstractMapIterable<K, V>
@@ -69,7 +68,7 @@ public class ImmutableOrderedMapAdapter<K, V>
 
     public ImmutableOrderedMapAdapter(Map<K, V> delegate)
     {
-        this.delegate = OrderedMapAdapter.adapt(new LinkedHashMap<>(delegate));
+        this.delegate = new OrderedHashMap<>(delegate);
     }
 
     @Override
@@ -228,7 +227,7 @@ public class ImmutableOrderedMapAdapter<K, V>
     @Override
     public ImmutableOrderedMap<K, V> newWithKeyValue(K key, V value)
     {
-        MutableOrderedMap<K, V> copy = OrderedMapAdapter.adapt(new LinkedHashMap<>(this.delegate));
+        MutableOrderedMap<K, V> copy = new OrderedHashMap<>(this.delegate);
         copy.put(key, value);
         return copy.toImmutable();
     }
@@ -236,7 +235,7 @@ public class ImmutableOrderedMapAdapter<K, V>
     @Override
     public ImmutableOrderedMap<K, V> newWithAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
     {
-        MutableOrderedMap<K, V> copy = OrderedMapAdapter.adapt(new LinkedHashMap<>(this.delegate));
+        MutableOrderedMap<K, V> copy = new OrderedHashMap<>(this.delegate);
         keyValues.forEach(pair -> copy.put(pair.getOne(), pair.getTwo()));
         return copy.toImmutable();
     }
@@ -244,7 +243,7 @@ public class ImmutableOrderedMapAdapter<K, V>
     @Override
     public ImmutableOrderedMap<K, V> newWithMap(Map<? extends K, ? extends V> map)
     {
-        MutableOrderedMap<K, V> copy = OrderedMapAdapter.adapt(new LinkedHashMap<>(this.delegate));
+        MutableOrderedMap<K, V> copy = new OrderedHashMap<>(this.delegate);
         copy.putAll(map);
         return copy.toImmutable();
     }
@@ -252,7 +251,7 @@ public class ImmutableOrderedMapAdapter<K, V>
     @Override
     public ImmutableOrderedMap<K, V> newWithMapIterable(MapIterable<? extends K, ? extends V> mapIterable)
     {
-        MutableOrderedMap<K, V> copy = OrderedMapAdapter.adapt(new LinkedHashMap<>(this.delegate));
+        MutableOrderedMap<K, V> copy = new OrderedHashMap<>(this.delegate);
         copy.putAllMapIterable(mapIterable);
         return copy.toImmutable();
     }
@@ -260,7 +259,7 @@ public class ImmutableOrderedMapAdapter<K, V>
     @Override
     public ImmutableOrderedMap<K, V> newWithAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValuePairs)
     {
-        MutableOrderedMap<K, V> copy = OrderedMapAdapter.adapt(new LinkedHashMap<>(this.delegate));
+        MutableOrderedMap<K, V> copy = new OrderedHashMap<>(this.delegate);
         for (Pair<? extends K, ? extends V> keyValuePair : keyValuePairs)
         {
             copy.put(keyValuePair.getOne(), keyValuePair.getTwo());
@@ -271,7 +270,7 @@ public class ImmutableOrderedMapAdapter<K, V>
     @Override
     public ImmutableOrderedMap<K, V> newWithoutKey(K key)
     {
-        MutableOrderedMap<K, V> copy = OrderedMapAdapter.adapt(new LinkedHashMap<>(this.delegate));
+        MutableOrderedMap<K, V> copy = new OrderedHashMap<>(this.delegate);
         copy.removeKey(key);
         return copy.toImmutable();
     }
@@ -279,7 +278,7 @@ public class ImmutableOrderedMapAdapter<K, V>
     @Override
     public ImmutableOrderedMap<K, V> newWithoutAllKeys(Iterable<? extends K> keys)
     {
-        MutableOrderedMap<K, V> copy = OrderedMapAdapter.adapt(new LinkedHashMap<>(this.delegate));
+        MutableOrderedMap<K, V> copy = new OrderedHashMap<>(this.delegate);
         keys.forEach(copy::removeKey);
         return copy.toImmutable();
     }
@@ -0,0 +1,922 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+
+package org.eclipse.collections.impl.map.ordered.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.UnmodifiableIteratorAdapter;
+import org.eclipse.collections.impl.collection.mutable.CollectionAdapter;
+import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+import org.eclipse.collections.impl.set.mutable.SetAdapter;
+
+/**
+ * OrderedHashMap is a {@link org.eclipse.collections.api.map.MutableOrderedMap} laid out like a "compact" hash table.
+ * The keys and values are stored in alternate slots of a single array, in the order they were first put, and a
+ * separate {@code int[]} index, probed linearly, holds the position of each key in that array. There is no Entry
+ * object per mapping as in {@link java.util.LinkedHashMap}, so the map takes roughly half the memory, and iterating
+ * over it is a sequential walk of the array.
+ * <p>
+ * Putting a key which is already present keeps its position. Removing a key marks its slots in the array as removed;
+ * removed slots are compacted away when the array next fills up.
+ *
+ * @since 12.0
+ */
+@SuppressWarnings("ObjectEquality")
+public class OrderedHashMap<K, V>
+        extends AbstractMutableOrderedMap<K, V>
+        implements Externalizable
+{
+    private static final Object REMOVED_KEY = new Object()
+    {
+        @Override
+        public boolean equals(Object obj)
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public int hashCode()
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public String toString()
+        {
+            return "OrderedHashMap.REMOVED_KEY";
+        }
+    };
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+    private static final int MINIMUM_INDEX_LENGTH = 8;
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Keys and values in alternate slots, in insertion order. Only the first {@code occupied} pairs are in use.
+     */
+    private transient Object[] table;
+
+    /**
+     * One more than the position in {@link #table} of the pair for each hashed key, or zero for a free slot. The
+     * length is a power of two, and at most two thirds of the slots are in use.
+     */
+    private transient int[] index;
+
+    private transient int occupied;
+
+    private transient int size;
+
+    /**
+     * Incremented whenever a key is added or removed or the table is rebuilt, so that iterators can fail fast.
+     */
+    private transient int modCount;
+
+    public OrderedHashMap()
+    {
+        this.allocate(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public OrderedHashMap(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        this.allocate(initialCapacity);
+    }
+
+    public OrderedHashMap(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof OrderedHashMap<?, ?> && ((OrderedHashMap<?, ?>) map).size == ((OrderedHashMap<?, ?>) map).occupied)
+        {
+            OrderedHashMap<?, ?> other = (OrderedHashMap<?, ?>) map;
+            this.table = other.table.clone();
+            this.index = other.index.clone();
+            this.occupied = other.occupied;
+            this.size = other.size;
+        }
+        else
+        {
+            this.allocate(Math.max(map.size(), DEFAULT_INITIAL_CAPACITY));
+            this.putAll(map);
+        }
+    }
+
+    public static <K, V> OrderedHashMap<K, V> newMap()
+    {
+        return new OrderedHashMap<>();
+    }
+
+    public static <K, V> OrderedHashMap<K, V> newMap(int size)
+    {
+        return new OrderedHashMap<>(size);
+    }
+
+    public static <K, V> OrderedHashMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new OrderedHashMap<>(map);
+    }
+
+    public static <K, V> OrderedHashMap<K, V> newWithKeysValues(K key, V value)
+    {
+        OrderedHashMap<K, V> result = new OrderedHashMap<>(1);
+        result.put(key, value);
+        return result;
+    }
+
+    public static <K, V> OrderedHashMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        OrderedHashMap<K, V> result = new OrderedHashMap<>(2);
+        result.put(key1, value1);
+        result.put(key2, value2);
+        return result;
+    }
+
+    public static <K, V> OrderedHashMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        OrderedHashMap<K, V> result = new OrderedHashMap<>(3);
+        result.put(key1, value1);
+        result.put(key2, value2);
+        result.put(key3, value3);
+        return result;
+    }
+
+    private void allocate(int capacity)
+    {
+        int indexLength = Math.max(capacity + (capacity + 1 >> 1), MINIMUM_INDEX_LENGTH);
+        indexLength = Integer.highestOneBit(indexLength - 1) << 1;
+        this.index = new int[indexLength];
+        this.table = new Object[(int) (indexLength * 2L / 3L) << 1];
+        this.occupied = 0;
+    }
+
+    private static int hash(Object key)
+    {
+        if (key == null)
+        {
+            return 0;
+        }
+        int h = key.hashCode();
+        return h ^ h >>> 16;
+    }
+
+    /**
+     * Returns the slot of {@link #index} which refers to {@code key}, or the free slot where it would be added.
+     */
+    private int indexSlot(Object key)
+    {
+        int[] index = this.index;
+        Object[] table = this.table;
+        int mask = index.length - 1;
+        int slot = OrderedHashMap.hash(key) & mask;
+        while (true)
+        {
+            int entry = index[slot];
+            if (entry == 0)
+            {
+                return slot;
+            }
+            Object cur = table[entry - 1 << 1];
+            if (cur == key || key != null && cur != REMOVED_KEY && key.equals(cur))
+            {
+                return slot;
+            }
+            slot = slot + 1 & mask;
+        }
+    }
+
+    private int freeSlot(Object key)
+    {
+        int[] index = this.index;
+        int mask = index.length - 1;
+        int slot = OrderedHashMap.hash(key) & mask;
+        while (index[slot] != 0)
+        {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the position of the pair for {@code key}, or -1 if it is absent.
+     */
+    private int position(Object key)
+    {
+        return this.index[this.indexSlot(key)] - 1;
+    }
+
+    private K keyAt(int position)
+    {
+        return (K) this.table[position << 1];
+    }
+
+    private V valueAt(int position)
+    {
+        return (V) this.table[(position << 1) + 1];
+    }
+
+    private boolean isRemoved(int position)
+    {
+        return this.table[position << 1] == REMOVED_KEY;
+    }
+
+    private V removeAt(int position)
+    {
+        int keyIndex = position << 1;
+        V oldValue = (V) this.table[keyIndex + 1];
+        this.table[keyIndex] = REMOVED_KEY;
+        this.table[keyIndex + 1] = null;
+        this.size--;
+        this.modCount++;
+        return oldValue;
+    }
+
+    /**
+     * Copies the pairs which have not been removed into new arrays with room for {@code capacity} pairs, and rebuilds
+     * the index.
+     */
+    private void rehash(int capacity)
+    {
+        Object[] oldTable = this.table;
+        int oldOccupied = this.occupied;
+        this.allocate(capacity);
+        Object[] table = this.table;
+        int position = 0;
+        for (int i = 0; i < oldOccupied; i++)
+        {
+            Object key = oldTable[i << 1];
+            if (key != REMOVED_KEY)
+            {
+                table[position << 1] = key;
+                table[(position << 1) + 1] = oldTable[(i << 1) + 1];
+                this.index[this.freeSlot(key)] = position + 1;
+                position++;
+            }
+        }
+        this.occupied = position;
+        this.modCount++;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        int position = this.position(key);
+        return position < 0 ? null : this.valueAt(position);
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.position(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        Object[] table = this.table;
+        int end = this.occupied << 1;
+        for (int i = 0; i < end; i += 2)
+        {
+            if (table[i] != REMOVED_KEY)
+            {
+                Object cur = table[i + 1];
+                if (cur == value || cur != null && cur.equals(value))
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        int slot = this.indexSlot(key);
+        int entry = this.index[slot];
+        if (entry != 0)
+        {
+            int valueIndex = (entry - 1 << 1) + 1;
+            V oldValue = (V) this.table[valueIndex];
+            this.table[valueIndex] = value;
+            return oldValue;
+        }
+        if (this.occupied << 1 == this.table.length)
+        {
+            this.rehash(this.size << 1);
+            slot = this.freeSlot(key);
+        }
+        int position = this.occupied++;
+        this.index[slot] = position + 1;
+        this.table[position << 1] = key;
+        this.table[(position << 1) + 1] = value;
+        this.size++;
+        this.modCount++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof MapIterable<?, ?>)
+        {
+            ((MapIterable<? extends K, ? extends V>) map).forEachKeyValue(this::put);
+        }
+        else
+        {
+            for (Entry<? extends K, ? extends V> entry : map.entrySet())
+            {
+                this.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        int position = this.position(key);
+        return position < 0 ? null : this.removeAt(position);
+    }
+
+    @Override
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    @Override
+    public void clear()
+    {
+        if (this.occupied == 0)
+        {
+            return;
+        }
+        Arrays.fill(this.table, 0, this.occupied << 1, null);
+        Arrays.fill(this.index, 0);
+        this.occupied = 0;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        Object[] table = this.table;
+        int end = this.occupied << 1;
+        for (int i = 0; i < end; i += 2)
+        {
+            Object key = table[i];
+            if (key != REMOVED_KEY)
+            {
+                procedure.value((K) key, (V) table[i + 1]);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new ValuesIterator();
+    }
+
+    @Override
+    public MutableSet<K> keySet()
+    {
+        return SetAdapter.adapt(new KeySet());
+    }
+
+    @Override
+    public MutableCollection<V> values()
+    {
+        return CollectionAdapter.adapt(new ValuesCollection());
+    }
+
+    @Override
+    public MutableSet<Entry<K, V>> entrySet()
+    {
+        return SetAdapter.adapt(new EntrySet());
+    }
+
+    @Override
+    public RichIterable<K> keysView()
+    {
+        return new KeysView();
+    }
+
+    @Override
+    public RichIterable<V> valuesView()
+    {
+        return new ValuesView();
+    }
+
+    @Override
+    public OrderedHashMap<K, V> clone()
+    {
+        return new OrderedHashMap<>(this);
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+        Map<K, V> other = (Map<K, V>) object;
+        if (this.size != other.size())
+        {
+            return false;
+        }
+        Object[] table = this.table;
+        int end = this.occupied << 1;
+        for (int i = 0; i < end; i += 2)
+        {
+            Object key = table[i];
+            if (key != REMOVED_KEY && !this.keyAndValueEquals((K) key, (V) table[i + 1], other))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        Object[] table = this.table;
+        int end = this.occupied << 1;
+        for (int i = 0; i < end; i += 2)
+        {
+            Object key = table[i];
+            if (key != REMOVED_KEY)
+            {
+                hashCode += this.keyAndValueHashCode((K) key, (V) table[i + 1]);
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("{");
+        Object[] table = this.table;
+        int end = this.occupied << 1;
+        for (int i = 0; i < end; i += 2)
+        {
+            Object key = table[i];
+            if (key != REMOVED_KEY)
+            {
+                if (builder.length() > 1)
+                {
+                    builder.append(", ");
+                }
+                Object value = table[i + 1];
+                builder.append(key == this ? "(this Map)" : key);
+                builder.append('=');
+                builder.append(value == this ? "(this Map)" : value);
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size);
+        Object[] table = this.table;
+        int end = this.occupied << 1;
+        for (int i = 0; i < end; i += 2)
+        {
+            Object key = table[i];
+            if (key != REMOVED_KEY)
+            {
+                out.writeObject(key);
+                out.writeObject(table[i + 1]);
+            }
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.allocate(size);
+        for (int i = 0; i < size; i++)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    private abstract class PositionalIterator<T> implements Iterator<T>
+    {
+        private int position;
+        private int lastReturned = -1;
+        private int expectedModCount = OrderedHashMap.this.modCount;
+
+        protected abstract T elementAt(int position);
+
+        private void checkForComodification()
+        {
+            if (OrderedHashMap.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            while (this.position < OrderedHashMap.this.occupied && OrderedHashMap.this.isRemoved(this.position))
+            {
+                this.position++;
+            }
+            return this.position < OrderedHashMap.this.occupied;
+        }
+
+        @Override
+        public T next()
+        {
+            this.checkForComodification();
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.lastReturned = this.position++;
+            return this.elementAt(this.lastReturned);
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.lastReturned < 0)
+            {
+                throw new IllegalStateException("next() must be called as many times as remove()");
+            }
+            this.checkForComodification();
+            OrderedHashMap.this.removeAt(this.lastReturned);
+            this.expectedModCount = OrderedHashMap.this.modCount;
+            this.lastReturned = -1;
+        }
+    }
+
+    private final class KeysIterator extends PositionalIterator<K>
+    {
+        @Override
+        protected K elementAt(int position)
+        {
+            return OrderedHashMap.this.keyAt(position);
+        }
+    }
+
+    private final class ValuesIterator extends PositionalIterator<V>
+    {
+        @Override
+        protected V elementAt(int position)
+        {
+            return OrderedHashMap.this.valueAt(position);
+        }
+    }
+
+    private final class EntryIterator extends PositionalIterator<Entry<K, V>>
+    {
+        @Override
+        protected Entry<K, V> elementAt(int position)
+        {
+            return new BoundEntry(OrderedHashMap.this.keyAt(position), OrderedHashMap.this.valueAt(position));
+        }
+    }
+
+    private final class BoundEntry implements Entry<K, V>
+    {
+        private final K key;
+        private V value;
+
+        private BoundEntry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        @Override
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            V oldValue = this.value;
+            this.value = value;
+            int position = OrderedHashMap.this.position(this.key);
+            if (position >= 0)
+            {
+                OrderedHashMap.this.table[(position << 1) + 1] = value;
+            }
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (obj instanceof Entry)
+            {
+                Entry<?, ?> other = (Entry<?, ?>) obj;
+                Object otherKey = other.getKey();
+                Object otherValue = other.getValue();
+                return (this.key == null ? otherKey == null : this.key.equals(otherKey))
+                        && (this.value == null ? otherValue == null : this.value.equals(otherValue));
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return OrderedHashMap.this.keyAndValueHashCode(this.key, this.value);
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeysIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OrderedHashMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return OrderedHashMap.this.containsKey(key);
+        }
+
+        @Override
+        public boolean remove(Object key)
+        {
+            int position = OrderedHashMap.this.position(key);
+            if (position < 0)
+            {
+                return false;
+            }
+            OrderedHashMap.this.removeAt(position);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            OrderedHashMap.this.clear();
+        }
+    }
+
+    private final class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValuesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OrderedHashMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object value)
+        {
+            return OrderedHashMap.this.containsValue(value);
+        }
+
+        @Override
+        public void clear()
+        {
+            OrderedHashMap.this.clear();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OrderedHashMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            return this.positionOf(object) >= 0;
+        }
+
+        @Override
+        public boolean remove(Object object)
+        {
+            int position = this.positionOf(object);
+            if (position < 0)
+            {
+                return false;
+            }
+            OrderedHashMap.this.removeAt(position);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            OrderedHashMap.this.clear();
+        }
+
+        private int positionOf(Object object)
+        {
+            if (!(object instanceof Entry))
+            {
+                return -1;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) object;
+            int position = OrderedHashMap.this.position(entry.getKey());
+            if (position < 0)
+            {
+                return -1;
+            }
+            Object value = OrderedHashMap.this.valueAt(position);
+            Object otherValue = entry.getValue();
+            return value == otherValue || value != null && value.equals(otherValue) ? position : -1;
+        }
+    }
+
+    /**
+     * A lazy view of the keys or the values which iterates directly over the table.
+     */
+    private abstract class PositionalView<T> extends AbstractLazyIterable<T>
+    {
+        protected abstract T elementAt(int position);
+
+        @Override
+        public void each(Procedure<? super T> procedure)
+        {
+            int occupied = OrderedHashMap.this.occupied;
+            for (int i = 0; i < occupied; i++)
+            {
+                if (!OrderedHashMap.this.isRemoved(i))
+                {
+                    procedure.value(this.elementAt(i));
+                }
+            }
+        }
+
+        @Override
+        public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+        {
+            int occupied = OrderedHashMap.this.occupied;
+            int index = 0;
+            for (int i = 0; i < occupied; i++)
+            {
+                if (!OrderedHashMap.this.isRemoved(i))
+                {
+                    objectIntProcedure.value(this.elementAt(i), index++);
+                }
+            }
+        }
+
+        @Override
+        public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+        {
+            int occupied = OrderedHashMap.this.occupied;
+            for (int i = 0; i < occupied; i++)
+            {
+                if (!OrderedHashMap.this.isRemoved(i))
+                {
+                    procedure.value(this.elementAt(i), parameter);
+                }
+            }
+        }
+
+        @Override
+        public T getLast()
+        {
+            for (int i = OrderedHashMap.this.occupied - 1; i >= 0; i--)
+            {
+                if (!OrderedHashMap.this.isRemoved(i))
+                {
+                    return this.elementAt(i);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public int size()
+        {
+            return OrderedHashMap.this.size;
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return OrderedHashMap.this.size == 0;
+        }
+    }
+
+    private final class KeysView extends PositionalView<K>
+    {
+        @Override
+        protected K elementAt(int position)
+        {
+            return OrderedHashMap.this.keyAt(position);
+        }
+
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new UnmodifiableIteratorAdapter<>(new KeysIterator());
+        }
+    }
+
+    private final class ValuesView extends PositionalView<V>
+    {
+        @Override
+        protected V elementAt(int position)
+        {
+            return OrderedHashMap.this.valueAt(position);
+        }
+
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new UnmodifiableIteratorAdapter<>(new ValuesIterator());
+        }
+    }
+}
@@ -11,7 +11,6 @@
 package org.eclipse.collections.impl.map.sorted.immutable;
 
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.SortedMap;
@@ -92,7 +91,7 @@ import org.eclipse.collections.impl.block.procedure.SelectInstancesOfProcedure;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.AbstractMapIterable;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
-import org.eclipse.collections.impl.map.ordered.mutable.OrderedMapAdapter;
+import org.eclipse.collections.impl.map.ordered.mutable.OrderedHashMap;
 import org.eclipse.collections.impl.map.sorted.mutable.TreeSortedMap;
 import org.eclipse.collections.impl.multimap.list.FastListMultimap;
 import org.eclipse.collections.impl.partition.list.PartitionFastList;
@@ -403,7 +402,7 @@ public abstract class AbstractImmutableSortedMap<K, V>
     @Override
     public <R> ImmutableOrderedMap<R, V> collectKeysUnique(Function2<? super K, ? super V, ? extends R> function)
     {
-        MutableOrderedMap<R, V> result = OrderedMapAdapter.adapt(new LinkedHashMap<>(this.size()));
+        MutableOrderedMap<R, V> result = OrderedHashMap.newMap(this.size());
         return MapIterate
                 .collectKeysUnique(this, function, result)
                 .toImmutable();
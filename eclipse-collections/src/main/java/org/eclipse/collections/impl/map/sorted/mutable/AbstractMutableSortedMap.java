@@ -10,8 +10,6 @@
 
 package org.eclipse.collections.impl.map.sorted.mutable;
 
-import java.util.LinkedHashMap;
-
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.function.primitive.BooleanFunction;
@@ -65,7 +63,7 @@ import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.mutable.AbstractMutableMapIterable;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
-import org.eclipse.collections.impl.map.ordered.mutable.OrderedMapAdapter;
+import org.eclipse.collections.impl.map.ordered.mutable.OrderedHashMap;
 import org.eclipse.collections.impl.multimap.list.FastListMultimap;
 import org.eclipse.collections.impl.partition.list.PartitionFastList;
 import org.eclipse.collections.impl.utility.Iterate;
@@ -212,7 +210,7 @@ public abstract class AbstractMutableSortedMap<K, V> extends AbstractMutableMapI
         return MapIterate.collectKeysUnique(
                 this,
                 function,
-                OrderedMapAdapter.adapt(new LinkedHashMap<>(this.size())));
+                OrderedHashMap.newMap(this.size()));
     }
 
     @Override
@@ -0,0 +1,737 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.mutable;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * The storage shared by {@link BPlusTreeMap} and {@link org.eclipse.collections.impl.bag.sorted.mutable.TreeBag}: a
+ * B+-tree of sorted keys, where each leaf holds up to {@value #LEAF_CAPACITY} keys and a parallel payload array of type
+ * {@code P}, and each branch holds up to {@value #BRANCH_CAPACITY} children. Subclasses decide what the payload is, such
+ * as an {@code Object[]} of map values or an {@code int[]} of counts, and read and write it through a {@link Cursor};
+ * this class only moves payload slots along with their keys.
+ * <p>
+ * A branch keeps the first key of each child, to find the leaf for a key, and the running total of the sizes of its
+ * children, to find the leaf for a position. A position is the index of a key in iteration order, from {@code 0L} up to
+ * {@link #endPosition()}, so positions compare in iteration order and the number of keys between two positions is
+ * their difference. Finding, adding or removing a key, and finding a position, take time proportional to the height of
+ * the tree, and a full leaf or branch is split without touching its neighbors. A {@link Cursor} then walks forward
+ * through the linked leaves one slot at a time.
+ * <p>
+ * Leaves are never empty. Leaves and branches are split in half when full, and merged with or refilled from a neighbor
+ * when less than a quarter full. The exception is adding a key greater than every key in the tree, which starts a new
+ * leaf instead of splitting the last one, so a tree built entirely by appending has full leaves.
+ *
+ * @param <P> the type of the payload array of a leaf
+ * @since 12.0
+ */
+public abstract class BPlusTree<K, P>
+        implements Serializable
+{
+    protected static final int LEAF_CAPACITY = 64;
+    protected static final int BRANCH_CAPACITY = 64;
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int MIN_LEAF_SIZE = LEAF_CAPACITY / 4;
+    private static final int MIN_BRANCH_SIZE = BRANCH_CAPACITY / 4;
+    private static final int INITIAL_LEAF_ARRAY_SIZE = 8;
+
+    private final Comparator<? super K> comparator;
+    private transient Node root;
+    private transient int size;
+    private transient int modCount;
+
+    protected BPlusTree(Comparator<? super K> comparator)
+    {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Returns a new payload array of {@code length} slots.
+     */
+    protected abstract P newPayload(int length);
+
+    /**
+     * Returns a copy of {@code payload} with {@code length} slots.
+     */
+    protected abstract P copyPayload(P payload, int length);
+
+    /**
+     * Clears the slots of {@code payload} from {@code fromIndex} inclusive to {@code toIndex} exclusive, which are no
+     * longer in use, so that they do not retain garbage.
+     */
+    protected abstract void clearPayload(P payload, int fromIndex, int toIndex);
+
+    /**
+     * Writes the slot {@code offset} of {@code payload} when the tree is serialized.
+     */
+    protected abstract void writePayload(ObjectOutputStream out, P payload, int offset) throws IOException;
+
+    /**
+     * Reads the slot {@code offset} of {@code payload} when the tree is deserialized.
+     */
+    protected abstract void readPayload(ObjectInputStream in, P payload, int offset) throws IOException, ClassNotFoundException;
+
+    public Comparator<? super K> comparator()
+    {
+        return this.comparator;
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    /**
+     * Incremented by every change which adds or removes a key, but not by changes to a payload.
+     */
+    public int modCount()
+    {
+        return this.modCount;
+    }
+
+    public int compare(Object key1, Object key2)
+    {
+        return this.comparator == null
+                ? ((Comparable<Object>) key1).compareTo(key2)
+                : this.comparator.compare((K) key1, (K) key2);
+    }
+
+    public long endPosition()
+    {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of keys from {@code start} inclusive to {@code end} exclusive.
+     */
+    public int sizeBetween(long start, long end)
+    {
+        return start >= end ? 0 : (int) (end - start);
+    }
+
+    public K keyAt(long position)
+    {
+        return this.cursor(position).key();
+    }
+
+    public K lastKey()
+    {
+        return this.keyAt(this.size - 1L);
+    }
+
+    /**
+     * Returns a cursor at {@code position}, or at the end of the tree if {@code position} is not less than
+     * {@link #endPosition()}.
+     */
+    public Cursor<K, P> cursor(long position)
+    {
+        if (position >= this.size)
+        {
+            return new Cursor<>(null, 0, this.size);
+        }
+        Node node = this.root;
+        int rank = (int) position;
+        while (node instanceof Branch)
+        {
+            Branch branch = (Branch) node;
+            int index = BPlusTree.childAt(branch, rank);
+            if (index > 0)
+            {
+                rank -= branch.counts[index - 1];
+            }
+            node = branch.children[index];
+        }
+        return new Cursor<>((Leaf) node, rank, position);
+    }
+
+    /**
+     * Returns a cursor at {@code key}, or {@code null} if it is not in the tree.
+     */
+    public Cursor<K, P> locate(Object key)
+    {
+        Cursor<K, P> cursor = this.seek(key);
+        if (cursor == null || cursor.offset < 0)
+        {
+            return null;
+        }
+        cursor.position += cursor.offset;
+        return cursor;
+    }
+
+    /**
+     * Returns the position of {@code key}, or {@code -1L} if it is not in the tree.
+     */
+    public long find(Object key)
+    {
+        Cursor<K, P> cursor = this.locate(key);
+        return cursor == null ? -1L : cursor.position;
+    }
+
+    /**
+     * Returns the position of the first key which is not less than {@code key}.
+     */
+    public long ceilingPosition(Object key)
+    {
+        Cursor<K, P> cursor = this.seek(key);
+        if (cursor == null)
+        {
+            return 0L;
+        }
+        return cursor.offset >= 0 ? cursor.position + cursor.offset : cursor.position - cursor.offset - 1L;
+    }
+
+    /**
+     * Returns the position of {@code key} if it is in the tree, and otherwise {@code -insertionPoint - 1}, where the
+     * insertion point is to be passed to {@link #insertKey(long, Object)}. Unlike {@link #find(Object)}, this checks
+     * that {@code key} can be compared even when the tree is empty.
+     */
+    public long searchForInsert(K key)
+    {
+        Cursor<K, P> cursor = this.seek(key);
+        if (cursor == null)
+        {
+            this.compare(key, key);
+            return -1L;
+        }
+        return cursor.offset >= 0 ? cursor.position + cursor.offset : cursor.offset - cursor.position;
+    }
+
+    /**
+     * Inserts {@code key} at an insertion point returned by {@link #searchForInsert(Object)} and returns a cursor at
+     * it. The payload slot of the new key is not initialized.
+     */
+    public Cursor<K, P> insertKey(long insertionPoint, K key)
+    {
+        Cursor<K, P> cursor = new Cursor<>(null, 0, insertionPoint);
+        if (this.root == null)
+        {
+            Object[] keys = new Object[INITIAL_LEAF_ARRAY_SIZE];
+            keys[0] = key;
+            Leaf leaf = new Leaf(keys, this.newPayload(INITIAL_LEAF_ARRAY_SIZE), 1);
+            this.root = leaf;
+            cursor.leaf = leaf;
+        }
+        else
+        {
+            Node sibling = this.insert(this.root, (int) insertionPoint, key, true, cursor);
+            if (sibling != null)
+            {
+                Branch root = new Branch();
+                BPlusTree.insertChild(root, 0, this.root);
+                BPlusTree.insertChild(root, 1, sibling);
+                this.root = root;
+            }
+        }
+        this.size++;
+        this.modCount++;
+        return cursor;
+    }
+
+    /**
+     * Adds a key which is greater than every key in the tree and returns a cursor at it. The payload slot of the new
+     * key is not initialized.
+     */
+    public Cursor<K, P> appendKey(K key)
+    {
+        return this.insertKey(this.size, key);
+    }
+
+    /**
+     * Removes the key at {@code position} and returns the position of the key which followed it, so that a walk over
+     * the tree can continue after removing from it.
+     */
+    public long removeAt(long position)
+    {
+        this.remove(this.root, (int) position);
+        this.size--;
+        this.modCount++;
+        if (this.size == 0)
+        {
+            this.root = null;
+        }
+        else if (this.root instanceof Branch && this.root.size == 1)
+        {
+            this.root = ((Branch) this.root).children[0];
+        }
+        return position;
+    }
+
+    public void clear()
+    {
+        this.root = null;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Returns a cursor at the leaf which would hold {@code key}, with the position of the first key of that leaf and
+     * the result of the binary search for {@code key} within it, or {@code null} if the tree is empty.
+     */
+    private Cursor<K, P> seek(Object key)
+    {
+        if (this.comparator == null)
+        {
+            Objects.requireNonNull(key);
+        }
+        Node node = this.root;
+        if (node == null)
+        {
+            return null;
+        }
+        long position = 0L;
+        while (node instanceof Branch)
+        {
+            Branch branch = (Branch) node;
+            int index = this.search(branch.keys, branch.size, key);
+            index = index >= 0 ? index : Math.max(-index - 2, 0);
+            if (index > 0)
+            {
+                position += branch.counts[index - 1];
+            }
+            node = branch.children[index];
+        }
+        return new Cursor<>((Leaf) node, this.search(node.keys, node.size, key), position);
+    }
+
+    private int search(Object[] array, int size, Object key)
+    {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high)
+        {
+            int middle = (low + high) >>> 1;
+            int comparison = this.compare(array[middle], key);
+            if (comparison < 0)
+            {
+                low = middle + 1;
+            }
+            else if (comparison > 0)
+            {
+                high = middle - 1;
+            }
+            else
+            {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the index of the first child of {@code branch} whose running total is greater than {@code rank}.
+     */
+    private static int childAt(Branch branch, int rank)
+    {
+        int low = 0;
+        int high = branch.size - 1;
+        while (low < high)
+        {
+            int middle = (low + high) >>> 1;
+            if (branch.counts[middle] > rank)
+            {
+                high = middle;
+            }
+            else
+            {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Inserts {@code key} at {@code rank} within the subtree of {@code node}, and returns the new right sibling of
+     * {@code node} if it had to be split. {@code last} is whether {@code node} is the last node of its level.
+     */
+    private Node insert(Node node, int rank, Object key, boolean last, Cursor<K, P> cursor)
+    {
+        if (node instanceof Leaf)
+        {
+            return this.insertIntoLeaf((Leaf) node, rank, key, last, cursor);
+        }
+        Branch branch = (Branch) node;
+        // A key between two children goes to the end of the left one, so that appending always reaches the last leaf
+        int index = BPlusTree.childAt(branch, rank - 1);
+        int before = index == 0 ? 0 : branch.counts[index - 1];
+        Node child = branch.children[index];
+        Node sibling = this.insert(child, rank - before, key, last && index == branch.size - 1, cursor);
+        branch.keys[index] = child.keys[0];
+        for (int i = index; i < branch.size; i++)
+        {
+            branch.counts[i]++;
+        }
+        if (sibling == null)
+        {
+            return null;
+        }
+        branch.counts[index] = before + child.count();
+        BPlusTree.insertChild(branch, index + 1, sibling);
+        return branch.size > BRANCH_CAPACITY ? this.split(branch, branch.size / 2) : null;
+    }
+
+    private Leaf insertIntoLeaf(Leaf leaf, int offset, Object key, boolean last, Cursor<K, P> cursor)
+    {
+        Leaf upper = null;
+        if (leaf.size == LEAF_CAPACITY)
+        {
+            upper = (Leaf) this.split(leaf, last && offset == LEAF_CAPACITY ? LEAF_CAPACITY : LEAF_CAPACITY / 2);
+            upper.next = leaf.next;
+            leaf.next = upper;
+            if (offset > leaf.size || upper.size == 0)
+            {
+                offset -= leaf.size;
+                leaf = upper;
+            }
+        }
+        this.ensureCapacity(leaf, leaf.size + 1);
+        this.copy(leaf, offset, leaf, offset + 1, leaf.size - offset);
+        leaf.keys[offset] = key;
+        leaf.size++;
+        cursor.leaf = leaf;
+        cursor.offset = offset;
+        return upper;
+    }
+
+    /**
+     * Moves the entries of {@code node} from {@code half} onwards to a new node and returns it.
+     */
+    private Node split(Node node, int half)
+    {
+        Node upper;
+        if (node instanceof Leaf)
+        {
+            upper = new Leaf(new Object[LEAF_CAPACITY], this.newPayload(LEAF_CAPACITY), 0);
+        }
+        else
+        {
+            upper = new Branch();
+        }
+        int upperSize = node.size - half;
+        this.copy(node, half, upper, 0, upperSize);
+        this.clear(node, half, node.size);
+        node.size = half;
+        upper.size = upperSize;
+        if (upper instanceof Branch)
+        {
+            BPlusTree.recount((Branch) upper);
+        }
+        return upper;
+    }
+
+    private static void insertChild(Branch branch, int index, Node child)
+    {
+        int moved = branch.size - index;
+        System.arraycopy(branch.keys, index, branch.keys, index + 1, moved);
+        System.arraycopy(branch.children, index, branch.children, index + 1, moved);
+        System.arraycopy(branch.counts, index, branch.counts, index + 1, moved);
+        branch.keys[index] = child.keys[0];
+        branch.children[index] = child;
+        branch.counts[index] = (index == 0 ? 0 : branch.counts[index - 1]) + child.count();
+        branch.size++;
+    }
+
+    /**
+     * Removes the key at {@code rank} within the subtree of {@code node}, leaving {@code node} itself to be
+     * rebalanced by its parent.
+     */
+    private void remove(Node node, int rank)
+    {
+        if (node instanceof Leaf)
+        {
+            int lastIndex = node.size - 1;
+            this.copy(node, rank + 1, node, rank, lastIndex - rank);
+            this.clear(node, lastIndex, node.size);
+            node.size = lastIndex;
+            return;
+        }
+        Branch branch = (Branch) node;
+        int index = BPlusTree.childAt(branch, rank);
+        Node child = branch.children[index];
+        this.remove(child, index == 0 ? rank : rank - branch.counts[index - 1]);
+        for (int i = index; i < branch.size; i++)
+        {
+            branch.counts[i]--;
+        }
+        if (child.size < (child instanceof Leaf ? MIN_LEAF_SIZE : MIN_BRANCH_SIZE))
+        {
+            this.rebalance(branch, index);
+        }
+        else
+        {
+            branch.keys[index] = child.keys[0];
+        }
+    }
+
+    /**
+     * Merges the child of {@code branch} at {@code index} with a neighbor, or moves entries from the neighbor into it
+     * if they do not fit in one node.
+     */
+    private void rebalance(Branch branch, int index)
+    {
+        int leftIndex = index + 1 < branch.size ? index : index - 1;
+        Node left = branch.children[leftIndex];
+        Node right = branch.children[leftIndex + 1];
+        int total = left.size + right.size;
+        if (total <= (left instanceof Leaf ? LEAF_CAPACITY : BRANCH_CAPACITY))
+        {
+            this.ensureCapacity(left, total);
+            this.copy(right, 0, left, left.size, right.size);
+            left.size = total;
+            if (left instanceof Leaf)
+            {
+                ((Leaf) left).next = ((Leaf) right).next;
+            }
+            else
+            {
+                BPlusTree.recount((Branch) left);
+            }
+            branch.counts[leftIndex] = branch.counts[leftIndex + 1];
+            int moved = branch.size - leftIndex - 2;
+            System.arraycopy(branch.keys, leftIndex + 2, branch.keys, leftIndex + 1, moved);
+            System.arraycopy(branch.children, leftIndex + 2, branch.children, leftIndex + 1, moved);
+            System.arraycopy(branch.counts, leftIndex + 2, branch.counts, leftIndex + 1, moved);
+            branch.size--;
+            branch.keys[branch.size] = null;
+            branch.children[branch.size] = null;
+        }
+        else
+        {
+            int leftSize = total / 2;
+            if (left.size > leftSize)
+            {
+                int moved = left.size - leftSize;
+                this.ensureCapacity(right, right.size + moved);
+                this.copy(right, 0, right, moved, right.size);
+                this.copy(left, leftSize, right, 0, moved);
+                this.clear(left, leftSize, left.size);
+            }
+            else
+            {
+                int moved = leftSize - left.size;
+                this.ensureCapacity(left, leftSize);
+                this.copy(right, 0, left, left.size, moved);
+                this.copy(right, moved, right, 0, right.size - moved);
+                this.clear(right, right.size - moved, right.size);
+            }
+            left.size = leftSize;
+            right.size = total - leftSize;
+            if (left instanceof Branch)
+            {
+                BPlusTree.recount((Branch) left);
+                BPlusTree.recount((Branch) right);
+            }
+            branch.counts[leftIndex] = (leftIndex == 0 ? 0 : branch.counts[leftIndex - 1]) + left.count();
+            branch.keys[leftIndex + 1] = right.keys[0];
+        }
+        branch.keys[leftIndex] = left.keys[0];
+    }
+
+    private static void recount(Branch branch)
+    {
+        int count = 0;
+        for (int i = 0; i < branch.size; i++)
+        {
+            count += branch.children[i].count();
+            branch.counts[i] = count;
+        }
+    }
+
+    private void ensureCapacity(Node node, int capacity)
+    {
+        if (node instanceof Leaf && node.keys.length < capacity)
+        {
+            Leaf leaf = (Leaf) node;
+            int newLength = Math.min(Math.max(capacity, leaf.keys.length * 2), LEAF_CAPACITY);
+            leaf.keys = Arrays.copyOf(leaf.keys, newLength);
+            leaf.payload = this.copyPayload((P) leaf.payload, newLength);
+        }
+    }
+
+    /**
+     * Copies the keys, and the payload slots or the children, of {@code length} entries from {@code source} to
+     * {@code target}, which may be the same node. Running totals of branches are left to the caller.
+     */
+    private void copy(Node source, int sourceIndex, Node target, int targetIndex, int length)
+    {
+        System.arraycopy(source.keys, sourceIndex, target.keys, targetIndex, length);
+        if (source instanceof Leaf)
+        {
+            System.arraycopy(((Leaf) source).payload, sourceIndex, ((Leaf) target).payload, targetIndex, length);
+        }
+        else
+        {
+            System.arraycopy(((Branch) source).children, sourceIndex, ((Branch) target).children, targetIndex, length);
+        }
+    }
+
+    private void clear(Node node, int fromIndex, int toIndex)
+    {
+        Arrays.fill(node.keys, fromIndex, toIndex, null);
+        if (node instanceof Leaf)
+        {
+            this.clearPayload((P) ((Leaf) node).payload, fromIndex, toIndex);
+        }
+        else
+        {
+            Arrays.fill(((Branch) node).children, fromIndex, toIndex, null);
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException
+    {
+        out.defaultWriteObject();
+        out.writeInt(this.size);
+        for (Cursor<K, P> cursor = this.cursor(0L); cursor.position < this.size; cursor.advance())
+        {
+            out.writeObject(cursor.key());
+            this.writePayload(out, cursor.payload(), cursor.offset);
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++)
+        {
+            Cursor<K, P> cursor = this.appendKey((K) in.readObject());
+            this.readPayload(in, cursor.payload(), cursor.offset);
+        }
+    }
+
+    /**
+     * A position in the tree together with the leaf slot which holds its key, so that reading the payload of a key
+     * found by a search, or walking forward from a position, does not descend from the root again. A cursor is only
+     * valid until a key is added to or removed from the tree, but payload slots may be written through it.
+     */
+    public static final class Cursor<K, P>
+    {
+        private Leaf leaf;
+        private int offset;
+        private long position;
+
+        private Cursor(Leaf leaf, int offset, long position)
+        {
+            this.leaf = leaf;
+            this.offset = offset;
+            this.position = position;
+        }
+
+        public long position()
+        {
+            return this.position;
+        }
+
+        public K key()
+        {
+            return (K) this.leaf.keys[this.offset];
+        }
+
+        /**
+         * Returns the payload array of the leaf, in which the slot of the key is {@link #offset()}.
+         */
+        public P payload()
+        {
+            return (P) this.leaf.payload;
+        }
+
+        public int offset()
+        {
+            return this.offset;
+        }
+
+        public void advance()
+        {
+            this.position++;
+            this.offset++;
+            if (this.offset == this.leaf.size)
+            {
+                this.leaf = this.leaf.next;
+                this.offset = 0;
+            }
+        }
+    }
+
+    private abstract static class Node
+    {
+        /**
+         * The keys of a leaf, or the first key of each child of a branch.
+         */
+        protected Object[] keys;
+
+        /**
+         * The number of keys of a leaf, or of children of a branch.
+         */
+        protected int size;
+
+        /**
+         * Returns the number of keys in the subtree of this node.
+         */
+        protected abstract int count();
+    }
+
+    private static final class Leaf extends Node
+    {
+        private Object payload;
+        private Leaf next;
+
+        private Leaf(Object[] keys, Object payload, int size)
+        {
+            this.keys = keys;
+            this.payload = payload;
+            this.size = size;
+        }
+
+        @Override
+        protected int count()
+        {
+            return this.size;
+        }
+    }
+
+    /**
+     * The arrays of a branch have room for one more child than its capacity, so that a child can be added before the
+     * branch is split.
+     */
+    private static final class Branch extends Node
+    {
+        private final Node[] children = new Node[BRANCH_CAPACITY + 1];
+
+        /**
+         * The running total of the number of keys in the subtrees of the children, from the first up to each child.
+         */
+        private final int[] counts = new int[BRANCH_CAPACITY + 1];
+
+        private Branch()
+        {
+            this.keys = new Object[BRANCH_CAPACITY + 1];
+        }
+
+        @Override
+        protected int count()
+        {
+            return this.counts[this.size - 1];
+        }
+    }
+}
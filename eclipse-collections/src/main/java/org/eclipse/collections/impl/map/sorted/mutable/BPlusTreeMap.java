@@ -0,0 +1,788 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.mutable;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.eclipse.collections.impl.map.sorted.mutable.BPlusTree.Cursor;
+
+/**
+ * BPlusTreeMap is a {@link SortedMap} stored in a {@link BPlusTree}. It is the backing store of {@link TreeSortedMap},
+ * and of {@link org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet} through
+ * {@link org.eclipse.collections.impl.set.sorted.mutable.BPlusTreeSet}.
+ * <p>
+ * Keys and values are kept in parallel leaf arrays of up to {@value BPlusTree#LEAF_CAPACITY} entries, under branches
+ * of up to {@value BPlusTree#BRANCH_CAPACITY} children. Compared to the red-black tree in {@link java.util.TreeMap},
+ * there is no node object per entry, a lookup binary searches one short array per level of a much shallower tree, and
+ * iteration walks contiguous arrays. Putting a key greater than every key already in the map appends it to the last
+ * leaf, so a map built from sorted input, including a copy of another SortedMap with the same comparator, fills every
+ * leaf completely.
+ * <p>
+ * {@link #headMap(Object)}, {@link #tailMap(Object)} and {@link #subMap(Object, Object)} return live views which share
+ * this map's storage, with the same range checks as the views of {@link java.util.TreeMap}. Iterators are fail-fast.
+ * Entries returned by {@link #entrySet()} are created on demand, so bulk traversals should prefer
+ * {@link #forEach(BiConsumer)}, which walks the leaves directly.
+ *
+ * @since 12.0
+ */
+public class BPlusTreeMap<K, V>
+        extends AbstractMap<K, V>
+        implements SortedMap<K, V>, Cloneable, Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Tree<K> tree;
+    private final boolean hasLowerBound;
+    private final K lowerBound;
+    private final boolean hasUpperBound;
+    private final K upperBound;
+
+    public BPlusTreeMap()
+    {
+        this((Comparator<? super K>) null);
+    }
+
+    public BPlusTreeMap(Comparator<? super K> comparator)
+    {
+        this(new Tree<>(comparator), false, null, false, null);
+    }
+
+    public BPlusTreeMap(Map<? extends K, ? extends V> map)
+    {
+        this((Comparator<? super K>) null);
+        this.putAll(map);
+    }
+
+    public BPlusTreeMap(SortedMap<K, ? extends V> map)
+    {
+        this(map.comparator());
+        this.appendAll(map);
+    }
+
+    private BPlusTreeMap(Tree<K> tree, boolean hasLowerBound, K lowerBound, boolean hasUpperBound, K upperBound)
+    {
+        this.tree = tree;
+        this.hasLowerBound = hasLowerBound;
+        this.lowerBound = lowerBound;
+        this.hasUpperBound = hasUpperBound;
+        this.upperBound = upperBound;
+    }
+
+    private boolean isTooLow(Object key)
+    {
+        return this.hasLowerBound && this.tree.compare(key, this.lowerBound) < 0;
+    }
+
+    private boolean isTooHigh(Object key)
+    {
+        return this.hasUpperBound && this.tree.compare(key, this.upperBound) >= 0;
+    }
+
+    private boolean isInRange(Object key)
+    {
+        return !this.isTooLow(key) && !this.isTooHigh(key);
+    }
+
+    private boolean isView()
+    {
+        return this.hasLowerBound || this.hasUpperBound;
+    }
+
+    private long startPosition()
+    {
+        return this.hasLowerBound ? this.tree.ceilingPosition(this.lowerBound) : 0L;
+    }
+
+    private long endPosition()
+    {
+        return this.hasUpperBound ? this.tree.ceilingPosition(this.upperBound) : this.tree.endPosition();
+    }
+
+    private Cursor<K, Object[]> startCursor()
+    {
+        return this.tree.cursor(this.startPosition());
+    }
+
+    private long find(Object key)
+    {
+        return this.isInRange(key) ? this.tree.find(key) : -1L;
+    }
+
+    private Cursor<K, Object[]> locate(Object key)
+    {
+        return this.isInRange(key) ? this.tree.locate(key) : null;
+    }
+
+    private void appendAll(Map<? extends K, ? extends V> sortedMap)
+    {
+        if (sortedMap instanceof BPlusTreeMap<?, ?>)
+        {
+            ((BPlusTreeMap<? extends K, ? extends V>) sortedMap).forEach(this.tree::append);
+        }
+        else
+        {
+            for (Entry<? extends K, ? extends V> entry : sortedMap.entrySet())
+            {
+                this.tree.append(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public int size()
+    {
+        return this.isView() ? this.tree.sizeBetween(this.startPosition(), this.endPosition()) : this.tree.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.startPosition() >= this.endPosition();
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.find(key) >= 0L;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        long end = this.endPosition();
+        for (Cursor<K, Object[]> cursor = this.startCursor(); cursor.position() < end; cursor.advance())
+        {
+            if (Objects.equals(value, Tree.valueAt(cursor)))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        Cursor<K, Object[]> cursor = this.locate(key);
+        return cursor == null ? null : (V) Tree.valueAt(cursor);
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        if (!this.isInRange(key))
+        {
+            throw new IllegalArgumentException("key out of range");
+        }
+        return (V) this.tree.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        if (!this.isView()
+                && this.tree.isEmpty()
+                && map instanceof SortedMap<?, ?>
+                && Objects.equals(this.tree.comparator(), ((SortedMap<?, ?>) map).comparator()))
+        {
+            this.appendAll(map);
+        }
+        else
+        {
+            super.putAll(map);
+        }
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        Cursor<K, Object[]> cursor = this.locate(key);
+        if (cursor == null)
+        {
+            return null;
+        }
+        V previous = (V) Tree.valueAt(cursor);
+        this.tree.removeAt(cursor.position());
+        return previous;
+    }
+
+    @Override
+    public void clear()
+    {
+        if (!this.isView())
+        {
+            this.tree.clear();
+            return;
+        }
+        Iterator<K> iterator = new KeyIterator();
+        while (iterator.hasNext())
+        {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    @Override
+    public Comparator<? super K> comparator()
+    {
+        return this.tree.comparator();
+    }
+
+    @Override
+    public K firstKey()
+    {
+        long start = this.startPosition();
+        if (start >= this.endPosition())
+        {
+            throw new NoSuchElementException();
+        }
+        return this.tree.keyAt(start);
+    }
+
+    @Override
+    public K lastKey()
+    {
+        long end = this.endPosition();
+        if (this.startPosition() >= end)
+        {
+            throw new NoSuchElementException();
+        }
+        return this.tree.keyAt(end - 1L);
+    }
+
+    @Override
+    public BPlusTreeMap<K, V> headMap(K toKey)
+    {
+        if (this.isTooLow(toKey) || (this.hasUpperBound && this.tree.compare(toKey, this.upperBound) > 0))
+        {
+            throw new IllegalArgumentException("toKey out of range");
+        }
+        return new BPlusTreeMap<>(this.tree, this.hasLowerBound, this.lowerBound, true, toKey);
+    }
+
+    @Override
+    public BPlusTreeMap<K, V> tailMap(K fromKey)
+    {
+        if (this.isTooLow(fromKey) || (this.hasUpperBound && this.tree.compare(fromKey, this.upperBound) > 0))
+        {
+            throw new IllegalArgumentException("fromKey out of range");
+        }
+        return new BPlusTreeMap<>(this.tree, true, fromKey, this.hasUpperBound, this.upperBound);
+    }
+
+    @Override
+    public BPlusTreeMap<K, V> subMap(K fromKey, K toKey)
+    {
+        if (this.tree.compare(fromKey, toKey) > 0)
+        {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        if (this.isTooLow(fromKey) || (this.hasUpperBound && this.tree.compare(fromKey, this.upperBound) > 0))
+        {
+            throw new IllegalArgumentException("fromKey out of range");
+        }
+        if (this.hasUpperBound && this.tree.compare(toKey, this.upperBound) > 0)
+        {
+            throw new IllegalArgumentException("toKey out of range");
+        }
+        return new BPlusTreeMap<>(this.tree, true, fromKey, true, toKey);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action)
+    {
+        long end = this.endPosition();
+        for (Cursor<K, Object[]> cursor = this.startCursor(); cursor.position() < end; cursor.advance())
+        {
+            action.accept(cursor.key(), (V) Tree.valueAt(cursor));
+        }
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new Values();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public BPlusTreeMap<K, V> clone()
+    {
+        return new BPlusTreeMap<>(this);
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+        try
+        {
+            long end = this.endPosition();
+            for (Cursor<K, Object[]> cursor = this.startCursor(); cursor.position() < end; cursor.advance())
+            {
+                Object key = cursor.key();
+                Object value = Tree.valueAt(cursor);
+                if (value == null ? other.get(key) != null || !other.containsKey(key) : !value.equals(other.get(key)))
+                {
+                    return false;
+                }
+            }
+        }
+        catch (ClassCastException | NullPointerException ignored)
+        {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = 0;
+        long end = this.endPosition();
+        for (Cursor<K, Object[]> cursor = this.startCursor(); cursor.position() < end; cursor.advance())
+        {
+            result += Objects.hashCode(cursor.key()) ^ Objects.hashCode(Tree.valueAt(cursor));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("{");
+        long start = this.startPosition();
+        long end = this.endPosition();
+        for (Cursor<K, Object[]> cursor = this.tree.cursor(start); cursor.position() < end; cursor.advance())
+        {
+            if (cursor.position() != start)
+            {
+                builder.append(", ");
+            }
+            Object key = cursor.key();
+            Object value = Tree.valueAt(cursor);
+            builder.append(key == this ? "(this Map)" : key).append('=').append(value == this ? "(this Map)" : value);
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * The storage shared by a map and its range views, with the values in an {@code Object[]} payload per leaf.
+     */
+    private static final class Tree<K>
+            extends BPlusTree<K, Object[]>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private Tree(Comparator<? super K> comparator)
+        {
+            super(comparator);
+        }
+
+        @Override
+        protected Object[] newPayload(int length)
+        {
+            return new Object[length];
+        }
+
+        @Override
+        protected Object[] copyPayload(Object[] payload, int length)
+        {
+            return Arrays.copyOf(payload, length);
+        }
+
+        @Override
+        protected void clearPayload(Object[] payload, int fromIndex, int toIndex)
+        {
+            Arrays.fill(payload, fromIndex, toIndex, null);
+        }
+
+        @Override
+        protected void writePayload(ObjectOutputStream out, Object[] payload, int offset) throws IOException
+        {
+            out.writeObject(payload[offset]);
+        }
+
+        @Override
+        protected void readPayload(ObjectInputStream in, Object[] payload, int offset) throws IOException, ClassNotFoundException
+        {
+            payload[offset] = in.readObject();
+        }
+
+        private static Object valueAt(Cursor<?, Object[]> cursor)
+        {
+            return cursor.payload()[cursor.offset()];
+        }
+
+        private static void setValueAt(Cursor<?, Object[]> cursor, Object value)
+        {
+            cursor.payload()[cursor.offset()] = value;
+        }
+
+        private Object put(K key, Object value)
+        {
+            long position = this.searchForInsert(key);
+            if (position >= 0L)
+            {
+                Cursor<K, Object[]> cursor = this.cursor(position);
+                Object previous = Tree.valueAt(cursor);
+                Tree.setValueAt(cursor, value);
+                return previous;
+            }
+            Tree.setValueAt(this.insertKey(-position - 1L, key), value);
+            return null;
+        }
+
+        private void append(K key, Object value)
+        {
+            Tree.setValueAt(this.appendKey(key), value);
+        }
+    }
+
+    private abstract class TreeIterator<T> implements Iterator<T>
+    {
+        private Cursor<K, Object[]> cursor = BPlusTreeMap.this.startCursor();
+        private Object lastKey;
+        private boolean canRemove;
+        private int expectedModCount = BPlusTreeMap.this.tree.modCount();
+
+        /**
+         * Returns the element of the entry at {@code cursor}.
+         */
+        protected abstract T valueOf(Cursor<K, Object[]> cursor);
+
+        @Override
+        public boolean hasNext()
+        {
+            Tree<K> tree = BPlusTreeMap.this.tree;
+            return this.cursor.position() < tree.endPosition() && !BPlusTreeMap.this.isTooHigh(this.cursor.key());
+        }
+
+        @Override
+        public T next()
+        {
+            Tree<K> tree = BPlusTreeMap.this.tree;
+            if (tree.modCount() != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            T result = this.valueOf(this.cursor);
+            this.lastKey = this.cursor.key();
+            this.cursor.advance();
+            this.canRemove = true;
+            return result;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            Tree<K> tree = BPlusTreeMap.this.tree;
+            if (tree.modCount() != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            this.cursor = tree.cursor(tree.removeAt(tree.find(this.lastKey)));
+            this.expectedModCount = tree.modCount();
+            this.canRemove = false;
+        }
+    }
+
+    private final class KeyIterator extends TreeIterator<K>
+    {
+        @Override
+        protected K valueOf(Cursor<K, Object[]> cursor)
+        {
+            return cursor.key();
+        }
+    }
+
+    private final class ValueIterator extends TreeIterator<V>
+    {
+        @Override
+        protected V valueOf(Cursor<K, Object[]> cursor)
+        {
+            return (V) Tree.valueAt(cursor);
+        }
+    }
+
+    private final class EntryIterator extends TreeIterator<Entry<K, V>>
+    {
+        @Override
+        protected Entry<K, V> valueOf(Cursor<K, Object[]> cursor)
+        {
+            return new TreeEntry(cursor.key(), (V) Tree.valueAt(cursor));
+        }
+    }
+
+    private final class TreeEntry implements Entry<K, V>
+    {
+        private final K key;
+        private V value;
+
+        private TreeEntry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        @Override
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            Cursor<K, Object[]> cursor = BPlusTreeMap.this.tree.locate(this.key);
+            if (cursor == null)
+            {
+                throw new IllegalStateException("Entry was removed from the map");
+            }
+            V previous = this.value;
+            Tree.setValueAt(cursor, value);
+            this.value = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object object)
+        {
+            if (!(object instanceof Entry))
+            {
+                return false;
+            }
+            Entry<?, ?> other = (Entry<?, ?>) object;
+            return Objects.equals(this.key, other.getKey()) && Objects.equals(this.value, other.getValue());
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hashCode(this.key) ^ Objects.hashCode(this.value);
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeyIterator();
+        }
+
+        @Override
+        public void forEach(Consumer<? super K> action)
+        {
+            long end = BPlusTreeMap.this.endPosition();
+            for (Cursor<K, Object[]> cursor = BPlusTreeMap.this.startCursor(); cursor.position() < end; cursor.advance())
+            {
+                action.accept(cursor.key());
+            }
+        }
+
+        @Override
+        public int size()
+        {
+            return BPlusTreeMap.this.size();
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return BPlusTreeMap.this.isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return BPlusTreeMap.this.containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            long position = BPlusTreeMap.this.find(o);
+            if (position < 0L)
+            {
+                return false;
+            }
+            BPlusTreeMap.this.tree.removeAt(position);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            BPlusTreeMap.this.clear();
+        }
+    }
+
+    private final class Values extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValueIterator();
+        }
+
+        @Override
+        public void forEach(Consumer<? super V> action)
+        {
+            long end = BPlusTreeMap.this.endPosition();
+            for (Cursor<K, Object[]> cursor = BPlusTreeMap.this.startCursor(); cursor.position() < end; cursor.advance())
+            {
+                action.accept((V) Tree.valueAt(cursor));
+            }
+        }
+
+        @Override
+        public int size()
+        {
+            return BPlusTreeMap.this.size();
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return BPlusTreeMap.this.isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return BPlusTreeMap.this.containsValue(o);
+        }
+
+        @Override
+        public void clear()
+        {
+            BPlusTreeMap.this.clear();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return BPlusTreeMap.this.size();
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return BPlusTreeMap.this.isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Entry))
+            {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            Cursor<K, Object[]> cursor = BPlusTreeMap.this.locate(entry.getKey());
+            return cursor != null && Objects.equals(Tree.valueAt(cursor), entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            if (!(o instanceof Entry))
+            {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            Cursor<K, Object[]> cursor = BPlusTreeMap.this.locate(entry.getKey());
+            if (cursor != null && Objects.equals(Tree.valueAt(cursor), entry.getValue()))
+            {
+                BPlusTreeMap.this.tree.removeAt(cursor.position());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void clear()
+        {
+            BPlusTreeMap.this.clear();
+        }
+    }
+}
@@ -18,9 +18,9 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.SortedMap;
-import java.util.TreeMap;
 
 import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.collection.MutableCollection;
 import org.eclipse.collections.api.factory.SortedMaps;
@@ -34,44 +34,43 @@ import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
 import org.eclipse.collections.impl.collection.mutable.CollectionAdapter;
 import org.eclipse.collections.impl.set.mutable.SetAdapter;
 import org.eclipse.collections.impl.utility.ArrayIterate;
-import org.eclipse.collections.impl.utility.MapIterate;
 
 public class TreeSortedMap<K, V>
         extends AbstractMutableSortedMap<K, V>
         implements Externalizable
 {
     private static final long serialVersionUID = 1L;
-    private TreeMap<K, V> treeMap;
+    private BPlusTreeMap<K, V> treeMap;
 
     public TreeSortedMap()
     {
-        this.treeMap = new TreeMap<>();
+        this.treeMap = new BPlusTreeMap<>();
     }
 
     public TreeSortedMap(Comparator<? super K> comparator)
     {
-        this.treeMap = new TreeMap<>(comparator);
+        this.treeMap = new BPlusTreeMap<>(comparator);
     }
 
     public TreeSortedMap(Map<? extends K, ? extends V> map)
     {
-        this.treeMap = new TreeMap<>(map);
+        this.treeMap = new BPlusTreeMap<>(map);
     }
 
     public TreeSortedMap(Comparator<? super K> comparator, Map<? extends K, ? extends V> map)
     {
-        this.treeMap = new TreeMap<>(comparator);
+        this.treeMap = new BPlusTreeMap<>(comparator);
         this.treeMap.putAll(map);
     }
 
     public TreeSortedMap(SortedMap<K, ? extends V> map)
     {
-        this.treeMap = new TreeMap<>(map);
+        this.treeMap = new BPlusTreeMap<>(map);
     }
 
     public TreeSortedMap(Pair<K, V>... pairs)
     {
-        this.treeMap = new TreeMap<>();
+        this.treeMap = new BPlusTreeMap<>();
         ArrayIterate.forEach(pairs, new MapCollectProcedure<Pair<K, V>, K, V>(
                 this.treeMap,
                 Functions.firstOfPair(),
@@ -237,7 +236,19 @@ public class TreeSortedMap<K, V>
     @Override
     public void forEachKeyValue(Procedure2<? super K, ? super V> procedure2)
     {
-        MapIterate.forEachKeyValue(this.treeMap, procedure2);
+        this.treeMap.forEach(procedure2);
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.treeMap.keySet().forEach(procedure);
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.treeMap.values().forEach(procedure);
     }
 
     @Override
@@ -438,7 +449,7 @@ public class TreeSortedMap<K, V>
     @Override
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
     {
-        this.treeMap = new TreeMap<>((Comparator<? super K>) in.readObject());
+        this.treeMap = new BPlusTreeMap<>((Comparator<? super K>) in.readObject());
         int size = in.readInt();
         for (int i = 0; i < size; ++i)
         {
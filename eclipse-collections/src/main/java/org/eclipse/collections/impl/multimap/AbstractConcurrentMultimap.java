@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.MutableMultimap;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A Multimap which can be read and written from many threads without a global lock. The keys are held in a lock-free
+ * {@link org.eclipse.collections.impl.map.mutable.ConcurrentHashMap}, and every value collection is thread-safe and
+ * is its own lock. Writes to different keys therefore never block each other, and writes to the same key are
+ * serialized by the lock of that key's collection alone.
+ * <p>
+ * A collection is only ever modified while it is the live mapping of its key. Once the last value of a key has been
+ * removed, its collection is unmapped under the same lock, and writers which were waiting for that lock retry with a
+ * new collection, so no value is ever added to a collection which is no longer in the map.
+ */
+public abstract class AbstractConcurrentMultimap<K, V, C extends MutableCollection<V>> extends AbstractSynchronizedPutMultimap<K, V, C>
+{
+    protected AbstractConcurrentMultimap()
+    {
+    }
+
+    protected AbstractConcurrentMultimap(MutableMap<K, C> newMap)
+    {
+        super(newMap);
+    }
+
+    private C getIfAbsentPutCollection(K key)
+    {
+        return this.map.getIfAbsentPutWith(key, this.createCollectionBlock(), this);
+    }
+
+    private boolean isLive(Object key, C collection)
+    {
+        return this.map.get(key) == collection;
+    }
+
+    @Override
+    public boolean put(K key, V value)
+    {
+        while (true)
+        {
+            C collection = this.getIfAbsentPutCollection(key);
+            synchronized (collection)
+            {
+                if (this.isLive(key, collection))
+                {
+                    if (collection.add(value))
+                    {
+                        this.incrementTotalSize();
+                        return true;
+                    }
+                    return false;
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean putAll(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return false;
+        }
+        while (true)
+        {
+            C collection = this.getIfAbsentPutCollection(key);
+            synchronized (collection)
+            {
+                if (this.isLive(key, collection))
+                {
+                    int oldSize = collection.size();
+                    int newSize = Iterate.addAllTo(values, collection).size();
+                    this.addToTotalSize(newSize - oldSize);
+                    return newSize > oldSize;
+                }
+            }
+        }
+    }
+
+    @Override
+    public MutableMultimap<K, V> withKeyMultiValues(K key, V... values)
+    {
+        Objects.requireNonNull(values);
+        this.putAll(key, Arrays.asList(values));
+        return this;
+    }
+
+    @Override
+    public C getIfAbsentPutAll(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return this.get(key);
+        }
+        while (true)
+        {
+            C collection = this.getIfAbsentPutCollection(key);
+            synchronized (collection)
+            {
+                if (this.isLive(key, collection))
+                {
+                    if (collection.isEmpty())
+                    {
+                        int newSize = Iterate.addAllTo(values, collection).size();
+                        this.addToTotalSize(newSize);
+                    }
+                    return (C) collection.asUnmodifiable();
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(Object key, Object value)
+    {
+        while (true)
+        {
+            C collection = this.map.get(key);
+            if (collection == null)
+            {
+                return false;
+            }
+            synchronized (collection)
+            {
+                if (this.isLive(key, collection))
+                {
+                    if (!collection.remove(value))
+                    {
+                        return false;
+                    }
+                    this.decrementTotalSize();
+                    if (collection.isEmpty())
+                    {
+                        this.map.remove(key);
+                    }
+                    return true;
+                }
+            }
+        }
+    }
+
+    @Override
+    public C removeAll(Object key)
+    {
+        while (true)
+        {
+            C collection = this.map.get(key);
+            if (collection == null)
+            {
+                return (C) this.createCollection().asUnmodifiable();
+            }
+            synchronized (collection)
+            {
+                if (this.isLive(key, collection))
+                {
+                    this.map.remove(key);
+                    this.subtractFromTotalSize(collection.size());
+                    return (C) collection.asUnmodifiable();
+                }
+            }
+        }
+    }
+
+    @Override
+    public C replaceValues(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return this.removeAll(key);
+        }
+
+        C newValues = Iterate.addAllTo(values, this.createCollection());
+        while (true)
+        {
+            C oldValues = this.map.getIfAbsentPut(key, newValues);
+            if (oldValues == newValues)
+            {
+                this.addToTotalSize(newValues.size());
+                return (C) this.createCollection().asUnmodifiable();
+            }
+            synchronized (oldValues)
+            {
+                if (this.isLive(key, oldValues))
+                {
+                    this.map.put(key, newValues);
+                    this.addToTotalSize(newValues.size() - oldValues.size());
+                    return (C) oldValues.asUnmodifiable();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        // Clear each collection, to make previously returned collections empty.
+        this.map.forEachKeyValue((key, collection) ->
+        {
+            synchronized (collection)
+            {
+                if (this.isLive(key, collection))
+                {
+                    this.map.remove(key);
+                    this.subtractFromTotalSize(collection.size());
+                    collection.clear();
+                }
+            }
+        });
+    }
+}
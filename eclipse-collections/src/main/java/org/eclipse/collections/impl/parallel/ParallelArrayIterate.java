@@ -11,6 +11,7 @@
 package org.eclipse.collections.impl.parallel;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.impl.utility.ArrayIterate;
@@ -68,7 +69,14 @@ public final class ParallelArrayIterate
             else
             {
                 int threadCount = Math.min(size, taskCount);
-                new ArrayProcedureFJTaskRunner<>(combiner, threadCount).executeAndCombine(executor, procedureFactory, array);
+                if (executor instanceof ForkJoinPool)
+                {
+                    new ProcedureForkJoinTaskRunner<T, BT>(combiner, threadCount).executeAndCombine((ForkJoinPool) executor, procedureFactory, array);
+                }
+                else
+                {
+                    new ArrayProcedureFJTaskRunner<>(combiner, threadCount).executeAndCombine(executor, procedureFactory, array);
+                }
             }
         }
     }
@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.RandomAccess;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -63,6 +64,11 @@ import static org.eclipse.collections.impl.factory.Iterables.iList;
  * <p>
  * All Collections that are not either a {@link RandomAccess} or {@link List} are first converted to a Java array
  * using {@link Iterate#toArray(Iterable)}, and then run with one of the {@code ParallelArrayIterate.forEach} methods.
+ * <p>
+ * By default each batch is submitted to the executor as a separate task and the results are combined on the calling
+ * thread. When the executor passed to any method is a {@link ForkJoinPool}, the batches are instead split recursively
+ * and balanced by work stealing, and the results are combined as the tasks complete, which keeps every worker busy
+ * when a few batches take much longer than the others. See {@link ProcedureForkJoinTaskRunner}.
  *
  * @see ParallelArrayIterate
  */
@@ -471,9 +477,18 @@ public final class ParallelIterate
         else
         {
             int threadCount = Math.min(size, taskCount);
-            ProcedureFJTaskRunner<T, BT> runner =
-                    new ProcedureFJTaskRunner<>(combiner, threadCount);
-            runner.executeAndCombine(executor, procedureFactory, list);
+            if (executor instanceof ForkJoinPool)
+            {
+                ProcedureForkJoinTaskRunner<T, BT> runner =
+                        new ProcedureForkJoinTaskRunner<>(combiner, threadCount);
+                runner.executeAndCombine((ForkJoinPool) executor, procedureFactory, list);
+            }
+            else
+            {
+                ProcedureFJTaskRunner<T, BT> runner =
+                        new ProcedureFJTaskRunner<>(combiner, threadCount);
+                runner.executeAndCombine(executor, procedureFactory, list);
+            }
         }
     }
 
@@ -502,9 +517,18 @@ public final class ParallelIterate
         else
         {
             int threadCount = Math.min(size, Math.min(taskCount, set.getBatchCount((int) Math.ceil((double) size / (double) taskCount))));
-            BatchIterableProcedureFJTaskRunner<T, BT> runner =
-                    new BatchIterableProcedureFJTaskRunner<>(combiner, threadCount);
-            runner.executeAndCombine(executor, procedureFactory, set);
+            if (executor instanceof ForkJoinPool)
+            {
+                ProcedureForkJoinTaskRunner<T, BT> runner =
+                        new ProcedureForkJoinTaskRunner<>(combiner, threadCount);
+                runner.executeAndCombine((ForkJoinPool) executor, procedureFactory, set);
+            }
+            else
+            {
+                BatchIterableProcedureFJTaskRunner<T, BT> runner =
+                        new BatchIterableProcedureFJTaskRunner<>(combiner, threadCount);
+                runner.executeAndCombine(executor, procedureFactory, set);
+            }
         }
     }
 
@@ -1216,6 +1240,20 @@ public final class ParallelIterate
             Iterable<T> iterable,
             Function<? super T, ? extends V> groupBy,
             DoubleFunction<? super T> function)
+    {
+        return ParallelIterate.sumByDouble(iterable, groupBy, function, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Same as {@link #sumByDouble(Iterable, Function, DoubleFunction)}, but executed on the specified executor.
+     *
+     * @since 12.0
+     */
+    public static <T, V> ObjectDoubleMap<V> sumByDouble(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            DoubleFunction<? super T> function,
+            Executor executor)
     {
         MutableObjectDoubleMap<V> result = ObjectDoubleMaps.mutable.empty();
         ParallelIterate.forEach(
@@ -1223,7 +1261,7 @@ public final class ParallelIterate
                 new SumByDoubleProcedure<>(groupBy, function),
                 new SumByDoubleCombiner<>(result),
                 ParallelIterate.DEFAULT_MIN_FORK_SIZE,
-                ParallelIterate.EXECUTOR_SERVICE);
+                executor);
         return result;
     }
 
@@ -1231,6 +1269,20 @@ public final class ParallelIterate
             Iterable<T> iterable,
             Function<? super T, ? extends V> groupBy,
             FloatFunction<? super T> function)
+    {
+        return ParallelIterate.sumByFloat(iterable, groupBy, function, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Same as {@link #sumByFloat(Iterable, Function, FloatFunction)}, but executed on the specified executor.
+     *
+     * @since 12.0
+     */
+    public static <T, V> ObjectDoubleMap<V> sumByFloat(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            FloatFunction<? super T> function,
+            Executor executor)
     {
         MutableObjectDoubleMap<V> result = ObjectDoubleMaps.mutable.empty();
         ParallelIterate.forEach(
@@ -1238,7 +1290,7 @@ public final class ParallelIterate
                 new SumByFloatProcedure<>(groupBy, function),
                 new SumByFloatCombiner<>(result),
                 ParallelIterate.DEFAULT_MIN_FORK_SIZE,
-                ParallelIterate.EXECUTOR_SERVICE);
+                executor);
         return result;
     }
 
@@ -1246,6 +1298,20 @@ public final class ParallelIterate
             Iterable<T> iterable,
             Function<? super T, ? extends V> groupBy,
             LongFunction<? super T> function)
+    {
+        return ParallelIterate.sumByLong(iterable, groupBy, function, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Same as {@link #sumByLong(Iterable, Function, LongFunction)}, but executed on the specified executor.
+     *
+     * @since 12.0
+     */
+    public static <T, V> ObjectLongMap<V> sumByLong(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            LongFunction<? super T> function,
+            Executor executor)
     {
         MutableObjectLongMap<V> result = ObjectLongMaps.mutable.empty();
         ParallelIterate.forEach(
@@ -1253,7 +1319,7 @@ public final class ParallelIterate
                 new SumByLongProcedure<>(groupBy, function),
                 new SumByLongCombiner<>(result),
                 ParallelIterate.DEFAULT_MIN_FORK_SIZE,
-                ParallelIterate.EXECUTOR_SERVICE);
+                executor);
         return result;
     }
 
@@ -1261,6 +1327,20 @@ public final class ParallelIterate
             Iterable<T> iterable,
             Function<? super T, ? extends V> groupBy,
             IntFunction<? super T> function)
+    {
+        return ParallelIterate.sumByInt(iterable, groupBy, function, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Same as {@link #sumByInt(Iterable, Function, IntFunction)}, but executed on the specified executor.
+     *
+     * @since 12.0
+     */
+    public static <T, V> ObjectLongMap<V> sumByInt(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            IntFunction<? super T> function,
+            Executor executor)
     {
         MutableObjectLongMap<V> result = ObjectLongMaps.mutable.empty();
         ParallelIterate.forEach(
@@ -1268,7 +1348,7 @@ public final class ParallelIterate
                 new SumByIntProcedure<>(groupBy, function),
                 new SumByIntCombiner<>(result),
                 ParallelIterate.DEFAULT_MIN_FORK_SIZE,
-                ParallelIterate.EXECUTOR_SERVICE);
+                executor);
         return result;
     }
 
@@ -1279,6 +1359,20 @@ public final class ParallelIterate
             Iterable<T> iterable,
             Function<? super T, ? extends V> groupBy,
             Function<? super T, BigDecimal> function)
+    {
+        return ParallelIterate.sumByBigDecimal(iterable, groupBy, function, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Same as {@link #sumByBigDecimal(Iterable, Function, Function)}, but executed on the specified executor.
+     *
+     * @since 12.0
+     */
+    public static <V, T> MutableMap<V, BigDecimal> sumByBigDecimal(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            Function<? super T, BigDecimal> function,
+            Executor executor)
     {
         MutableMap<V, BigDecimal> result = Maps.mutable.empty();
         ParallelIterate.forEach(
@@ -1286,7 +1380,7 @@ public final class ParallelIterate
                 new SumByBigDecimalProcedure<>(groupBy, function),
                 new SumByBigDecimalCombiner<>(result),
                 ParallelIterate.DEFAULT_MIN_FORK_SIZE,
-                ParallelIterate.EXECUTOR_SERVICE);
+                executor);
         return result;
     }
 
@@ -1297,6 +1391,20 @@ public final class ParallelIterate
             Iterable<T> iterable,
             Function<? super T, ? extends V> groupBy,
             Function<? super T, BigInteger> function)
+    {
+        return ParallelIterate.sumByBigInteger(iterable, groupBy, function, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Same as {@link #sumByBigInteger(Iterable, Function, Function)}, but executed on the specified executor.
+     *
+     * @since 12.0
+     */
+    public static <V, T> MutableMap<V, BigInteger> sumByBigInteger(
+            Iterable<T> iterable,
+            Function<? super T, ? extends V> groupBy,
+            Function<? super T, BigInteger> function,
+            Executor executor)
     {
         MutableMap<V, BigInteger> result = Maps.mutable.empty();
         ParallelIterate.forEach(
@@ -1304,7 +1412,7 @@ public final class ParallelIterate
                 new SumByBigIntegerProcedure<>(groupBy, function),
                 new SumByBigIntegerCombiner<>(result),
                 ParallelIterate.DEFAULT_MIN_FORK_SIZE,
-                ParallelIterate.EXECUTOR_SERVICE);
+                executor);
         return result;
     }
 
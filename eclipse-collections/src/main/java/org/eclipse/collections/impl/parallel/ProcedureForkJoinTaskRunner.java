@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.ArrayListIterate;
+import org.eclipse.collections.impl.utility.ListIterate;
+
+/**
+ * Runs the sections of a list, array or {@link BatchIterable} as a tree of tasks on a {@link ForkJoinPool}. Each task
+ * splits its range of sections in half, forks one half and runs the other, so a worker that finishes early steals
+ * an unstarted half from a busy one instead of sitting idle while a few heavy sections finish.
+ * <p>
+ * Results are combined in the tree rather than on the calling thread. A combiner which uses
+ * {@link Combiner#combineOne(Object)} is called by the worker that finished each section, holding the combiner's
+ * monitor. For any other combiner the procedures are concatenated in section order as the tree completes and passed to
+ * {@link Combiner#combineAll(Iterable)} once, so ordered results stay ordered.
+ *
+ * @see ParallelIterate
+ * @since 12.0
+ */
+public final class ProcedureForkJoinTaskRunner<T, BT extends Procedure<? super T>>
+{
+    private final Combiner<BT> combiner;
+    private final int taskCount;
+
+    public ProcedureForkJoinTaskRunner(Combiner<BT> newCombiner, int taskCount)
+    {
+        this.combiner = newCombiner;
+        this.taskCount = taskCount;
+    }
+
+    public void executeAndCombine(ForkJoinPool pool, ProcedureFactory<BT> procedureFactory, List<T> list)
+    {
+        int size = list.size();
+        int sectionSize = size / this.taskCount;
+        this.executeAndCombine(pool, procedureFactory, (index, procedure) ->
+        {
+            int start = index * sectionSize;
+            int end = index == this.taskCount - 1 ? size : start + sectionSize;
+            ProcedureForkJoinTaskRunner.forEach(list, start, end - 1, procedure);
+        });
+    }
+
+    public void executeAndCombine(ForkJoinPool pool, ProcedureFactory<BT> procedureFactory, T[] array)
+    {
+        int sectionSize = array.length / this.taskCount;
+        this.executeAndCombine(pool, procedureFactory, (index, procedure) ->
+        {
+            int start = index * sectionSize;
+            int end = index == this.taskCount - 1 ? array.length : start + sectionSize;
+            ArrayIterate.forEach(array, start, end - 1, procedure);
+        });
+    }
+
+    public void executeAndCombine(ForkJoinPool pool, ProcedureFactory<BT> procedureFactory, BatchIterable<T> iterable)
+    {
+        this.executeAndCombine(pool, procedureFactory, (index, procedure) -> iterable.batchForEach(procedure, index, this.taskCount));
+    }
+
+    private void executeAndCombine(ForkJoinPool pool, ProcedureFactory<BT> procedureFactory, Section<BT> section)
+    {
+        FastList<BT> procedures;
+        try
+        {
+            procedures = pool.invoke(new SectionTask(procedureFactory, section, 0, this.taskCount));
+        }
+        catch (Throwable error)
+        {
+            throw new RuntimeException("One or more parallel tasks failed", error);
+        }
+        if (!this.combiner.useCombineOne())
+        {
+            this.combiner.combineAll(procedures);
+        }
+    }
+
+    private static <T> void forEach(List<T> list, int from, int to, Procedure<? super T> procedure)
+    {
+        if (list instanceof ListIterable)
+        {
+            ((ListIterable<T>) list).forEach(from, to, procedure);
+        }
+        else if (list instanceof ArrayList)
+        {
+            ArrayListIterate.forEach((ArrayList<T>) list, from, to, procedure);
+        }
+        else
+        {
+            ListIterate.forEach(list, from, to, procedure);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Section<BT>
+    {
+        void forEach(int index, BT procedure);
+    }
+
+    private final class SectionTask extends RecursiveTask<FastList<BT>>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final ProcedureFactory<BT> procedureFactory;
+        private final Section<BT> section;
+        private final int from;
+        private final int to;
+
+        private SectionTask(ProcedureFactory<BT> procedureFactory, Section<BT> section, int from, int to)
+        {
+            this.procedureFactory = procedureFactory;
+            this.section = section;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected FastList<BT> compute()
+        {
+            if (this.to - this.from == 1)
+            {
+                return this.computeSection();
+            }
+            int middle = (this.from + this.to) >>> 1;
+            SectionTask left = new SectionTask(this.procedureFactory, this.section, this.from, middle);
+            left.fork();
+            FastList<BT> right = new SectionTask(this.procedureFactory, this.section, middle, this.to).compute();
+            FastList<BT> result = left.join();
+            result.addAll(right);
+            return result;
+        }
+
+        private FastList<BT> computeSection()
+        {
+            BT procedure = this.procedureFactory.create();
+            this.section.forEach(this.from, procedure);
+            Combiner<BT> localCombiner = ProcedureForkJoinTaskRunner.this.combiner;
+            if (localCombiner.useCombineOne())
+            {
+                synchronized (localCombiner)
+                {
+                    localCombiner.combineOne(procedure);
+                }
+                return FastList.newList(0);
+            }
+            return FastList.newListWith(procedure);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.impl.map.immutable.ImmutableHashTrieMap;
+
+/**
+ * An ImmutableHashTrieSet is a persistent set stored as the keys of an {@link ImmutableHashTrieMap}, so
+ * {@link #newWith(Object)} and {@link #newWithout(Object)} copy one trie node per level instead of the whole set, and
+ * equality between two ImmutableHashTrieSets skips every sub-trie they share.
+ * <p>
+ * ImmutableUnifiedSet switches to this representation when it is updated with at least
+ * {@link ImmutableHashTrieMap#CONVERSION_THRESHOLD} elements.
+ *
+ * @since 12.0
+ */
+final class ImmutableHashTrieSet<T>
+        extends AbstractImmutableSet<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final ImmutableHashTrieMap<T, Boolean> delegate;
+
+    private ImmutableHashTrieSet(ImmutableHashTrieMap<T, Boolean> delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    static <T> ImmutableHashTrieSet<T> newSet(Iterable<? extends T> iterable)
+    {
+        ImmutableHashTrieSet<T> result = new ImmutableHashTrieSet<>(ImmutableHashTrieMap.empty());
+        for (T each : iterable)
+        {
+            result = result.newWith(each);
+        }
+        return result;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.delegate.size();
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.delegate.containsKey(object);
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.delegate.getFirstKey();
+    }
+
+    @Override
+    public T getLast()
+    {
+        return this.delegate.getLastKey();
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWith(T element)
+    {
+        ImmutableHashTrieMap<T, Boolean> newDelegate =
+                (ImmutableHashTrieMap<T, Boolean>) this.delegate.newWithKeyValue(element, Boolean.TRUE);
+        return newDelegate == this.delegate ? this : new ImmutableHashTrieSet<>(newDelegate);
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWithout(T element)
+    {
+        ImmutableHashTrieMap<T, Boolean> newDelegate =
+                (ImmutableHashTrieMap<T, Boolean>) this.delegate.newWithoutKey(element);
+        return newDelegate == this.delegate ? this : new ImmutableHashTrieSet<>(newDelegate);
+    }
+
+    @Override
+    public ImmutableSet<T> newWithAll(Iterable<? extends T> elements)
+    {
+        ImmutableHashTrieSet<T> result = this;
+        for (T each : elements)
+        {
+            result = result.newWith(each);
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableSet<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        ImmutableHashTrieSet<T> result = this;
+        for (T each : elements)
+        {
+            result = result.newWithout(each);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (other == this)
+        {
+            return true;
+        }
+        if (other instanceof ImmutableHashTrieSet<?>)
+        {
+            return this.delegate.equals(((ImmutableHashTrieSet<?>) other).delegate);
+        }
+        if (!(other instanceof Set))
+        {
+            return false;
+        }
+        Set<?> set = (Set<?>) other;
+        return this.size() == set.size() && this.allSatisfy(set::contains);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int[] hashCode = {0};
+        this.delegate.forEachKey(each -> hashCode[0] += each == null ? 0 : each.hashCode());
+        return hashCode[0];
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return this.delegate.keysView().iterator();
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.delegate.forEachKey(procedure);
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableSetSerializationProxy<>(this);
+    }
+}
@@ -18,6 +18,7 @@ import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.set.ImmutableSet;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
 import org.eclipse.collections.impl.UnmodifiableIteratorAdapter;
+import org.eclipse.collections.impl.map.immutable.ImmutableHashTrieMap;
 import org.eclipse.collections.impl.parallel.BatchIterable;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 
@@ -87,6 +88,26 @@ final class ImmutableUnifiedSet<T>
         return this.delegate.getOnly();
     }
 
+    @Override
+    public ImmutableSet<T> newWith(T element)
+    {
+        if (this.size() >= ImmutableHashTrieMap.CONVERSION_THRESHOLD && !this.contains(element))
+        {
+            return ImmutableHashTrieSet.newSet(this.delegate).newWith(element);
+        }
+        return super.newWith(element);
+    }
+
+    @Override
+    public ImmutableSet<T> newWithout(T element)
+    {
+        if (this.size() >= ImmutableHashTrieMap.CONVERSION_THRESHOLD && this.contains(element))
+        {
+            return ImmutableHashTrieSet.newSet(this.delegate).newWithout(element);
+        }
+        return super.newWithout(element);
+    }
+
     public static <T> ImmutableSet<T> newSetWith(T... elements)
     {
         return new ImmutableUnifiedSet<>(UnifiedSet.newSetWith(elements));
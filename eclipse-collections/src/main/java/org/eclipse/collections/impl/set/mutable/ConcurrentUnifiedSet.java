@@ -0,0 +1,1079 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
+import org.eclipse.collections.impl.block.procedure.CollectionAddProcedure;
+import org.eclipse.collections.impl.lazy.parallel.set.NonParallelUnsortedSetIterable;
+import org.eclipse.collections.impl.list.mutable.FastList;
+
+/**
+ * ConcurrentUnifiedSet is a thread-safe, lock-free MutableSet. Like {@link UnifiedSet}, it stores the elements
+ * directly in its table instead of wrapping each of them in an entry. Colliding elements share a small immutable
+ * bucket which is replaced, never mutated, so every update is a single compare-and-set on one slot of the table.
+ * Resizing is cooperative: threads that run into a slot which is being moved help with the transfer, the same way
+ * as in {@link org.eclipse.collections.impl.map.mutable.ConcurrentHashMap}.
+ * <p>
+ * Iteration is weakly consistent: it never throws ConcurrentModificationException, and it may or may not reflect
+ * modifications made after the iterator was created.
+ *
+ * @since 12.0
+ */
+@SuppressWarnings({"rawtypes", "ObjectEquality"})
+public final class ConcurrentUnifiedSet<T>
+        extends AbstractMutableSet<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object NULL_KEY = new Object();
+    private static final Object RESIZE_SENTINEL = new Object();
+    private static final Object RESIZED = new Object();
+    private static final Object RESIZING = new Object();
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /**
+     * The maximum capacity, used if a higher value is implicitly specified
+     * by either of the constructors with arguments.
+     * MUST be a power of two <= 1<<30.
+     */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private static final AtomicReferenceFieldUpdater<ConcurrentUnifiedSet, AtomicReferenceArray> TABLE_UPDATER = AtomicReferenceFieldUpdater.newUpdater(ConcurrentUnifiedSet.class, AtomicReferenceArray.class, "table");
+    private static final AtomicIntegerFieldUpdater<ConcurrentUnifiedSet> SIZE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(ConcurrentUnifiedSet.class, "size");
+    private static final int PARTITIONED_SIZE_THRESHOLD = 4096; // chosen to keep size below 1% of the total size of the set
+    private static final int SIZE_BUCKETS = 7;
+
+    /**
+     * The table, resized as necessary. Its length is always a power of two plus one; the last slot holds the
+     * ResizeContainer while a resize is in progress.
+     */
+    private volatile AtomicReferenceArray table;
+
+    private AtomicIntegerArray partitionedSize;
+
+    @SuppressWarnings("UnusedDeclaration")
+    private volatile int size; // updated via atomic field updater
+
+    public ConcurrentUnifiedSet()
+    {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public ConcurrentUnifiedSet(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("Illegal Initial Capacity: " + initialCapacity);
+        }
+        if (initialCapacity > MAXIMUM_CAPACITY)
+        {
+            initialCapacity = MAXIMUM_CAPACITY;
+        }
+
+        int threshold = initialCapacity;
+        threshold += threshold >> 1; // threshold = length * 0.75
+
+        int capacity = 1;
+        while (capacity < threshold)
+        {
+            capacity <<= 1;
+        }
+        if (capacity >= PARTITIONED_SIZE_THRESHOLD)
+        {
+            this.partitionedSize = new AtomicIntegerArray(SIZE_BUCKETS * 16); // we want 7 extra slots and 64 bytes for each slot. int is 4 bytes, so 64 bytes is 16 ints.
+        }
+        this.table = new AtomicReferenceArray(capacity + 1);
+    }
+
+    public static <K> ConcurrentUnifiedSet<K> newSet()
+    {
+        return new ConcurrentUnifiedSet<>();
+    }
+
+    public static <K> ConcurrentUnifiedSet<K> newSet(int size)
+    {
+        return new ConcurrentUnifiedSet<>(size);
+    }
+
+    public static <K> ConcurrentUnifiedSet<K> newSet(Iterable<? extends K> source)
+    {
+        return ConcurrentUnifiedSet.<K>newSet().withAll(source);
+    }
+
+    public static <K> ConcurrentUnifiedSet<K> newSetWith(K... elements)
+    {
+        return ConcurrentUnifiedSet.<K>newSet(elements.length).with(elements);
+    }
+
+    private static int indexFor(int h, int length)
+    {
+        return h & length - 2;
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private static <K> K nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    private static boolean tableObjectEquals(Object cur, Object element)
+    {
+        return cur == element || element != NULL_KEY && cur != NULL_KEY && cur.equals(element);
+    }
+
+    private int hash(Object element)
+    {
+        int h = element.hashCode();
+        h ^= h >>> 20 ^ h >>> 12;
+        h ^= h >>> 7 ^ h >>> 4;
+        return h;
+    }
+
+    @Override
+    public boolean add(T key)
+    {
+        Object element = ConcurrentUnifiedSet.toSentinelIfNull(key);
+        int hash = this.hash(element);
+        AtomicReferenceArray currentArray = this.table;
+        while (true)
+        {
+            int length = currentArray.length();
+            int index = ConcurrentUnifiedSet.indexFor(hash, length);
+            Object o = currentArray.get(index);
+            if (o == RESIZED || o == RESIZING)
+            {
+                currentArray = this.helpWithResizeWhileCurrentIndex(currentArray, index);
+            }
+            else if (o == null)
+            {
+                if (currentArray.compareAndSet(index, null, element))
+                {
+                    this.addToSize(1);
+                    return true;
+                }
+            }
+            else if (o instanceof ChainedBucket)
+            {
+                ChainedBucket bucket = (ChainedBucket) o;
+                if (bucket.contains(element))
+                {
+                    return false;
+                }
+                if (currentArray.compareAndSet(index, o, bucket.with(element)))
+                {
+                    this.incrementSizeAndPossiblyResize(currentArray, length);
+                    return true;
+                }
+            }
+            else
+            {
+                if (ConcurrentUnifiedSet.tableObjectEquals(o, element))
+                {
+                    return false;
+                }
+                if (currentArray.compareAndSet(index, o, new ChainedBucket(o, element)))
+                {
+                    this.incrementSizeAndPossiblyResize(currentArray, length);
+                    return true;
+                }
+            }
+        }
+    }
+
+    private void incrementSizeAndPossiblyResize(AtomicReferenceArray currentArray, int length)
+    {
+        this.addToSize(1);
+        int localSize = this.size();
+        int threshold = (length >> 1) + (length >> 2); // threshold = length * 0.75
+        if (localSize + 1 > threshold)
+        {
+            this.resize(currentArray);
+        }
+    }
+
+    @Override
+    public boolean contains(Object key)
+    {
+        Object element = ConcurrentUnifiedSet.toSentinelIfNull(key);
+        int hash = this.hash(element);
+        AtomicReferenceArray currentArray = this.table;
+        while (true)
+        {
+            int length = currentArray.length();
+            int index = ConcurrentUnifiedSet.indexFor(hash, length);
+            Object o = currentArray.get(index);
+            if (o == RESIZED || o == RESIZING)
+            {
+                currentArray = this.helpWithResizeWhileCurrentIndex(currentArray, index);
+            }
+            else if (o == null)
+            {
+                return false;
+            }
+            else if (o instanceof ChainedBucket)
+            {
+                return ((ChainedBucket) o).contains(element);
+            }
+            else
+            {
+                return ConcurrentUnifiedSet.tableObjectEquals(o, element);
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(Object key)
+    {
+        Object element = ConcurrentUnifiedSet.toSentinelIfNull(key);
+        int hash = this.hash(element);
+        AtomicReferenceArray currentArray = this.table;
+        while (true)
+        {
+            int length = currentArray.length();
+            int index = ConcurrentUnifiedSet.indexFor(hash, length);
+            Object o = currentArray.get(index);
+            if (o == RESIZED || o == RESIZING)
+            {
+                currentArray = this.helpWithResizeWhileCurrentIndex(currentArray, index);
+            }
+            else if (o == null)
+            {
+                return false;
+            }
+            else if (o instanceof ChainedBucket)
+            {
+                ChainedBucket bucket = (ChainedBucket) o;
+                if (!bucket.contains(element))
+                {
+                    return false;
+                }
+                if (currentArray.compareAndSet(index, o, bucket.without(element)))
+                {
+                    this.addToSize(-1);
+                    return true;
+                }
+            }
+            else
+            {
+                if (!ConcurrentUnifiedSet.tableObjectEquals(o, element))
+                {
+                    return false;
+                }
+                if (currentArray.compareAndSet(index, o, null))
+                {
+                    this.addToSize(-1);
+                    return true;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        AtomicReferenceArray currentArray = this.table;
+        ResizeContainer resizeContainer;
+        do
+        {
+            resizeContainer = null;
+            for (int i = 0; i < currentArray.length() - 1; i++)
+            {
+                Object o = currentArray.get(i);
+                if (o == RESIZED || o == RESIZING)
+                {
+                    resizeContainer = (ResizeContainer) currentArray.get(currentArray.length() - 1);
+                }
+                else if (o != null)
+                {
+                    if (currentArray.compareAndSet(i, o, null))
+                    {
+                        this.addToSize(o instanceof ChainedBucket ? -((ChainedBucket) o).elements.length : -1);
+                    }
+                }
+            }
+            if (resizeContainer != null)
+            {
+                if (resizeContainer.isNotDone())
+                {
+                    this.helpWithResize(currentArray);
+                    resizeContainer.waitForAllResizers();
+                }
+                currentArray = resizeContainer.nextArray;
+            }
+        }
+        while (resizeContainer != null);
+    }
+
+    private AtomicReferenceArray helpWithResizeWhileCurrentIndex(AtomicReferenceArray currentArray, int index)
+    {
+        AtomicReferenceArray newArray = this.helpWithResize(currentArray);
+        int helpCount = 0;
+        while (currentArray.get(index) != RESIZED)
+        {
+            helpCount++;
+            newArray = this.helpWithResize(currentArray);
+            if ((helpCount & 7) == 0)
+            {
+                Thread.yield();
+            }
+        }
+        return newArray;
+    }
+
+    private AtomicReferenceArray helpWithResize(AtomicReferenceArray currentArray)
+    {
+        ResizeContainer resizeContainer = (ResizeContainer) currentArray.get(currentArray.length() - 1);
+        AtomicReferenceArray newTable = resizeContainer.nextArray;
+        if (resizeContainer.getQueuePosition() > ResizeContainer.QUEUE_INCREMENT)
+        {
+            resizeContainer.incrementResizer();
+            this.reverseTransfer(currentArray, resizeContainer);
+            resizeContainer.decrementResizerAndNotify();
+        }
+        return newTable;
+    }
+
+    private void resize(AtomicReferenceArray oldTable)
+    {
+        this.resize(oldTable, (oldTable.length() - 1 << 1) + 1);
+    }
+
+    // newSize must be a power of 2 + 1
+    @SuppressWarnings("JLM_JSR166_UTILCONCURRENT_MONITORENTER")
+    private void resize(AtomicReferenceArray oldTable, int newSize)
+    {
+        int oldCapacity = oldTable.length();
+        int end = oldCapacity - 1;
+        Object last = oldTable.get(end);
+        if (this.size() < end && last == RESIZE_SENTINEL)
+        {
+            return;
+        }
+        if (oldCapacity >= MAXIMUM_CAPACITY)
+        {
+            throw new RuntimeException("index is too large!");
+        }
+        ResizeContainer resizeContainer = null;
+        boolean ownResize = false;
+        if (last == null || last == RESIZE_SENTINEL)
+        {
+            synchronized (oldTable) // allocating a new array is too expensive to make this an atomic operation
+            {
+                if (oldTable.get(end) == null)
+                {
+                    oldTable.set(end, RESIZE_SENTINEL);
+                    if (this.partitionedSize == null && newSize >= PARTITIONED_SIZE_THRESHOLD)
+                    {
+                        this.partitionedSize = new AtomicIntegerArray(SIZE_BUCKETS * 16);
+                    }
+                    resizeContainer = new ResizeContainer(new AtomicReferenceArray(newSize), oldTable.length() - 1);
+                    oldTable.set(end, resizeContainer);
+                    ownResize = true;
+                }
+            }
+        }
+        if (ownResize)
+        {
+            this.transfer(oldTable, resizeContainer);
+            AtomicReferenceArray src = this.table;
+            while (!TABLE_UPDATER.compareAndSet(this, oldTable, resizeContainer.nextArray))
+            {
+                // we're in a double resize situation; we'll have to go help until it's our turn to set the table
+                if (src != oldTable)
+                {
+                    this.helpWithResize(src);
+                }
+            }
+        }
+        else
+        {
+            this.helpWithResize(oldTable);
+        }
+    }
+
+    /*
+     * Transfer all elements from src to dest tables
+     */
+    private void transfer(AtomicReferenceArray src, ResizeContainer resizeContainer)
+    {
+        AtomicReferenceArray dest = resizeContainer.nextArray;
+
+        for (int j = 0; j < src.length() - 1; )
+        {
+            Object o = src.get(j);
+            if (o == null)
+            {
+                if (src.compareAndSet(j, null, RESIZED))
+                {
+                    j++;
+                }
+            }
+            else if (o == RESIZED || o == RESIZING)
+            {
+                j = (j & ~(ResizeContainer.QUEUE_INCREMENT - 1)) + ResizeContainer.QUEUE_INCREMENT;
+                if (resizeContainer.resizers.get() == 1)
+                {
+                    break;
+                }
+            }
+            else
+            {
+                if (src.compareAndSet(j, o, RESIZING))
+                {
+                    this.unconditionalCopyAll(dest, o);
+                    src.set(j, RESIZED);
+                    j++;
+                }
+            }
+        }
+        resizeContainer.decrementResizerAndNotify();
+        resizeContainer.waitForAllResizers();
+    }
+
+    private void reverseTransfer(AtomicReferenceArray src, ResizeContainer resizeContainer)
+    {
+        AtomicReferenceArray dest = resizeContainer.nextArray;
+        while (resizeContainer.getQueuePosition() > 0)
+        {
+            int start = resizeContainer.subtractAndGetQueuePosition();
+            int end = start + ResizeContainer.QUEUE_INCREMENT;
+            if (end > 0)
+            {
+                if (start < 0)
+                {
+                    start = 0;
+                }
+                for (int j = end - 1; j >= start; )
+                {
+                    Object o = src.get(j);
+                    if (o == null)
+                    {
+                        if (src.compareAndSet(j, null, RESIZED))
+                        {
+                            j--;
+                        }
+                    }
+                    else if (o == RESIZED || o == RESIZING)
+                    {
+                        resizeContainer.zeroOutQueuePosition();
+                        return;
+                    }
+                    else
+                    {
+                        if (src.compareAndSet(j, o, RESIZING))
+                        {
+                            this.unconditionalCopyAll(dest, o);
+                            src.set(j, RESIZED);
+                            j--;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void unconditionalCopyAll(AtomicReferenceArray dest, Object slot)
+    {
+        if (slot instanceof ChainedBucket)
+        {
+            for (Object element : ((ChainedBucket) slot).elements)
+            {
+                this.unconditionalCopy(dest, element);
+            }
+        }
+        else
+        {
+            this.unconditionalCopy(dest, slot);
+        }
+    }
+
+    private void unconditionalCopy(AtomicReferenceArray dest, Object element)
+    {
+        int hash = this.hash(element);
+        AtomicReferenceArray currentArray = dest;
+        while (true)
+        {
+            int length = currentArray.length();
+            int index = ConcurrentUnifiedSet.indexFor(hash, length);
+            Object o = currentArray.get(index);
+            if (o == RESIZED || o == RESIZING)
+            {
+                currentArray = ((ResizeContainer) currentArray.get(length - 1)).nextArray;
+            }
+            else
+            {
+                Object replacement;
+                if (o == null)
+                {
+                    replacement = element;
+                }
+                else if (o instanceof ChainedBucket)
+                {
+                    replacement = ((ChainedBucket) o).with(element);
+                }
+                else
+                {
+                    replacement = new ChainedBucket(o, element);
+                }
+                if (currentArray.compareAndSet(index, o, replacement))
+                {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void addToSize(int value)
+    {
+        if (this.partitionedSize != null)
+        {
+            if (this.incrementPartitionedSize(value))
+            {
+                return;
+            }
+        }
+        this.incrementLocalSize(value);
+    }
+
+    private boolean incrementPartitionedSize(int value)
+    {
+        int h = (int) Thread.currentThread().getId();
+        h ^= (h >>> 18) ^ (h >>> 12);
+        h = (h ^ (h >>> 10)) & SIZE_BUCKETS;
+        if (h != 0)
+        {
+            h = (h - 1) << 4;
+            while (true)
+            {
+                int localSize = this.partitionedSize.get(h);
+                if (this.partitionedSize.compareAndSet(h, localSize, localSize + value))
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void incrementLocalSize(int value)
+    {
+        while (true)
+        {
+            int localSize = this.size;
+            if (SIZE_UPDATER.compareAndSet(this, localSize, localSize + value))
+            {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public int size()
+    {
+        int localSize = this.size;
+        if (this.partitionedSize != null)
+        {
+            for (int i = 0; i < SIZE_BUCKETS; i++)
+            {
+                localSize += this.partitionedSize.get(i << 4);
+            }
+        }
+        return localSize;
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new ElementIterator();
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        Iterator<T> iterator = this.iterator();
+        while (iterator.hasNext())
+        {
+            procedure.value(iterator.next());
+        }
+    }
+
+    @Override
+    public T getFirst()
+    {
+        Iterator<T> iterator = this.iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    @Override
+    public T getLast()
+    {
+        T result = null;
+        Iterator<T> iterator = this.iterator();
+        while (iterator.hasNext())
+        {
+            result = iterator.next();
+        }
+        return result;
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        MutableList<T> result = FastList.newList(this.size());
+        this.each(CollectionAddProcedure.on(result));
+        return result.toArray();
+    }
+
+    @Override
+    public <E> E[] toArray(E[] array)
+    {
+        MutableList<T> result = FastList.newList(this.size());
+        this.each(CollectionAddProcedure.on(result));
+        return result.toArray(array);
+    }
+
+    @Override
+    public ConcurrentUnifiedSet<T> newEmpty()
+    {
+        return ConcurrentUnifiedSet.newSet();
+    }
+
+    @Override
+    public ConcurrentUnifiedSet<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public ConcurrentUnifiedSet<T> with(T element1, T element2)
+    {
+        this.add(element1);
+        this.add(element2);
+        return this;
+    }
+
+    public ConcurrentUnifiedSet<T> with(T element1, T element2, T element3)
+    {
+        this.add(element1);
+        this.add(element2);
+        this.add(element3);
+        return this;
+    }
+
+    public ConcurrentUnifiedSet<T> with(T... elements)
+    {
+        for (T element : elements)
+        {
+            this.add(element);
+        }
+        return this;
+    }
+
+    @Override
+    public ConcurrentUnifiedSet<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public ConcurrentUnifiedSet<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public ConcurrentUnifiedSet<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public ConcurrentUnifiedSet<T> clone()
+    {
+        return ConcurrentUnifiedSet.<T>newSet(this.size()).withAll(this);
+    }
+
+    @Override
+    public ParallelUnsortedSetIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new NonParallelUnsortedSetIterable<>(this);
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Set))
+        {
+            return false;
+        }
+
+        Set<?> other = (Set<?>) object;
+        return this.size() == other.size() && this.containsAll(other);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        Iterator<T> iterator = this.iterator();
+        while (iterator.hasNext())
+        {
+            T each = iterator.next();
+            hashCode += each == null ? 0 : each.hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        int count = 0;
+        Iterator<T> iterator = this.iterator();
+        while (iterator.hasNext())
+        {
+            out.writeObject(iterator.next());
+            count++;
+        }
+        if (count != this.size())
+        {
+            throw new IllegalStateException("Set was modified while serializing");
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++)
+        {
+            this.add((T) in.readObject());
+        }
+    }
+
+    /**
+     * An immutable group of colliding elements. A new bucket is created for every change so that readers never see
+     * a partially updated one.
+     */
+    private static final class ChainedBucket
+    {
+        private final Object[] elements;
+
+        private ChainedBucket(Object first, Object second)
+        {
+            this.elements = new Object[]{first, second};
+        }
+
+        private ChainedBucket(Object[] elements)
+        {
+            this.elements = elements;
+        }
+
+        private boolean contains(Object element)
+        {
+            for (Object each : this.elements)
+            {
+                if (ConcurrentUnifiedSet.tableObjectEquals(each, element))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private ChainedBucket with(Object element)
+        {
+            Object[] newElements = new Object[this.elements.length + 1];
+            System.arraycopy(this.elements, 0, newElements, 0, this.elements.length);
+            newElements[this.elements.length] = element;
+            return new ChainedBucket(newElements);
+        }
+
+        /**
+         * Returns the slot contents after removing the element: the remaining element itself once only one is left.
+         */
+        private Object without(Object element)
+        {
+            int length = this.elements.length;
+            if (length == 2)
+            {
+                return ConcurrentUnifiedSet.tableObjectEquals(this.elements[0], element) ? this.elements[1] : this.elements[0];
+            }
+            Object[] newElements = new Object[length - 1];
+            int newIndex = 0;
+            for (Object each : this.elements)
+            {
+                if (!ConcurrentUnifiedSet.tableObjectEquals(each, element))
+                {
+                    newElements[newIndex++] = each;
+                }
+            }
+            return new ChainedBucket(newElements);
+        }
+    }
+
+    private static final class IteratorState
+    {
+        private AtomicReferenceArray currentTable;
+        private int start;
+        private int end;
+
+        private IteratorState(AtomicReferenceArray currentTable)
+        {
+            this.currentTable = currentTable;
+            this.end = this.currentTable.length() - 1;
+        }
+
+        private IteratorState(AtomicReferenceArray currentTable, int start, int end)
+        {
+            this.currentTable = currentTable;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private final class ElementIterator implements Iterator<T>
+    {
+        private List<IteratorState> todo;
+        private IteratorState currentState;
+        private Object[] bucket;
+        private int bucketIndex;
+        private Object next;
+        private boolean hasNext;
+        private int index;
+        private Object current;
+        private boolean currentIsValid;
+
+        private ElementIterator()
+        {
+            this.currentState = new IteratorState(ConcurrentUnifiedSet.this.table);
+            this.findNext();
+        }
+
+        private void findNext()
+        {
+            if (this.bucket != null && this.bucketIndex < this.bucket.length)
+            {
+                this.next = this.bucket[this.bucketIndex++];
+                return;
+            }
+            this.bucket = null;
+            this.hasNext = false;
+            while (this.index < this.currentState.end)
+            {
+                Object o = this.currentState.currentTable.get(this.index);
+                if (o == RESIZED || o == RESIZING)
+                {
+                    AtomicReferenceArray nextArray = ConcurrentUnifiedSet.this.helpWithResizeWhileCurrentIndex(this.currentState.currentTable, this.index);
+                    int endResized = this.index + 1;
+                    while (endResized < this.currentState.end)
+                    {
+                        if (this.currentState.currentTable.get(endResized) != RESIZED)
+                        {
+                            break;
+                        }
+                        endResized++;
+                    }
+                    if (this.todo == null)
+                    {
+                        this.todo = new FastList<>(4);
+                    }
+                    if (endResized < this.currentState.end)
+                    {
+                        this.todo.add(new IteratorState(this.currentState.currentTable, endResized, this.currentState.end));
+                    }
+                    int powerTwoLength = this.currentState.currentTable.length() - 1;
+                    this.todo.add(new IteratorState(nextArray, this.index + powerTwoLength, endResized + powerTwoLength));
+                    this.currentState.currentTable = nextArray;
+                    this.currentState.end = endResized;
+                    this.currentState.start = this.index;
+                }
+                else if (o != null)
+                {
+                    if (o instanceof ChainedBucket)
+                    {
+                        this.bucket = ((ChainedBucket) o).elements;
+                        this.next = this.bucket[0];
+                        this.bucketIndex = 1;
+                    }
+                    else
+                    {
+                        this.next = o;
+                    }
+                    this.hasNext = true;
+                    this.index++;
+                    break;
+                }
+                else
+                {
+                    this.index++;
+                }
+            }
+            if (!this.hasNext && this.index == this.currentState.end && this.todo != null && !this.todo.isEmpty())
+            {
+                this.currentState = this.todo.remove(this.todo.size() - 1);
+                this.index = this.currentState.start;
+                this.findNext();
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.hasNext;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext)
+            {
+                throw new NoSuchElementException();
+            }
+            Object result = this.next;
+            this.findNext();
+            this.current = result;
+            this.currentIsValid = true;
+            return ConcurrentUnifiedSet.nonSentinel(result);
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.currentIsValid)
+            {
+                throw new IllegalStateException();
+            }
+            this.currentIsValid = false;
+            ConcurrentUnifiedSet.this.remove(ConcurrentUnifiedSet.nonSentinel(this.current));
+        }
+    }
+
+    private static final class ResizeContainer
+    {
+        private static final int QUEUE_INCREMENT = Math.min(1 << 10, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) << 4);
+        private final AtomicInteger resizers = new AtomicInteger(1);
+        private final AtomicReferenceArray nextArray;
+        private final AtomicInteger queuePosition;
+
+        private ResizeContainer(AtomicReferenceArray nextArray, int oldSize)
+        {
+            this.nextArray = nextArray;
+            this.queuePosition = new AtomicInteger(oldSize);
+        }
+
+        public void incrementResizer()
+        {
+            this.resizers.incrementAndGet();
+        }
+
+        public void decrementResizerAndNotify()
+        {
+            int remaining = this.resizers.decrementAndGet();
+            if (remaining == 0)
+            {
+                synchronized (this)
+                {
+                    this.notifyAll();
+                }
+            }
+        }
+
+        public int getQueuePosition()
+        {
+            return this.queuePosition.get();
+        }
+
+        public int subtractAndGetQueuePosition()
+        {
+            return this.queuePosition.addAndGet(-QUEUE_INCREMENT);
+        }
+
+        public void waitForAllResizers()
+        {
+            if (this.resizers.get() > 0)
+            {
+                for (int i = 0; i < 16; i++)
+                {
+                    if (this.resizers.get() == 0)
+                    {
+                        break;
+                    }
+                }
+                for (int i = 0; i < 16; i++)
+                {
+                    if (this.resizers.get() == 0)
+                    {
+                        break;
+                    }
+                    Thread.yield();
+                }
+            }
+            if (this.resizers.get() > 0)
+            {
+                synchronized (this)
+                {
+                    while (this.resizers.get() > 0)
+                    {
+                        try
+                        {
+                            this.wait();
+                        }
+                        catch (InterruptedException e)
+                        {
+                            // ignore
+                        }
+                    }
+                }
+            }
+        }
+
+        public boolean isNotDone()
+        {
+            return this.resizers.get() > 0;
+        }
+
+        public void zeroOutQueuePosition()
+        {
+            this.queuePosition.set(0);
+        }
+    }
+}
@@ -10,27 +10,55 @@
 
 package org.eclipse.collections.impl.set.mutable;
 
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.collections.api.factory.set.MultiReaderSetFactory;
 import org.eclipse.collections.api.set.MultiReaderSet;
+import org.eclipse.collections.impl.collection.mutable.AbstractMultiReaderMutableCollection.OptimisticReadWriteLock;
 
 @aQute.bnd.annotation.spi.ServiceProvider(MultiReaderSetFactory.class)
 public class MultiReaderMutableSetFactory implements MultiReaderSetFactory
 {
     public static final MultiReaderSetFactory INSTANCE = new MultiReaderMutableSetFactory();
 
+    /**
+     * A factory whose collections use an {@link OptimisticReadWriteLock}, so that simple queries are answered with
+     * optimistic reads instead of taking the read lock.
+     *
+     * @since 12.0
+     */
+    public static final MultiReaderSetFactory OPTIMISTIC_READ = new MultiReaderMutableSetFactory(true);
+
+    private final boolean optimisticRead;
+
+    public MultiReaderMutableSetFactory()
+    {
+        this(false);
+    }
+
+    private MultiReaderMutableSetFactory(boolean optimisticRead)
+    {
+        this.optimisticRead = optimisticRead;
+    }
+
+    private ReadWriteLock newLock()
+    {
+        return this.optimisticRead ? new OptimisticReadWriteLock() : new ReentrantReadWriteLock();
+    }
+
     @Override
     public <T> MultiReaderSet<T> empty()
     {
-        return MultiReaderUnifiedSet.newSet();
+        return new MultiReaderUnifiedSet<>(UnifiedSet.newSet(), this.newLock());
     }
 
     @Override
     public <T> MultiReaderSet<T> with(T... items)
     {
-        return MultiReaderUnifiedSet.newSetWith(items);
+        return new MultiReaderUnifiedSet<>(UnifiedSet.newSetWith(items), this.newLock());
     }
 
     @Override
@@ -41,18 +69,18 @@ public class MultiReaderMutableSetFactory implements MultiReaderSetFactory
             throw new IllegalArgumentException("initial capacity cannot be less than 0");
         }
 
-        return MultiReaderUnifiedSet.newSet(capacity);
+        return new MultiReaderUnifiedSet<>(UnifiedSet.newSet(capacity), this.newLock());
     }
 
     @Override
     public <T> MultiReaderSet<T> withAll(Iterable<? extends T> iterable)
     {
-        return MultiReaderUnifiedSet.newSet((Iterable<T>) iterable);
+        return new MultiReaderUnifiedSet<>(UnifiedSet.newSet(iterable), this.newLock());
     }
 
     @Override
     public <T> MultiReaderSet<T> fromStream(Stream<? extends T> stream)
     {
-        return stream.collect(Collectors.toCollection(MultiReaderUnifiedSet::newSet));
+        return stream.collect(Collectors.toCollection(this::empty));
     }
 }
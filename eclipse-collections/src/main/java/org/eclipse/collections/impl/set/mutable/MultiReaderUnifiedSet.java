@@ -95,7 +95,7 @@ public final class MultiReaderUnifiedSet<T>
         this(newDelegate, new ReentrantReadWriteLock());
     }
 
-    private MultiReaderUnifiedSet(MutableSet<T> newDelegate, ReadWriteLock newLock)
+    MultiReaderUnifiedSet(MutableSet<T> newDelegate, ReadWriteLock newLock)
     {
         this.lock = newLock;
         this.lockWrapper = new ReadWriteLockWrapper(newLock);
@@ -20,10 +20,13 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.RandomAccess;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.RichIterable;
@@ -1708,6 +1711,19 @@ public class UnifiedSet<T>
         return new PositionalIterator();
     }
 
+    /**
+     * Returns a spliterator which splits on ranges of the underlying table rather than by copying elements into
+     * arrays.
+     *
+     * @since 12.0
+     */
+    @Override
+    public Spliterator<T> spliterator()
+    {
+        Object[] table = this.table;
+        return new PositionalSpliterator(table, 0, table.length, this.occupied, true);
+    }
+
     protected class PositionalIterator implements Iterator<T>
     {
         protected int count;
@@ -2325,6 +2341,146 @@ public class UnifiedSet<T>
         while (true);
     }
 
+    private final class PositionalSpliterator implements Spliterator<T>
+    {
+        private final Object[] table;
+        private final int fence;
+        private int index;
+        private int estimatedSize;
+        private boolean exactSize;
+        private ChainedBucket bucket;
+        private int bucketPosition;
+
+        private PositionalSpliterator(Object[] table, int index, int fence, int estimatedSize, boolean exactSize)
+        {
+            this.table = table;
+            this.index = index;
+            this.fence = fence;
+            this.estimatedSize = estimatedSize;
+            this.exactSize = exactSize;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action)
+        {
+            Objects.requireNonNull(action);
+            if (!this.advance(action))
+            {
+                return false;
+            }
+            if (this.estimatedSize > 0)
+            {
+                this.estimatedSize--;
+            }
+            return true;
+        }
+
+        private boolean advance(Consumer<? super T> action)
+        {
+            if (this.bucket != null)
+            {
+                this.acceptNextFromBucket(action);
+                return true;
+            }
+            while (this.index < this.fence)
+            {
+                Object cur = this.table[this.index++];
+                if (cur instanceof ChainedBucket)
+                {
+                    this.bucket = (ChainedBucket) cur;
+                    this.bucketPosition = 0;
+                    this.acceptNextFromBucket(action);
+                    return true;
+                }
+                if (cur != null)
+                {
+                    action.accept(UnifiedSet.this.nonSentinel(cur));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void acceptNextFromBucket(Consumer<? super T> action)
+        {
+            ChainedBucket bucket = this.bucket;
+            Object cur = bucket.get(this.bucketPosition);
+            this.bucketPosition++;
+            if (this.bucketPosition == 3 && bucket.three instanceof ChainedBucket)
+            {
+                this.bucket = (ChainedBucket) bucket.three;
+                this.bucketPosition = 0;
+            }
+            else if (bucket.get(this.bucketPosition) == null)
+            {
+                this.bucket = null;
+            }
+            action.accept(UnifiedSet.this.nonSentinel(cur));
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action)
+        {
+            Objects.requireNonNull(action);
+            while (this.bucket != null)
+            {
+                this.acceptNextFromBucket(action);
+            }
+            Object[] table = this.table;
+            int start = this.index;
+            this.index = this.fence;
+            for (int i = start; i < this.fence; i++)
+            {
+                Object cur = table[i];
+                if (cur instanceof ChainedBucket)
+                {
+                    this.bucket = (ChainedBucket) cur;
+                    this.bucketPosition = 0;
+                    while (this.bucket != null)
+                    {
+                        this.acceptNextFromBucket(action);
+                    }
+                }
+                else if (cur != null)
+                {
+                    action.accept(UnifiedSet.this.nonSentinel(cur));
+                }
+            }
+            this.estimatedSize = 0;
+        }
+
+        /**
+         * Splits off the lower half of the remaining table range. Splitting never happens inside a chained bucket,
+         * so each half can be traversed without copying elements.
+         */
+        @Override
+        public Spliterator<T> trySplit()
+        {
+            int lo = this.index;
+            int mid = (lo + this.fence) >>> 1;
+            if (this.bucket != null || mid <= lo)
+            {
+                return null;
+            }
+            this.index = mid;
+            this.estimatedSize >>>= 1;
+            this.exactSize = false;
+            return new PositionalSpliterator(this.table, lo, mid, this.estimatedSize, false);
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return this.estimatedSize;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return this.exactSize ? Spliterator.DISTINCT | Spliterator.SIZED : Spliterator.DISTINCT;
+        }
+    }
+
     private T nonSentinel(Object key)
     {
         return key == NULL_KEY ? null : (T) key;
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.sorted.mutable;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.function.Consumer;
+
+import org.eclipse.collections.impl.map.sorted.mutable.BPlusTreeMap;
+
+/**
+ * BPlusTreeSet is a {@link SortedSet} backed by the keys of a {@link BPlusTreeMap}, in the same way that
+ * {@link java.util.TreeSet} is backed by a {@link java.util.TreeMap}. It is the backing store of {@link TreeSortedSet}.
+ * Range views returned by {@link #headSet(Object)}, {@link #tailSet(Object)} and {@link #subSet(Object, Object)} share
+ * this set's storage.
+ *
+ * @since 12.0
+ */
+public class BPlusTreeSet<T>
+        extends AbstractSet<T>
+        implements SortedSet<T>, Cloneable, Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object PRESENT = Boolean.TRUE;
+
+    private final BPlusTreeMap<T, Object> map;
+
+    public BPlusTreeSet()
+    {
+        this(new BPlusTreeMap<>());
+    }
+
+    public BPlusTreeSet(Comparator<? super T> comparator)
+    {
+        this(new BPlusTreeMap<>(comparator));
+    }
+
+    public BPlusTreeSet(SortedSet<T> set)
+    {
+        this(set.comparator());
+        this.addAll(set);
+    }
+
+    private BPlusTreeSet(BPlusTreeMap<T, Object> map)
+    {
+        this.map = map;
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return this.map.keySet().iterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action)
+    {
+        this.map.keySet().forEach(action);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.map.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.map.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        return this.map.containsKey(o);
+    }
+
+    @Override
+    public boolean add(T element)
+    {
+        return this.map.put(element, PRESENT) == null;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> collection)
+    {
+        if (this.map.isEmpty()
+                && collection instanceof BPlusTreeSet<?>
+                && Objects.equals(this.comparator(), ((BPlusTreeSet<?>) collection).comparator()))
+        {
+            this.map.putAll(((BPlusTreeSet<T>) collection).map);
+            return !collection.isEmpty();
+        }
+        return super.addAll(collection);
+    }
+
+    @Override
+    public boolean remove(Object o)
+    {
+        return this.map.remove(o) == PRESENT;
+    }
+
+    @Override
+    public void clear()
+    {
+        this.map.clear();
+    }
+
+    @Override
+    public Comparator<? super T> comparator()
+    {
+        return this.map.comparator();
+    }
+
+    @Override
+    public T first()
+    {
+        return this.map.firstKey();
+    }
+
+    @Override
+    public T last()
+    {
+        return this.map.lastKey();
+    }
+
+    @Override
+    public BPlusTreeSet<T> headSet(T toElement)
+    {
+        return new BPlusTreeSet<>(this.map.headMap(toElement));
+    }
+
+    @Override
+    public BPlusTreeSet<T> tailSet(T fromElement)
+    {
+        return new BPlusTreeSet<>(this.map.tailMap(fromElement));
+    }
+
+    @Override
+    public BPlusTreeSet<T> subSet(T fromElement, T toElement)
+    {
+        return new BPlusTreeSet<>(this.map.subMap(fromElement, toElement));
+    }
+
+    @Override
+    public BPlusTreeSet<T> clone()
+    {
+        return new BPlusTreeSet<>(this.map.clone());
+    }
+}
@@ -19,7 +19,6 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.SortedSet;
-import java.util.TreeSet;
 import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.LazyIterable;
@@ -96,27 +95,27 @@ public class TreeSortedSet<T> extends AbstractMutableCollection<T>
         implements Externalizable, MutableSortedSet<T>
 {
     private static final long serialVersionUID = 1L;
-    private TreeSet<T> treeSet;
+    private BPlusTreeSet<T> treeSet;
 
     public TreeSortedSet()
     {
-        this.treeSet = new TreeSet<>();
+        this.treeSet = new BPlusTreeSet<>();
     }
 
     public TreeSortedSet(Iterable<? extends T> iterable)
     {
-        this.treeSet = new TreeSet<>();
+        this.treeSet = new BPlusTreeSet<>();
         this.addAllIterable(iterable);
     }
 
     public TreeSortedSet(Comparator<? super T> comparator)
     {
-        this.treeSet = new TreeSet<>(comparator);
+        this.treeSet = new BPlusTreeSet<>(comparator);
     }
 
     public TreeSortedSet(SortedSet<T> set)
     {
-        this.treeSet = new TreeSet<>(set);
+        this.treeSet = new BPlusTreeSet<>(set);
     }
 
     public TreeSortedSet(Comparator<? super T> comparator, Iterable<? extends T> iterable)
@@ -236,7 +235,7 @@ public class TreeSortedSet<T> extends AbstractMutableCollection<T>
         try
         {
             TreeSortedSet<T> clone = (TreeSortedSet<T>) super.clone();
-            clone.treeSet = (TreeSet<T>) this.treeSet.clone();
+            clone.treeSet = this.treeSet.clone();
             return clone;
         }
         catch (CloneNotSupportedException e)
@@ -327,7 +326,7 @@ public class TreeSortedSet<T> extends AbstractMutableCollection<T>
     @Override
     public void each(Procedure<? super T> procedure)
     {
-        IterableIterate.forEach(this, procedure);
+        this.treeSet.forEach(procedure);
     }
 
     @Override
@@ -785,7 +784,7 @@ public class TreeSortedSet<T> extends AbstractMutableCollection<T>
     @Override
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
     {
-        this.treeSet = new TreeSet<>((Comparator<T>) in.readObject());
+        this.treeSet = new BPlusTreeSet<>((Comparator<T>) in.readObject());
         int size = in.readInt();
         for (int i = 0; i < size; i++)
         {
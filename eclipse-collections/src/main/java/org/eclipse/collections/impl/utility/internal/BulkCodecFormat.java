@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * The format shared by the generated primitive bulk codecs, such as {@code IntBulkCodec} and
+ * {@code LongDoubleMapBulkCodec}. An encoded collection is a 16 byte header followed by its elements as raw
+ * little-endian values. Map entries are written as key, value pairs. A {@link #HASH_TABLE} is followed by an
+ * open-addressing table instead, in the layout described by the class which reads it.
+ * <pre>
+ * offset  size  field
+ *      0     4  magic, the ASCII bytes "ECBC"
+ *      4     1  format version
+ *      5     1  kind: {@link #LIST}, {@link #SET}, {@link #MAP} or {@link #HASH_TABLE}
+ *      6     1  element or key type
+ *      7     1  value type, or {@link #NO_TYPE}
+ *      8     8  number of elements or entries
+ * </pre>
+ *
+ * @since 12.0
+ */
+public final class BulkCodecFormat
+{
+    public static final int HEADER_SIZE = 16;
+
+    public static final byte LIST = 1;
+    public static final byte SET = 2;
+    public static final byte MAP = 3;
+    public static final byte HASH_TABLE = 4;
+
+    public static final byte NO_TYPE = 0;
+    public static final byte BYTE = 1;
+    public static final byte SHORT = 2;
+    public static final byte CHAR = 3;
+    public static final byte INT = 4;
+    public static final byte LONG = 5;
+    public static final byte FLOAT = 6;
+    public static final byte DOUBLE = 7;
+
+    /**
+     * The largest region of a file mapped at once when reading. It is a multiple of every element size, so list and set
+     * elements never straddle two regions.
+     */
+    public static final int MAX_MAPPED_REGION_SIZE = 1 << 30;
+
+    private static final int MAGIC = 0x43424345;
+    private static final byte VERSION = 1;
+    private static final int CHUNK_SIZE = 1 << 20;
+
+    private BulkCodecFormat()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Returns a little-endian view of {@code buffer} sharing its content and position, so that encoding does not change
+     * the byte order of a buffer owned by the caller.
+     */
+    public static ByteBuffer littleEndian(ByteBuffer buffer)
+    {
+        return buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public static void writeHeader(ByteBuffer buffer, byte kind, byte type, byte valueType, long size)
+    {
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.put(kind);
+        buffer.put(type);
+        buffer.put(valueType);
+        buffer.putLong(size);
+    }
+
+    /**
+     * Reads a header from a little-endian buffer and returns the size it records.
+     *
+     * @throws IllegalArgumentException if the header is not a header of this format for the given kind and types, or
+     * records a size which does not fit a collection on the heap
+     */
+    public static int readHeader(ByteBuffer buffer, byte kind, byte type, byte valueType)
+    {
+        if (buffer.getInt() != MAGIC)
+        {
+            throw new IllegalArgumentException("Not a bulk encoded collection");
+        }
+        byte version = buffer.get();
+        if (version != VERSION)
+        {
+            throw new IllegalArgumentException("Unsupported bulk encoding version: " + version);
+        }
+        byte actualKind = buffer.get();
+        byte actualType = buffer.get();
+        byte actualValueType = buffer.get();
+        if (actualKind != kind || actualType != type || actualValueType != valueType)
+        {
+            throw new IllegalArgumentException("Expected kind " + kind + " of types " + type + ", " + valueType
+                    + " but found kind " + actualKind + " of types " + actualType + ", " + actualValueType);
+        }
+        long size = buffer.getLong();
+        if (size < 0L || size > Integer.MAX_VALUE)
+        {
+            throw new IllegalArgumentException("Size out of range: " + size);
+        }
+        return (int) size;
+    }
+
+    /**
+     * Reads a header at the current position of {@code channel} and leaves the channel positioned after it.
+     */
+    public static int readHeader(FileChannel channel, byte kind, byte type, byte valueType) throws IOException
+    {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining())
+        {
+            if (channel.read(header) < 0)
+            {
+                throw new EOFException();
+            }
+        }
+        header.flip();
+        return BulkCodecFormat.readHeader(header, kind, type, valueType);
+    }
+
+    /**
+     * Returns a direct little-endian buffer used to batch writes to a channel.
+     */
+    public static ByteBuffer newChunk()
+    {
+        return ByteBuffer.allocateDirect(CHUNK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Writes the content of {@code chunk} to {@code channel} and clears it.
+     */
+    public static void flush(ByteBuffer chunk, WritableByteChannel channel) throws IOException
+    {
+        chunk.flip();
+        while (chunk.hasRemaining())
+        {
+            channel.write(chunk);
+        }
+        chunk.clear();
+    }
+
+    /**
+     * Maps {@code size} bytes of {@code channel} starting at {@code position} read-only, in little-endian order.
+     *
+     * @throws EOFException if the file ends before the region does
+     */
+    public static ByteBuffer map(FileChannel channel, long position, long size) throws IOException
+    {
+        if (position + size > channel.size())
+        {
+            throw new EOFException();
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A part of a file mapped into memory as consecutive little-endian regions of
+ * {@link BulkCodecFormat#MAX_MAPPED_REGION_SIZE} bytes, so that it may be larger than a single
+ * {@link MappedByteBuffer}. Offsets are relative to the start of the mapped part, and must be a multiple of the size of
+ * the value read or written there, so that no value straddles two regions.
+ * <p>
+ * The mapping stays valid after the channel it was created from is closed, and is released when this object is garbage
+ * collected.
+ *
+ * @since 12.0
+ */
+public final class MappedRegions
+{
+    private static final int REGION_SHIFT = Integer.numberOfTrailingZeros(BulkCodecFormat.MAX_MAPPED_REGION_SIZE);
+    private static final long REGION_MASK = BulkCodecFormat.MAX_MAPPED_REGION_SIZE - 1L;
+
+    private final MappedByteBuffer[] regions;
+    private final long size;
+
+    private MappedRegions(MappedByteBuffer[] regions, long size)
+    {
+        this.regions = regions;
+        this.size = size;
+    }
+
+    /**
+     * Maps {@code size} bytes of {@code channel} starting at {@code position}. A {@link FileChannel.MapMode#READ_WRITE}
+     * mapping grows the file as needed, and the bytes it adds read as zero.
+     *
+     * @throws EOFException if the mode is {@link FileChannel.MapMode#READ_ONLY} and the file ends before the mapped part
+     */
+    public static MappedRegions map(FileChannel channel, FileChannel.MapMode mode, long position, long size) throws IOException
+    {
+        if (mode == FileChannel.MapMode.READ_ONLY && position + size > channel.size())
+        {
+            throw new EOFException();
+        }
+        int regionCount = (int) ((size + REGION_MASK) >>> REGION_SHIFT);
+        MappedByteBuffer[] regions = new MappedByteBuffer[regionCount];
+        for (int i = 0; i < regionCount; i++)
+        {
+            long start = (long) i << REGION_SHIFT;
+            long length = Math.min(size - start, BulkCodecFormat.MAX_MAPPED_REGION_SIZE);
+            regions[i] = channel.map(mode, position + start, length);
+            regions[i].order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return new MappedRegions(regions, size);
+    }
+
+    public long size()
+    {
+        return this.size;
+    }
+
+    public int getInt(long offset)
+    {
+        return this.regions[(int) (offset >>> REGION_SHIFT)].getInt((int) (offset & REGION_MASK));
+    }
+
+    public long getLong(long offset)
+    {
+        return this.regions[(int) (offset >>> REGION_SHIFT)].getLong((int) (offset & REGION_MASK));
+    }
+
+    public void putLong(long offset, long value)
+    {
+        this.regions[(int) (offset >>> REGION_SHIFT)].putLong((int) (offset & REGION_MASK), value);
+    }
+
+    /**
+     * Copies {@code length} ints starting at {@code offset} into {@code target} starting at {@code targetIndex}.
+     */
+    public void getInts(long offset, int[] target, int targetIndex, int length)
+    {
+        long position = offset;
+        int copied = 0;
+        while (copied < length)
+        {
+            MappedByteBuffer region = this.regions[(int) (position >>> REGION_SHIFT)];
+            int regionOffset = (int) (position & REGION_MASK);
+            int count = Math.min(length - copied, (region.capacity() - regionOffset) / Integer.BYTES);
+            region.duplicate().order(ByteOrder.LITTLE_ENDIAN).position(regionOffset).asIntBuffer().get(target, targetIndex + copied, count);
+            copied += count;
+            position += (long) count * Integer.BYTES;
+        }
+    }
+
+    /**
+     * Writes any changes made through a {@link FileChannel.MapMode#READ_WRITE} mapping to the file.
+     */
+    public void force()
+    {
+        for (MappedByteBuffer region : this.regions)
+        {
+            region.force();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import java.lang.ref.Cleaner;
+import java.lang.reflect.Field;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+
+import sun.misc.Unsafe;
+
+/**
+ * A block of memory allocated outside the Java heap, addressed by a {@code long} byte offset so that it may be larger
+ * than any array. The memory is released by {@link #free()}, or when this object is garbage collected if it was never
+ * freed.
+ * <p>
+ * Offsets are not checked, and the memory must not be read or written after it is freed. Classes using a block are
+ * responsible for both.
+ *
+ * @since 12.0
+ */
+public final class NativeMemory
+{
+    private static final Unsafe UNSAFE = NativeMemory.getUnsafe();
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final long address;
+    private final long size;
+    private final Cleaner.Cleanable cleanable;
+
+    private NativeMemory(long address, long size)
+    {
+        this.address = address;
+        this.size = size;
+        this.cleanable = CLEANER.register(this, new Deallocator(address));
+    }
+
+    /**
+     * Allocates {@code size} bytes, all of which read as zero.
+     *
+     * @throws OutOfMemoryError if the memory cannot be allocated
+     */
+    public static NativeMemory allocateZeroed(long size)
+    {
+        if (size < 0L)
+        {
+            throw new IllegalArgumentException("size cannot be less than zero: " + size);
+        }
+        long address = UNSAFE.allocateMemory(Math.max(size, 1L));
+        UNSAFE.setMemory(address, size, (byte) 0);
+        return new NativeMemory(address, size);
+    }
+
+    public long size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Sets every byte to zero.
+     */
+    public void clear()
+    {
+        UNSAFE.setMemory(this.address, this.size, (byte) 0);
+    }
+
+    /**
+     * Releases the memory. Calling this method more than once has no further effect.
+     */
+    public void free()
+    {
+        this.cleanable.clean();
+    }
+
+    public byte getByte(long offset)
+    {
+        return UNSAFE.getByte(this.address + offset);
+    }
+
+    public void putByte(long offset, byte value)
+    {
+        UNSAFE.putByte(this.address + offset, value);
+    }
+
+    public short getShort(long offset)
+    {
+        return UNSAFE.getShort(this.address + offset);
+    }
+
+    public void putShort(long offset, short value)
+    {
+        UNSAFE.putShort(this.address + offset, value);
+    }
+
+    public char getChar(long offset)
+    {
+        return UNSAFE.getChar(this.address + offset);
+    }
+
+    public void putChar(long offset, char value)
+    {
+        UNSAFE.putChar(this.address + offset, value);
+    }
+
+    public int getInt(long offset)
+    {
+        return UNSAFE.getInt(this.address + offset);
+    }
+
+    public void putInt(long offset, int value)
+    {
+        UNSAFE.putInt(this.address + offset, value);
+    }
+
+    public long getLong(long offset)
+    {
+        return UNSAFE.getLong(this.address + offset);
+    }
+
+    public void putLong(long offset, long value)
+    {
+        UNSAFE.putLong(this.address + offset, value);
+    }
+
+    public float getFloat(long offset)
+    {
+        return UNSAFE.getFloat(this.address + offset);
+    }
+
+    public void putFloat(long offset, float value)
+    {
+        UNSAFE.putFloat(this.address + offset, value);
+    }
+
+    public double getDouble(long offset)
+    {
+        return UNSAFE.getDouble(this.address + offset);
+    }
+
+    public void putDouble(long offset, double value)
+    {
+        UNSAFE.putDouble(this.address + offset, value);
+    }
+
+    private static Unsafe getUnsafe()
+    {
+        try
+        {
+            return Unsafe.getUnsafe();
+        }
+        catch (SecurityException ignored)
+        {
+            try
+            {
+                return AccessController.doPrivileged((PrivilegedExceptionAction<Unsafe>) () ->
+                {
+                    Field f = Unsafe.class.getDeclaredField("theUnsafe");
+                    f.setAccessible(true);
+                    return (Unsafe) f.get(null);
+                });
+            }
+            catch (PrivilegedActionException e)
+            {
+                throw new RuntimeException("Could not initialize intrinsics", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Frees the memory. It must not refer to the {@link NativeMemory}, or the block would never become unreachable.
+     */
+    private static final class Deallocator implements Runnable
+    {
+        private final long address;
+
+        private Deallocator(long address)
+        {
+            this.address = address;
+        }
+
+        @Override
+        public void run()
+        {
+            UNSAFE.freeMemory(this.address);
+        }
+    }
+}
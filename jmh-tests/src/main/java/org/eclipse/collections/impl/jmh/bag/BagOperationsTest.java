@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.bag;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
+import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
+import org.eclipse.collections.api.multimap.sortedbag.MutableSortedBagMultimap;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.bag.sorted.mutable.TreeBag;
+import org.eclipse.collections.impl.jmh.domain.KeyDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class BagOperationsTest
+{
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "SKEWED"})
+    public KeyDistribution distribution;
+
+    private Integer[] keys;
+    private HashBag<Integer> hashBag;
+    private TreeBag<Integer> treeBag;
+
+    @Setup
+    public void setUp()
+    {
+        this.keys = this.distribution.boxedKeys(this.size);
+        this.hashBag = HashBag.newBag();
+        this.treeBag = TreeBag.newBag();
+        for (Integer key : this.keys)
+        {
+            this.hashBag.add(key);
+            this.treeBag.add(key);
+        }
+    }
+
+    @Benchmark
+    public MutableBag<Integer> add_hash_bag()
+    {
+        Integer[] localKeys = this.keys;
+        MutableBag<Integer> bag = HashBag.newBag();
+        for (Integer key : localKeys)
+        {
+            bag.add(key);
+        }
+        return bag;
+    }
+
+    @Benchmark
+    public MutableSortedBag<Integer> add_tree_bag()
+    {
+        Integer[] localKeys = this.keys;
+        MutableSortedBag<Integer> bag = TreeBag.newBag();
+        for (Integer key : localKeys)
+        {
+            bag.add(key);
+        }
+        return bag;
+    }
+
+    @Benchmark
+    public int contains_hash_bag()
+    {
+        Integer[] localKeys = this.keys;
+        MutableBag<Integer> localBag = this.hashBag;
+        int count = 0;
+        for (Integer key : localKeys)
+        {
+            if (localBag.contains(key))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int contains_tree_bag()
+    {
+        Integer[] localKeys = this.keys;
+        MutableSortedBag<Integer> localBag = this.treeBag;
+        int count = 0;
+        for (Integer key : localKeys)
+        {
+            if (localBag.contains(key))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long occurrencesOf_hash_bag()
+    {
+        Integer[] localKeys = this.keys;
+        MutableBag<Integer> localBag = this.hashBag;
+        long total = 0L;
+        for (Integer key : localKeys)
+        {
+            total += localBag.occurrencesOf(key);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long occurrencesOf_tree_bag()
+    {
+        Integer[] localKeys = this.keys;
+        MutableSortedBag<Integer> localBag = this.treeBag;
+        long total = 0L;
+        for (Integer key : localKeys)
+        {
+            total += localBag.occurrencesOf(key);
+        }
+        return total;
+    }
+
+    /**
+     * Removes every key from a copy of the bag, so the cost of the copy is included.
+     */
+    @Benchmark
+    public MutableBag<Integer> remove_hash_bag()
+    {
+        Integer[] localKeys = this.keys;
+        MutableBag<Integer> bag = HashBag.newBag(this.hashBag);
+        for (Integer key : localKeys)
+        {
+            if (!bag.remove(key))
+            {
+                throw new AssertionError(key);
+            }
+        }
+        return bag;
+    }
+
+    /**
+     * Removes every key from a copy of the bag, so the cost of the copy is included.
+     */
+    @Benchmark
+    public MutableSortedBag<Integer> remove_tree_bag()
+    {
+        Integer[] localKeys = this.keys;
+        MutableSortedBag<Integer> bag = TreeBag.newBag(this.treeBag);
+        for (Integer key : localKeys)
+        {
+            if (!bag.remove(key))
+            {
+                throw new AssertionError(key);
+            }
+        }
+        return bag;
+    }
+
+    @Benchmark
+    public long iterate_hash_bag()
+    {
+        long[] total = new long[1];
+        this.hashBag.forEachWithOccurrences((each, occurrences) -> total[0] += (long) each * occurrences);
+        return total[0];
+    }
+
+    @Benchmark
+    public long iterate_tree_bag()
+    {
+        long[] total = new long[1];
+        this.treeBag.forEachWithOccurrences((each, occurrences) -> total[0] += (long) each * occurrences);
+        return total[0];
+    }
+
+    @Benchmark
+    public MutableBagMultimap<Integer, Integer> groupBy_hash_bag()
+    {
+        return this.hashBag.groupBy(each -> each % 100);
+    }
+
+    @Benchmark
+    public MutableSortedBagMultimap<Integer, Integer> groupBy_tree_bag()
+    {
+        return this.treeBag.groupBy(each -> each % 100);
+    }
+}
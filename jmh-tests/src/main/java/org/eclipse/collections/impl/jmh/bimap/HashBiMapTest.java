@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.bimap;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.bimap.MutableBiMap;
+import org.eclipse.collections.api.multimap.set.MutableSetMultimap;
+import org.eclipse.collections.impl.bimap.mutable.HashBiMap;
+import org.eclipse.collections.impl.jmh.domain.KeyDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class HashBiMapTest
+{
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "SKEWED"})
+    public KeyDistribution distribution;
+
+    private Integer[] keys;
+    private Integer[] values;
+    private MutableBiMap<Integer, Integer> biMap;
+
+    @Setup
+    public void setUp()
+    {
+        this.keys = this.distribution.boxedKeys(this.size);
+        this.values = KeyDistribution.SEQUENTIAL.boxedKeys(this.size);
+        this.biMap = this.put();
+    }
+
+    /**
+     * Values are distinct, so a repeated key replaces the previous entry and never collides with another key's value.
+     */
+    @Benchmark
+    public MutableBiMap<Integer, Integer> put()
+    {
+        Integer[] localKeys = this.keys;
+        Integer[] localValues = this.values;
+        MutableBiMap<Integer, Integer> result = HashBiMap.newMap();
+        for (int i = 0; i < localKeys.length; i++)
+        {
+            result.put(localKeys[i], localValues[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int get()
+    {
+        Integer[] localKeys = this.keys;
+        MutableBiMap<Integer, Integer> localBiMap = this.biMap;
+        int count = 0;
+        for (Integer key : localKeys)
+        {
+            if (localBiMap.get(key) != null)
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int get_inverse()
+    {
+        Integer[] localValues = this.values;
+        MutableBiMap<Integer, Integer> localInverse = this.biMap.inverse();
+        int count = 0;
+        for (Integer value : localValues)
+        {
+            if (localInverse.get(value) != null)
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int containsValue()
+    {
+        Integer[] localValues = this.values;
+        MutableBiMap<Integer, Integer> localBiMap = this.biMap;
+        int count = 0;
+        for (Integer value : localValues)
+        {
+            if (localBiMap.containsValue(value))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Removes every key from a copy of the map, so the cost of the copy is included.
+     */
+    @Benchmark
+    public MutableBiMap<Integer, Integer> remove()
+    {
+        Integer[] localKeys = this.keys;
+        MutableBiMap<Integer, Integer> result = HashBiMap.newMap();
+        result.putAll(this.biMap);
+        for (Integer key : localKeys)
+        {
+            result.remove(key);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long iterate()
+    {
+        long[] total = new long[1];
+        this.biMap.forEachKeyValue((key, value) -> total[0] += key ^ value);
+        return total[0];
+    }
+
+    @Benchmark
+    public MutableSetMultimap<Integer, Integer> groupBy()
+    {
+        return this.biMap.groupBy(each -> each % 100);
+    }
+}
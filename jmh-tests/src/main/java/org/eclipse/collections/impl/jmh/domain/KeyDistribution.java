@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.domain;
+
+import java.util.Random;
+
+/**
+ * The keys a benchmark inserts and looks up. Keys are generated from a fixed seed so that every fork of a benchmark
+ * sees the same keys.
+ */
+public enum KeyDistribution
+{
+    /**
+     * The keys 0 to size - 1 in ascending order, all distinct.
+     */
+    SEQUENTIAL,
+
+    /**
+     * Keys drawn uniformly from the whole int range, so nearly all are distinct and their hash codes are scattered.
+     */
+    RANDOM,
+
+    /**
+     * Keys drawn from size / 16 distinct values, with small values far more frequent than large ones, so that most keys
+     * are repeated many times.
+     */
+    SKEWED;
+
+    private static final long SEED = 123456789012345L;
+
+    public int[] keys(int size)
+    {
+        Random random = new Random(SEED);
+        int distinctKeys = Math.max(1, size / 16);
+        int[] keys = new int[size];
+        for (int i = 0; i < size; i++)
+        {
+            keys[i] = this.key(i, distinctKeys, random);
+        }
+        return keys;
+    }
+
+    public Integer[] boxedKeys(int size)
+    {
+        int[] keys = this.keys(size);
+        Integer[] boxed = new Integer[size];
+        for (int i = 0; i < size; i++)
+        {
+            boxed[i] = keys[i];
+        }
+        return boxed;
+    }
+
+    public long[] longKeys(int size)
+    {
+        int[] keys = this.keys(size);
+        long[] longs = new long[size];
+        for (int i = 0; i < size; i++)
+        {
+            longs[i] = keys[i];
+        }
+        return longs;
+    }
+
+    private int key(int index, int distinctKeys, Random random)
+    {
+        switch (this)
+        {
+            case SEQUENTIAL:
+                return index;
+            case RANDOM:
+                return random.nextInt();
+            case SKEWED:
+                double uniform = random.nextDouble();
+                return (int) (uniform * uniform * distinctKeys);
+            default:
+                throw new AssertionError(this);
+        }
+    }
+}
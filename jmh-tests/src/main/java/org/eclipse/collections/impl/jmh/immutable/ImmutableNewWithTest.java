@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.immutable;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.impl.jmh.domain.KeyDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Builds immutable collections one element at a time, which copies the whole ImmutableArrayList on every newWith but
+ * only one path of the persistent list and the hash tries.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ImmutableNewWithTest
+{
+    @Param({"10", "100", "1000", "10000"})
+    public int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "SKEWED"})
+    public KeyDistribution distribution;
+
+    private Integer[] keys;
+    private ImmutableList<Integer> arrayList;
+    private ImmutableList<Integer> persistentList;
+    private ImmutableMap<Integer, Integer> map;
+    private ImmutableSet<Integer> set;
+
+    @Setup
+    public void setUp()
+    {
+        this.keys = this.distribution.boxedKeys(this.size);
+        this.arrayList = Lists.immutable.with(this.keys);
+        this.persistentList = Lists.immutable.withAllPersistent(this.arrayList);
+        this.map = this.newWithKeyValue_map();
+        this.set = this.newWith_set();
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> newWith_array_list()
+    {
+        Integer[] localKeys = this.keys;
+        ImmutableList<Integer> result = Lists.immutable.empty();
+        for (Integer key : localKeys)
+        {
+            result = result.newWith(key);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> newWith_persistent_list()
+    {
+        Integer[] localKeys = this.keys;
+        ImmutableList<Integer> result = Lists.immutable.emptyPersistent();
+        for (Integer key : localKeys)
+        {
+            result = result.newWith(key);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long get_array_list()
+    {
+        ImmutableList<Integer> localList = this.arrayList;
+        long total = 0L;
+        for (int i = 0; i < localList.size(); i++)
+        {
+            total += localList.get(i);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long get_persistent_list()
+    {
+        ImmutableList<Integer> localList = this.persistentList;
+        long total = 0L;
+        for (int i = 0; i < localList.size(); i++)
+        {
+            total += localList.get(i);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public ImmutableMap<Integer, Integer> newWithKeyValue_map()
+    {
+        Integer[] localKeys = this.keys;
+        ImmutableMap<Integer, Integer> result = Maps.immutable.empty();
+        for (Integer key : localKeys)
+        {
+            result = result.newWithKeyValue(key, key);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public ImmutableMap<Integer, Integer> newWithoutKey_map()
+    {
+        Integer[] localKeys = this.keys;
+        ImmutableMap<Integer, Integer> result = this.map;
+        for (Integer key : localKeys)
+        {
+            result = result.newWithoutKey(key);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public ImmutableSet<Integer> newWith_set()
+    {
+        Integer[] localKeys = this.keys;
+        ImmutableSet<Integer> result = Sets.immutable.empty();
+        for (Integer key : localKeys)
+        {
+            result = result.newWith(key);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int contains_set()
+    {
+        Integer[] localKeys = this.keys;
+        ImmutableSet<Integer> localSet = this.set;
+        int count = 0;
+        for (Integer key : localKeys)
+        {
+            if (localSet.contains(key))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+
+package org.eclipse.collections.impl.jmh.lazy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.lazy.CollectIterable;
+import org.eclipse.collections.impl.lazy.RejectIterable;
+import org.eclipse.collections.impl.lazy.SelectIterable;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A chain of three filters and three transformations over a FastList, run through the fused lazy stages, through the
+ * nested stages that were built before fusion, and as a hand-written loop.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class LazyFusionTest
+{
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private MutableList<Integer> integers;
+
+    @Setup
+    public void setUp()
+    {
+        this.integers = FastList.newList(Interval.oneTo(this.size));
+    }
+
+    @Benchmark
+    public long fused_lazy_ec()
+    {
+        return this.integers.asLazy()
+                .select(each -> each % 2 == 0)
+                .reject(each -> each % 3 == 0)
+                .select(each -> each % 5 != 0)
+                .collect(each -> each + 1)
+                .collect(each -> each * 3)
+                .collect(each -> each - 7)
+                .sumOfInt(Integer::intValue);
+    }
+
+    @Benchmark
+    public long nested_lazy_ec()
+    {
+        LazyIterable<Integer> select1 = new SelectIterable<>(this.integers, each -> each % 2 == 0);
+        LazyIterable<Integer> reject = new RejectIterable<>(select1, each -> each % 3 == 0);
+        LazyIterable<Integer> select2 = new SelectIterable<>(reject, each -> each % 5 != 0);
+        LazyIterable<Integer> collect1 = new CollectIterable<>(select2, each -> each + 1);
+        LazyIterable<Integer> collect2 = new CollectIterable<>(collect1, each -> each * 3);
+        LazyIterable<Integer> collect3 = new CollectIterable<>(collect2, each -> each - 7);
+        return collect3.sumOfInt(Integer::intValue);
+    }
+
+    @Benchmark
+    public long fused_lazy_jdk()
+    {
+        return this.integers.stream()
+                .filter(each -> each % 2 == 0)
+                .filter(each -> each % 3 != 0)
+                .filter(each -> each % 5 != 0)
+                .map(each -> each + 1)
+                .map(each -> each * 3)
+                .map(each -> each - 7)
+                .mapToLong(Integer::intValue)
+                .sum();
+    }
+
+    @Benchmark
+    public long handWritten()
+    {
+        long sum = 0L;
+        for (int i = 0; i < this.integers.size(); i++)
+        {
+            int each = this.integers.get(i);
+            if (each % 2 == 0 && each % 3 != 0 && each % 5 != 0)
+            {
+                sum += (each + 1) * 3 - 7;
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.lazy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.impl.jmh.domain.KeyDistribution;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A select, collect and reduce pipeline and a groupBy, run eagerly, lazily, in parallel and through java.util.stream,
+ * so that the cost of the intermediate collections the eager versions allocate shows up under {@code -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class LazyPipelineTest
+{
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "SKEWED"})
+    public KeyDistribution distribution;
+
+    private MutableList<Integer> integers;
+    private ExecutorService executorService;
+
+    @Setup
+    public void setUp()
+    {
+        this.integers = FastList.newListWith(this.distribution.boxedKeys(this.size));
+        this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public long pipeline_serial_eager_ec()
+    {
+        return this.integers
+                .select(each -> each % 3 != 0)
+                .collect(each -> each * 2)
+                .sumOfInt(Integer::intValue);
+    }
+
+    @Benchmark
+    public long pipeline_serial_lazy_ec()
+    {
+        return this.integers.asLazy()
+                .select(each -> each % 3 != 0)
+                .collect(each -> each * 2)
+                .sumOfInt(Integer::intValue);
+    }
+
+    @Benchmark
+    public long pipeline_parallel_lazy_ec()
+    {
+        return this.integers.asParallel(this.executorService, BATCH_SIZE)
+                .select(each -> each % 3 != 0)
+                .collect(each -> each * 2)
+                .sumOfInt(Integer::intValue);
+    }
+
+    @Benchmark
+    public long pipeline_serial_lazy_jdk()
+    {
+        return this.integers.stream()
+                .filter(each -> each % 3 != 0)
+                .map(each -> each * 2)
+                .mapToLong(Integer::intValue)
+                .sum();
+    }
+
+    @Benchmark
+    public long pipeline_parallel_lazy_jdk()
+    {
+        return this.integers.parallelStream()
+                .filter(each -> each % 3 != 0)
+                .map(each -> each * 2)
+                .mapToLong(Integer::intValue)
+                .sum();
+    }
+
+    @Benchmark
+    public Multimap<Integer, Integer> groupBy_serial_eager_ec()
+    {
+        return this.integers.groupBy(each -> each % 100);
+    }
+
+    @Benchmark
+    public Multimap<Integer, Integer> groupBy_serial_lazy_ec()
+    {
+        return this.integers.asLazy().groupBy(each -> each % 100);
+    }
+
+    @Benchmark
+    public Multimap<Integer, Integer> groupBy_parallel_lazy_ec()
+    {
+        return this.integers.asParallel(this.executorService, BATCH_SIZE).groupBy(each -> each % 100);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupBy_serial_lazy_jdk()
+    {
+        return this.integers.stream().collect(Collectors.groupingBy(each -> each % 100));
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupBy_parallel_lazy_jdk()
+    {
+        return this.integers.parallelStream().collect(Collectors.groupingByConcurrent(each -> each % 100));
+    }
+}
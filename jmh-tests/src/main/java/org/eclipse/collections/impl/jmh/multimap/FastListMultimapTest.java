@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.multimap;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.impl.jmh.domain.KeyDistribution;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.multimap.list.FastListMultimap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class FastListMultimapTest
+{
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "SKEWED"})
+    public KeyDistribution distribution;
+
+    private Integer[] keys;
+    private MutableList<Integer> list;
+    private FastListMultimap<Integer, Integer> multimap;
+
+    @Setup
+    public void setUp()
+    {
+        this.keys = this.distribution.boxedKeys(this.size);
+        this.list = FastList.newListWith(this.keys);
+        this.multimap = this.put();
+    }
+
+    @Benchmark
+    public FastListMultimap<Integer, Integer> put()
+    {
+        Integer[] localKeys = this.keys;
+        FastListMultimap<Integer, Integer> result = FastListMultimap.newMultimap();
+        for (int i = 0; i < localKeys.length; i++)
+        {
+            result.put(localKeys[i], i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int get()
+    {
+        Integer[] localKeys = this.keys;
+        FastListMultimap<Integer, Integer> localMultimap = this.multimap;
+        int count = 0;
+        for (Integer key : localKeys)
+        {
+            count += localMultimap.get(key).size();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public boolean containsKeyAndValue()
+    {
+        Integer[] localKeys = this.keys;
+        FastListMultimap<Integer, Integer> localMultimap = this.multimap;
+        boolean result = true;
+        for (int i = 0; i < localKeys.length; i += 64)
+        {
+            result &= localMultimap.containsKeyAndValue(localKeys[i], i);
+        }
+        return result;
+    }
+
+    /**
+     * Removes every key from a copy of the multimap, so the cost of the copy is included.
+     */
+    @Benchmark
+    public FastListMultimap<Integer, Integer> removeAll()
+    {
+        Integer[] localKeys = this.keys;
+        FastListMultimap<Integer, Integer> result = FastListMultimap.newMultimap(this.multimap);
+        for (Integer key : localKeys)
+        {
+            result.removeAll(key);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long iterate()
+    {
+        long[] total = new long[1];
+        this.multimap.forEachKeyValue((key, value) -> total[0] += key ^ value);
+        return total[0];
+    }
+
+    @Benchmark
+    public MutableListMultimap<Integer, Integer> groupBy()
+    {
+        return this.list.groupBy(each -> each % 100);
+    }
+
+    @Benchmark
+    public MutableListMultimap<Integer, Integer> groupBy_lazy()
+    {
+        return this.list.asLazy().groupBy(each -> each % 100, FastListMultimap.newMultimap());
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.parallel;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.impl.block.procedure.SumOfLongProcedure;
+import org.eclipse.collections.impl.forkjoin.FJIterate;
+import org.eclipse.collections.impl.jmh.domain.KeyDistribution;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.AbstractProcedureCombiner;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs the same select, collect, groupBy, aggregateBy and sum on each parallel engine: ParallelIterate on a fixed
+ * thread pool, FJIterate on a ForkJoinPool, lazy asParallel iterables on the fixed thread pool, and JDK parallel
+ * streams submitted to the ForkJoinPool so that they are limited to the same number of threads. Batch size has no
+ * effect on the parallel streams, which split themselves.
+ * <p>
+ * Narrow the parameters from the command line to compare engines for one workload, for example
+ * {@code -p cores=8 -p size=1000000}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ParallelEngineTest
+{
+    private static final Predicate<Integer> PREDICATE = each -> each % 3 != 0;
+    private static final Function<Integer, Integer> FUNCTION = each -> each * 2;
+    private static final Function<Integer, Integer> GROUP_BY = each -> each % 100;
+    private static final Function0<Long> ZERO = () -> 0L;
+    private static final Function2<Long, Integer, Long> SUM = (sum, each) -> sum + each;
+
+    @Param({"1", "2", "4", "8"})
+    public int cores;
+
+    @Param({"1000", "10000", "100000"})
+    public int batchSize;
+
+    @Param({"100000", "1000000", "10000000"})
+    public int size;
+
+    private MutableList<Integer> integers;
+    private ExecutorService executorService;
+    private ForkJoinPool forkJoinPool;
+
+    @Setup
+    public void setUp()
+    {
+        this.integers = FastList.newListWith(KeyDistribution.RANDOM.boxedKeys(this.size));
+        this.executorService = Executors.newFixedThreadPool(this.cores);
+        this.forkJoinPool = new ForkJoinPool(this.cores);
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+        this.forkJoinPool.shutdownNow();
+        this.forkJoinPool.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public MutableList<Integer> select_parallelIterate()
+    {
+        return ParallelIterate.select(this.integers, PREDICATE, FastList.newList(), this.batchSize, this.executorService, false);
+    }
+
+    @Benchmark
+    public MutableList<Integer> select_fjIterate()
+    {
+        return FJIterate.select(this.integers, PREDICATE, FastList.newList(), this.batchSize, this.forkJoinPool, false);
+    }
+
+    @Benchmark
+    public MutableList<Integer> select_asParallel()
+    {
+        return this.integers.asParallel(this.executorService, this.batchSize).select(PREDICATE).toList();
+    }
+
+    @Benchmark
+    public List<Integer> select_jdk()
+    {
+        return this.forkJoinPool.submit(() -> this.integers.parallelStream().filter(PREDICATE).collect(Collectors.toList())).join();
+    }
+
+    @Benchmark
+    public MutableList<Integer> collect_parallelIterate()
+    {
+        return ParallelIterate.collect(this.integers, FUNCTION, FastList.newList(), this.batchSize, this.executorService, false);
+    }
+
+    @Benchmark
+    public MutableList<Integer> collect_fjIterate()
+    {
+        return FJIterate.collect(this.integers, FUNCTION, FastList.newList(), this.batchSize, this.forkJoinPool, false);
+    }
+
+    @Benchmark
+    public MutableList<Integer> collect_asParallel()
+    {
+        return this.integers.asParallel(this.executorService, this.batchSize).collect(FUNCTION).toList();
+    }
+
+    @Benchmark
+    public List<Integer> collect_jdk()
+    {
+        return this.forkJoinPool.submit(() -> this.integers.parallelStream().map(FUNCTION).collect(Collectors.toList())).join();
+    }
+
+    @Benchmark
+    public Multimap<Integer, Integer> groupBy_parallelIterate()
+    {
+        return ParallelIterate.groupBy(this.integers, GROUP_BY, this.batchSize, this.executorService);
+    }
+
+    @Benchmark
+    public Multimap<Integer, Integer> groupBy_fjIterate()
+    {
+        return FJIterate.groupBy(this.integers, GROUP_BY, this.batchSize, this.forkJoinPool);
+    }
+
+    @Benchmark
+    public Multimap<Integer, Integer> groupBy_asParallel()
+    {
+        return this.integers.asParallel(this.executorService, this.batchSize).groupBy(GROUP_BY);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupBy_jdk()
+    {
+        return this.forkJoinPool.submit(() -> this.integers.parallelStream().collect(Collectors.groupingByConcurrent(GROUP_BY))).join();
+    }
+
+    @Benchmark
+    public MapIterable<Integer, Long> aggregateBy_parallelIterate()
+    {
+        return ParallelIterate.aggregateBy(this.integers, GROUP_BY, ZERO, SUM, this.batchSize, this.executorService);
+    }
+
+    @Benchmark
+    public MapIterable<Integer, Long> aggregateBy_fjIterate()
+    {
+        return FJIterate.aggregateBy(this.integers, GROUP_BY, ZERO, SUM, this.batchSize, this.forkJoinPool);
+    }
+
+    @Benchmark
+    public MapIterable<Integer, Long> aggregateBy_asParallel()
+    {
+        return this.integers.asParallel(this.executorService, this.batchSize).aggregateBy(GROUP_BY, ZERO, SUM);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> aggregateBy_jdk()
+    {
+        return this.forkJoinPool.submit(() -> this.integers.parallelStream().collect(
+                Collectors.groupingByConcurrent(GROUP_BY, Collectors.summingLong(Integer::longValue)))).join();
+    }
+
+    @Benchmark
+    public long sum_parallelIterate()
+    {
+        SumCombiner combiner = new SumCombiner();
+        ParallelIterate.forEach(this.integers, () -> new SumOfLongProcedure<>(Integer::longValue), combiner, this.batchSize, this.executorService);
+        return combiner.getSum();
+    }
+
+    @Benchmark
+    public long sum_fjIterate()
+    {
+        SumCombiner combiner = new SumCombiner();
+        FJIterate.forEach(this.integers, () -> new SumOfLongProcedure<>(Integer::longValue), combiner, this.batchSize, this.forkJoinPool);
+        return combiner.getSum();
+    }
+
+    @Benchmark
+    public long sum_asParallel()
+    {
+        return this.integers.asParallel(this.executorService, this.batchSize).sumOfLong(Integer::longValue);
+    }
+
+    @Benchmark
+    public long sum_jdk()
+    {
+        return this.forkJoinPool.submit(() -> this.integers.parallelStream().mapToLong(Integer::longValue).sum()).join();
+    }
+
+    private static final class SumCombiner extends AbstractProcedureCombiner<SumOfLongProcedure<Integer>>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private long sum;
+
+        private SumCombiner()
+        {
+            super(true);
+        }
+
+        @Override
+        public void combineOne(SumOfLongProcedure<Integer> procedure)
+        {
+            this.sum += procedure.getResult();
+        }
+
+        public long getSum()
+        {
+            return this.sum;
+        }
+    }
+}
@@ -11,9 +11,10 @@
 package org.eclipse.collections.impl.jmh.runner;
 
 import org.junit.Test;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
-import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
 import org.openjdk.jmh.runner.options.VerboseMode;
@@ -32,18 +33,26 @@ public class JMHRunnerTest
 
     private static void runBenchmarks(VerboseMode mode, String include)
     {
-        Options opts = new OptionsBuilder()
+        JMHRunnerTest.runBenchmarks(mode, include, false);
+    }
+
+    private static void runBenchmarks(VerboseMode mode, String include, boolean profileAllocations)
+    {
+        ChainedOptionsBuilder opts = new OptionsBuilder()
                 .include(include)
                 .verbosity(mode)
                 .forks(1)
                 .warmupTime(TimeValue.seconds(2))
                 .warmupIterations(5)
                 .measurementTime(TimeValue.seconds(2))
-                .measurementIterations(5)
-                .build();
+                .measurementIterations(5);
+        if (profileAllocations)
+        {
+            opts.addProfiler(GCProfiler.class);
+        }
         try
         {
-            new Runner(opts).run();
+            new Runner(opts.build()).run();
         }
         catch (RunnerException ex)
         {
@@ -62,4 +71,18 @@ public class JMHRunnerTest
     {
         JMHRunnerTest.runBenchmarks(VerboseMode.NORMAL, ".*org.eclipse.collections.impl.jmh.map.*");
     }
+
+    /**
+     * Runs the benchmarks for bags, multimaps, bimaps, stacks, immutable collections, primitive hash sets and lazy
+     * pipelines with the GC profiler, the equivalent of {@code -prof gc} on the command line. The gc.alloc.rate.norm
+     * line under each score is the number of bytes allocated per operation.
+     */
+    @Test
+    public void runCollectionBenchmarksWithAllocationProfiling()
+    {
+        JMHRunnerTest.runBenchmarks(
+                VerboseMode.NORMAL,
+                ".*org.eclipse.collections.impl.jmh.(bag|multimap|bimap|stack|immutable|set.primitive|lazy).*",
+                true);
+    }
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.set.primitive;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.iterator.IntIterator;
+import org.eclipse.collections.api.iterator.LongIterator;
+import org.eclipse.collections.impl.jmh.domain.KeyDistribution;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import org.eclipse.collections.impl.set.mutable.primitive.LongHashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class PrimitiveHashSetTest
+{
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "SKEWED"})
+    public KeyDistribution distribution;
+
+    private int[] intKeys;
+    private long[] longKeys;
+    private IntHashSet intSet;
+    private LongHashSet longSet;
+
+    @Setup
+    public void setUp()
+    {
+        this.intKeys = this.distribution.keys(this.size);
+        this.longKeys = this.distribution.longKeys(this.size);
+        this.intSet = IntHashSet.newSetWith(this.intKeys);
+        this.longSet = LongHashSet.newSetWith(this.longKeys);
+    }
+
+    @Benchmark
+    public IntHashSet add_int()
+    {
+        int[] localKeys = this.intKeys;
+        IntHashSet result = new IntHashSet();
+        for (int key : localKeys)
+        {
+            result.add(key);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int contains_int()
+    {
+        int[] localKeys = this.intKeys;
+        IntHashSet localSet = this.intSet;
+        int count = 0;
+        for (int key : localKeys)
+        {
+            if (localSet.contains(key))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Removes every key from a copy of the set, so the cost of the copy is included.
+     */
+    @Benchmark
+    public IntHashSet remove_int()
+    {
+        int[] localKeys = this.intKeys;
+        IntHashSet result = new IntHashSet(this.intSet);
+        for (int key : localKeys)
+        {
+            result.remove(key);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long iterate_int()
+    {
+        IntIterator iterator = this.intSet.intIterator();
+        long total = 0L;
+        while (iterator.hasNext())
+        {
+            total += iterator.next();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long forEach_int()
+    {
+        long[] total = new long[1];
+        this.intSet.forEach(each -> total[0] += each);
+        return total[0];
+    }
+
+    @Benchmark
+    public LongHashSet add_long()
+    {
+        long[] localKeys = this.longKeys;
+        LongHashSet result = new LongHashSet();
+        for (long key : localKeys)
+        {
+            result.add(key);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int contains_long()
+    {
+        long[] localKeys = this.longKeys;
+        LongHashSet localSet = this.longSet;
+        int count = 0;
+        for (long key : localKeys)
+        {
+            if (localSet.contains(key))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Removes every key from a copy of the set, so the cost of the copy is included.
+     */
+    @Benchmark
+    public LongHashSet remove_long()
+    {
+        long[] localKeys = this.longKeys;
+        LongHashSet result = new LongHashSet(this.longSet);
+        for (long key : localKeys)
+        {
+            result.remove(key);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long iterate_long()
+    {
+        LongIterator iterator = this.longSet.longIterator();
+        long total = 0L;
+        while (iterator.hasNext())
+        {
+            total += iterator.next();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long forEach_long()
+    {
+        long[] total = new long[1];
+        this.longSet.forEach(each -> total[0] += each);
+        return total[0];
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.stack;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.api.stack.MutableStack;
+import org.eclipse.collections.impl.jmh.domain.KeyDistribution;
+import org.eclipse.collections.impl.stack.mutable.ArrayStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ArrayStackTest
+{
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private Integer[] elements;
+    private MutableStack<Integer> stack;
+
+    @Setup
+    public void setUp()
+    {
+        this.elements = KeyDistribution.RANDOM.boxedKeys(this.size);
+        this.stack = ArrayStack.newStackWith(this.elements);
+    }
+
+    @Benchmark
+    public MutableStack<Integer> push_ec()
+    {
+        Integer[] localElements = this.elements;
+        MutableStack<Integer> result = ArrayStack.newStack();
+        for (Integer each : localElements)
+        {
+            result.push(each);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Deque<Integer> push_jdk()
+    {
+        Integer[] localElements = this.elements;
+        Deque<Integer> result = new ArrayDeque<>();
+        for (Integer each : localElements)
+        {
+            result.push(each);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long pushThenPop_ec()
+    {
+        MutableStack<Integer> localStack = this.push_ec();
+        long total = 0L;
+        while (localStack.notEmpty())
+        {
+            total += localStack.pop();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long pushThenPop_jdk()
+    {
+        Deque<Integer> localStack = this.push_jdk();
+        long total = 0L;
+        while (!localStack.isEmpty())
+        {
+            total += localStack.pop();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public ListIterable<Integer> pop_count_ec()
+    {
+        MutableStack<Integer> localStack = ArrayStack.newStack(this.stack);
+        return localStack.pop(localStack.size() / 2);
+    }
+
+    @Benchmark
+    public ListIterable<Integer> peek_count_ec()
+    {
+        return this.stack.peek(this.size / 2);
+    }
+
+    @Benchmark
+    public boolean contains_ec()
+    {
+        return this.stack.contains(this.elements[0]);
+    }
+
+    @Benchmark
+    public long iterate_ec()
+    {
+        long[] total = new long[1];
+        this.stack.forEach(each -> total[0] += each);
+        return total[0];
+    }
+
+    @Benchmark
+    public MutableListMultimap<Integer, Integer> groupBy_ec()
+    {
+        return this.stack.groupBy(each -> each % 100);
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+public class ImmutablePersistentListSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAENvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLmxpc3QuaW1tdXRhYmxlLkltbXV0\n"
+                        + "YWJsZVBlcnNpc3RlbnRMaXN0AAAAAAAAAAECAARJAAVzaGlmdEkABHNpemVbAARyb290dAATW0xq\n"
+                        + "YXZhL2xhbmcvT2JqZWN0O1sABHRhaWxxAH4AAXhwAAAABQAAAAR1cgATW0xqYXZhLmxhbmcuT2Jq\n"
+                        + "ZWN0O5DOWJ8QcylsAgAAeHAAAAAgcHBwcHBwcHBwcHBwcHBwcHBwcHBwcHBwcHBwcHBwcHB1cQB+\n"
+                        + "AAMAAAAEc3IAEWphdmEubGFuZy5JbnRlZ2VyEuKgpPeBhzgCAAFJAAV2YWx1ZXhyABBqYXZhLmxh\n"
+                        + "bmcuTnVtYmVyhqyVHQuU4IsCAAB4cAAAAAFzcQB+AAYAAAACc3EAfgAGAAAAA3NxAH4ABgAAAAQ=\n",
+                ImmutablePersistentList.newList(Interval.oneTo(4)));
+    }
+}
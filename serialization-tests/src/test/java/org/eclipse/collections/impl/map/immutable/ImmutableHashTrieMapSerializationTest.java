@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+public class ImmutableHashTrieMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAElvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLm1hcC5pbW11dGFibGUuSW1tdXRh\n"
+                        + "YmxlTWFwU2VyaWFsaXphdGlvblByb3h5AAAAAAAAAAEMAAB4cHcEAAAABHNyABFqYXZhLmxhbmcu\n"
+                        + "SW50ZWdlchLioKT3gYc4AgABSQAFdmFsdWV4cgAQamF2YS5sYW5nLk51bWJlcoaslR0LlOCLAgAA\n"
+                        + "eHAAAAABcQB+AARzcQB+AAIAAAACcQB+AAVzcQB+AAIAAAADcQB+AAZzcQB+AAIAAAAEcQB+AAd4\n",
+                ImmutableHashTrieMap.newMap(UnifiedMap.newWithKeysValues(1, 1, 2, 2, 3, 3, 4, 4)));
+    }
+}
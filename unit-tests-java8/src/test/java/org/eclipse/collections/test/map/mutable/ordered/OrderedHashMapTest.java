@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+
+package org.eclipse.collections.test.map.mutable.ordered;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.map.MutableOrderedMap;
+import org.eclipse.collections.impl.map.ordered.mutable.OrderedHashMap;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class OrderedHashMapTest implements MutableOrderedMapTestCase
+{
+    @Override
+    public <T> MutableOrderedMap<Object, T> newWith(T... elements)
+    {
+        int i = elements.length;
+        MutableOrderedMap<Object, T> result = new OrderedHashMap<>();
+        for (T each : elements)
+        {
+            assertNull(result.put(i, each));
+            i--;
+        }
+        return result;
+    }
+
+    @Override
+    public <K, V> MutableOrderedMap<K, V> newWithKeysValues(Object... elements)
+    {
+        if (elements.length % 2 != 0)
+        {
+            fail(String.valueOf(elements.length));
+        }
+
+        MutableOrderedMap<K, V> result = new OrderedHashMap<>();
+        for (int i = 0; i < elements.length; i += 2)
+        {
+            assertNull(result.put((K) elements[i], (V) elements[i + 1]));
+        }
+        return result;
+    }
+
+    @Test
+    public void OrderedHashMap_putAfterRemove()
+    {
+        OrderedHashMap<String, Integer> map = OrderedHashMap.newWithKeysValues("a", 1, "b", 2, "c", 3);
+        assertEquals(Integer.valueOf(1), map.put("a", 4));
+        assertEquals(Lists.mutable.with("a", "b", "c"), Lists.mutable.withAll(map.keySet()));
+        assertEquals(Integer.valueOf(2), map.remove("b"));
+        assertNull(map.put("b", 5));
+        assertNull(map.put(null, 6));
+        assertEquals(Lists.mutable.with("a", "c", "b", null), Lists.mutable.withAll(map.keySet()));
+        assertEquals(Lists.mutable.with(4, 3, 5, 6), map.valuesView().toList());
+        assertEquals("{a=4, c=3, b=5, null=6}", map.toString());
+    }
+
+    @Test
+    public void OrderedHashMap_matchesLinkedHashMap()
+    {
+        OrderedHashMap<Integer, Integer> map = OrderedHashMap.newMap();
+        LinkedHashMap<Integer, Integer> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 10_000; i++)
+        {
+            Integer key = i * 7 % 1_000;
+            if (i % 3 == 0)
+            {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+            else
+            {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+        }
+        Iterator<Integer> iterator = map.keySet().iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next() % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        expected.keySet().removeIf(each -> each % 2 == 0);
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(Lists.mutable.withAll(expected.entrySet()), Lists.mutable.withAll(map.entrySet()));
+        assertEquals(Lists.mutable.withAll(expected.keySet()), map.keysView().toList());
+        assertEquals(Lists.mutable.withAll(expected.values()), Lists.mutable.withAll(map.toImmutable().valuesView()));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link ConcurrentHashBag}.
+ */
+public class ConcurrentHashBagTest extends MutableBagTestCase
+{
+    @Override
+    protected <T> MutableBag<T> newWith(T... littleElements)
+    {
+        return ConcurrentHashBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected <T> MutableBag<T> newWithOccurrences(ObjectIntPair<T>... elementsWithOccurrences)
+    {
+        MutableBag<T> bag = this.newWith();
+        for (int i = 0; i < elementsWithOccurrences.length; i++)
+        {
+            ObjectIntPair<T> itemToAdd = elementsWithOccurrences[i];
+            bag.addOccurrences(itemToAdd.getOne(), itemToAdd.getTwo());
+        }
+        return bag;
+    }
+
+    @Test
+    public void removeToZeroAndAddAgain()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith("a", "a", "b");
+        assertTrue(bag.removeOccurrences("a", 5));
+        assertFalse(bag.removeOccurrences("a", 1));
+        assertFalse(bag.contains("a"));
+        assertEquals(1, bag.sizeDistinct());
+        Verify.assertSize(1, bag);
+        assertEquals(HashBag.newBagWith("b"), bag);
+
+        assertEquals(2, bag.addOccurrences("a", 2));
+        assertEquals(HashBag.newBagWith("a", "a", "b"), bag);
+
+        bag.clear();
+        Verify.assertEmpty(bag);
+        assertEquals(0, bag.sizeDistinct());
+        assertFalse(bag.setOccurrences("a", 0));
+    }
+
+    @Test
+    public void nullItem()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith(null, null, "a");
+        assertEquals(2, bag.occurrencesOf(null));
+        assertTrue(bag.remove(null));
+        assertEquals(HashBag.newBagWith(null, "a"), bag);
+    }
+
+    @Test
+    public void addOccurrencesConcurrently()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try
+        {
+            ParallelIterate.forEach(Interval.zeroTo(99_999), each -> bag.addOccurrences(each % 10, 2), 1_000, executorService);
+        }
+        finally
+        {
+            executorService.shutdown();
+        }
+        Verify.assertSize(200_000, bag);
+        assertEquals(10, bag.sizeDistinct());
+        Interval.zeroTo(9).each(each -> assertEquals(20_000, bag.occurrencesOf(each)));
+    }
+
+    @Test
+    public void addAndRemoveConcurrently()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ParallelIterate.forEach(Interval.zeroTo(99_999), each ->
+        {
+            bag.addOccurrences(each % 10, 3);
+            bag.removeOccurrences(each % 10, 2);
+        }, 1_000);
+        Verify.assertSize(100_000, bag);
+        Interval.zeroTo(9).each(each -> assertEquals(10_000, bag.occurrencesOf(each)));
+    }
+
+    @Test
+    public void removeToZeroAndAddConcurrently()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        AtomicIntegerArray expected = new AtomicIntegerArray(4);
+        ParallelIterate.forEach(Interval.zeroTo(99_999), each ->
+        {
+            int item = each % 4;
+            bag.add(item);
+            expected.incrementAndGet(item);
+            if (bag.remove(item))
+            {
+                expected.decrementAndGet(item);
+            }
+        }, 100);
+        Interval.zeroTo(3).each(each -> assertEquals(expected.get(each), bag.occurrencesOf(each)));
+        assertEquals(Interval.zeroTo(3).count(each -> expected.get(each) > 0), bag.sizeDistinct());
+
+        bag.clear();
+        Verify.assertEmpty(bag);
+        assertEquals(0, bag.sizeDistinct());
+        Verify.assertEmpty(bag.distinctView());
+    }
+
+    @Test
+    public void distinctView()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith("a", "a", "b", null);
+        RichIterable<String> distinct = bag.distinctView();
+        assertEquals(UnifiedSet.newSetWith("a", "b", null), distinct.toSet());
+        bag.removeOccurrences("a", 2);
+        assertEquals(UnifiedSet.newSetWith("b", null), distinct.toSet());
+    }
+
+    @Test
+    public void serialization()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith("a", "a", "b", null);
+        ConcurrentHashBag<String> deserialized = SerializeTestHelper.serializeDeserialize(bag);
+        Verify.assertBagsEqual(bag, deserialized);
+        Verify.assertInstanceOf(ConcurrentHashBag.class, deserialized);
+    }
+}
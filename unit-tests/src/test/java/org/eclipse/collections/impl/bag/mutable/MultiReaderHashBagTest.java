@@ -680,4 +680,29 @@ public class MultiReaderHashBagTest extends MultiReaderMutableCollectionTestCase
                     && pair.getTwo() == 2);
         });
     }
+
+    @Test
+    public void optimisticRead()
+    {
+        MutableBag<Integer> bag = MultiReaderMutableBagFactory.OPTIMISTIC_READ.with(1, 2, 2, 3, 3, 3);
+        Verify.assertSize(6, bag);
+        assertEquals(3, bag.sizeDistinct());
+        assertEquals(2, bag.occurrencesOf(2));
+        assertTrue(bag.contains(3));
+        assertFalse(bag.contains(4));
+        assertTrue(bag.allSatisfy(each -> each < 4));
+    }
+
+    @Test
+    public void optimisticReadConcurrently()
+    {
+        MutableBag<Integer> bag = MultiReaderMutableBagFactory.OPTIMISTIC_READ.empty();
+        ParallelIterate.forEach(Interval.zeroTo(9_999), each ->
+        {
+            bag.add(each % 10);
+            assertTrue(bag.occurrencesOf(each % 10) > 0);
+        }, 100);
+        Verify.assertSize(10_000, bag);
+        Interval.zeroTo(9).each(each -> assertEquals(1_000, bag.occurrencesOf(each)));
+    }
 }
@@ -12,6 +12,8 @@ package org.eclipse.collections.impl.bag.sorted.mutable;
 
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Random;
 import java.util.Set;
 
 import org.eclipse.collections.api.LazyIterable;
@@ -20,9 +22,11 @@ import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.factory.Bags;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
 import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
 import org.eclipse.collections.impl.test.Verify;
 import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
 import org.junit.jupiter.api.Test;
@@ -169,4 +173,100 @@ public class TreeBagTest extends AbstractMutableSortedBagTestCase
                 Lists.mutable.with(6, 5, 8, 5, 6, 8),
                 bag3.collectWithOccurrences((each, index) -> each + index));
     }
+
+    @Test
+    public void topAndBottomOccurrencesKeepTiesInItemOrder()
+    {
+        TreeBag<String> bag = TreeBag.newBagWith("a", "a", "a", "b", "c", "c", "c", "d", "d");
+        assertEquals(
+                Lists.mutable.with(PrimitiveTuples.pair("a", 3), PrimitiveTuples.pair("c", 3)),
+                bag.topOccurrences(1));
+        assertEquals(
+                Lists.mutable.with(PrimitiveTuples.pair("a", 3), PrimitiveTuples.pair("c", 3), PrimitiveTuples.pair("d", 2)),
+                bag.topOccurrences(3));
+        assertEquals(
+                Lists.mutable.with(PrimitiveTuples.pair("b", 1), PrimitiveTuples.pair("d", 2)),
+                bag.bottomOccurrences(2));
+
+        TreeBag<String> reversed = TreeBag.newBag(Comparator.reverseOrder(), bag);
+        assertEquals(
+                Lists.mutable.with(PrimitiveTuples.pair("c", 3), PrimitiveTuples.pair("a", 3)),
+                reversed.topOccurrences(2));
+    }
+
+    @Test
+    public void iteratorRemoveRemovesOneOccurrence()
+    {
+        TreeBag<Integer> bag = TreeBag.newBagWith(1, 1, 1, 2);
+        Iterator<Integer> iterator = bag.iterator();
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+        assertEquals(Integer.valueOf(1), iterator.next());
+        iterator.remove();
+        Verify.assertSortedBagsEqual(TreeBag.newBagWith(1, 2), bag);
+        assertEquals(Integer.valueOf(2), iterator.next());
+        iterator.remove();
+        Verify.assertSortedBagsEqual(TreeBag.newBagWith(1), bag);
+    }
+
+    @Test
+    public void manyDistinctItems()
+    {
+        TreeBag<Integer> bag = TreeBag.newBag();
+        for (int i = 0; i < 10_000; i++)
+        {
+            int item = (i * 7_919) % 10_000;
+            bag.addOccurrences(item, item % 5 + 1);
+        }
+        assertEquals(10_000, bag.sizeDistinct());
+        assertEquals(30_000, bag.size());
+        assertEquals(4, bag.occurrencesOf(1_003));
+        assertEquals(15, bag.indexOf(5));
+
+        TreeBag<Integer> clone = bag.clone();
+        MutableSortedBag<Integer> fives = bag.selectByOccurrences(occurrences -> occurrences == 5);
+        assertEquals(2_000, fives.sizeDistinct());
+        assertEquals(10_000, fives.size());
+        assertEquals(Integer.valueOf(4), fives.getFirst());
+
+        assertTrue(bag.removeIf(each -> each % 5 != 4));
+        Verify.assertSortedBagsEqual(fives, bag);
+        assertEquals(10_000, clone.sizeDistinct());
+        assertEquals(clone, SerializeTestHelper.serializeDeserialize(clone));
+    }
+
+    @Test
+    public void largeRandomAdds()
+    {
+        Random random = new Random(54_321L);
+        int[] counts = new int[200_000];
+        TreeBag<Integer> bag = TreeBag.newBag();
+        for (int i = 0; i < 1_000_000; i++)
+        {
+            int item = random.nextInt(counts.length);
+            bag.add(item);
+            counts[item]++;
+        }
+        assertEquals(1_000_000, bag.size());
+        for (int item = 0; item < counts.length; item += 2)
+        {
+            bag.removeOccurrences(item, counts[item]);
+            counts[item] = 0;
+        }
+
+        MutableList<ObjectIntPair<Integer>> expected = Lists.mutable.empty();
+        for (int item = 0; item < counts.length; item++)
+        {
+            if (counts[item] > 0)
+            {
+                expected.add(PrimitiveTuples.pair(Integer.valueOf(item), counts[item]));
+            }
+        }
+        MutableList<ObjectIntPair<Integer>> actual = Lists.mutable.empty();
+        bag.forEachWithOccurrences((item, count) -> actual.add(PrimitiveTuples.pair(item, count)));
+        assertEquals(expected, actual);
+        assertEquals(expected.size(), bag.sizeDistinct());
+        assertEquals(expected.getLast().getOne(), bag.getLast());
+    }
 }
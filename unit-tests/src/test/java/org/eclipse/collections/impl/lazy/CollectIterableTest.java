@@ -20,6 +20,7 @@ import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Procedures;
 import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
 import org.eclipse.collections.impl.utility.LazyIterate;
 import org.junit.jupiter.api.Test;
 
@@ -215,4 +216,15 @@ public class CollectIterableTest extends AbstractLazyIterableTestCase
         assertEquals(3L, collect.detectWithOptional((each, ignore) -> each.equals(3), null).get().longValue());
         assertNull(collect.detectWithOptional((each, ignore) -> each.equals(100), null).orElse(null));
     }
+
+    @Test
+    public void collectsAreFused()
+    {
+        LazyIterable<String> collect = new CollectIterable<>(Interval.oneTo(3), each -> each * 10)
+                .collect(each -> each + 1)
+                .collectWith((each, prefix) -> prefix + each, "#");
+        Verify.assertInstanceOf(CollectIterable.class, collect);
+        assertEquals(FastList.newListWith("#11", "#21", "#31"), collect.toList());
+        assertEquals(3, collect.size());
+    }
 }
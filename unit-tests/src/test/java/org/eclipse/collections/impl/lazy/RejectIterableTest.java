@@ -12,11 +12,13 @@ package org.eclipse.collections.impl.lazy;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.block.factory.Predicates2;
 import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.math.IntegerSum;
 import org.eclipse.collections.impl.math.Sum;
 import org.eclipse.collections.impl.math.SumProcedure;
+import org.eclipse.collections.impl.test.Verify;
 import org.eclipse.collections.impl.utility.LazyIterate;
 import org.junit.jupiter.api.Test;
 
@@ -83,4 +85,16 @@ public class RejectIterableTest extends AbstractLazyIterableTestCase
                 FastList.newListWith(3, 2, 4, 5),
                 iterable.distinct().toList());
     }
+
+    @Test
+    public void selectAndRejectAreFused()
+    {
+        LazyIterable<Integer> reject = new RejectIterable<>(Interval.oneTo(20), Predicates.greaterThan(14))
+                .reject(each -> each % 2 != 0)
+                .select(each -> each % 3 != 0)
+                .rejectWith(Predicates2.lessThan(), 3);
+        Verify.assertInstanceOf(SelectIterable.class, reject);
+        assertEquals(FastList.newListWith(4, 8, 10, 14), reject.toList());
+        assertEquals(4, reject.size());
+    }
 }
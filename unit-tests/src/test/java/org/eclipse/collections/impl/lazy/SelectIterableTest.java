@@ -12,11 +12,13 @@ package org.eclipse.collections.impl.lazy;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.block.factory.Predicates2;
 import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.math.IntegerSum;
 import org.eclipse.collections.impl.math.Sum;
 import org.eclipse.collections.impl.math.SumProcedure;
+import org.eclipse.collections.impl.test.Verify;
 import org.eclipse.collections.impl.utility.LazyIterate;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
@@ -89,4 +91,17 @@ public class SelectIterableTest extends AbstractLazyIterableTestCase
                 FastList.newListWith(3, 2, 4, 1),
                 iterable.distinct().toList());
     }
+
+    @Test
+    public void selectAndRejectAreFused()
+    {
+        LazyIterable<Integer> select = new SelectIterable<>(Interval.oneTo(20), Predicates.lessThan(15))
+                .select(each -> each % 2 == 0)
+                .reject(each -> each % 3 == 0)
+                .selectWith(Predicates2.greaterThan(), 2);
+        Verify.assertInstanceOf(SelectIterable.class, select);
+        assertEquals(FastList.newListWith(4, 8, 10, 14), select.toList());
+        assertEquals(4, select.size());
+        assertEquals(Integer.valueOf(8), select.detect(each -> each > 5));
+    }
 }
@@ -10,6 +10,8 @@
 
 package org.eclipse.collections.impl.lazy;
 
+import java.util.Optional;
+
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
@@ -24,7 +26,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TakeIterableTest extends AbstractLazyIterableTestCase
 {
@@ -193,4 +198,27 @@ public class TakeIterableTest extends AbstractLazyIterableTestCase
                 FastList.newListWith(3, 2, 4, 1),
                 new TakeIterable<>(FastList.newListWith(3, 2, 2, 4, 1, 3, 1, 5), 7).distinct().toList());
     }
+
+    @Test
+    public void stopsIteratingSource()
+    {
+        CountProcedure<Integer> visited = new CountProcedure<>();
+        LazyIterable<Integer> lazy = LazyIterate.tap(FastList.newList(Interval.oneTo(100)), visited).take(3);
+
+        assertEquals(FastList.newListWith(1, 2, 3), lazy.toList());
+        assertEquals(3, visited.getCount());
+
+        assertEquals(Integer.valueOf(2), lazy.detect(each -> each == 2));
+        assertEquals(5, visited.getCount());
+        assertNull(lazy.detect(each -> each > 3));
+        assertEquals(8, visited.getCount());
+        assertTrue(lazy.anySatisfy(each -> each == 1));
+        assertEquals(9, visited.getCount());
+        assertFalse(lazy.allSatisfy(each -> each > 1));
+        assertEquals(10, visited.getCount());
+        assertTrue(lazy.noneSatisfy(each -> each > 3));
+        assertEquals(13, visited.getCount());
+        assertEquals(Optional.of(3), lazy.detectOptional(each -> each == 3));
+        assertEquals(Optional.empty(), this.zeroCountTakeIterable.detectOptional(each -> true));
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+
+package org.eclipse.collections.impl.lazy.parallel;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.list.ParallelListIterable;
+import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.utility.LazyIterate;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LazyIterableParallelIterableTest extends ParallelIterableTestCase
+{
+    @Override
+    protected ParallelIterable<Integer> classUnderTest()
+    {
+        return this.newWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4);
+    }
+
+    @Override
+    protected ParallelIterable<Integer> newWith(Integer... littleElements)
+    {
+        return FastList.newListWith(littleElements)
+                .asLazy()
+                .tap(each -> { })
+                .asParallel(this.executorService, this.batchSize);
+    }
+
+    @Override
+    protected MutableBag<Integer> getExpected()
+    {
+        return HashBag.newBagWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4);
+    }
+
+    @Override
+    protected MutableBag<Integer> getExpectedWith(Integer... littleElements)
+    {
+        return HashBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected boolean isOrdered()
+    {
+        return false;
+    }
+
+    @Override
+    protected boolean isUnique()
+    {
+        return false;
+    }
+
+    @Test
+    public void splittableSources()
+    {
+        Verify.assertInstanceOf(
+                ParallelListIterable.class,
+                FastList.newListWith(1, 2, 3).asLazy().asParallel(this.executorService, this.batchSize));
+        Verify.assertInstanceOf(
+                ParallelUnsortedSetIterable.class,
+                UnifiedSet.newSetWith(1, 2, 3).asLazy().asParallel(this.executorService, this.batchSize));
+        Verify.assertInstanceOf(
+                ParallelListIterable.class,
+                Interval.oneTo(3).asParallel(this.executorService, this.batchSize));
+        Verify.assertInstanceOf(
+                LazyIterableParallelIterable.class,
+                HashBag.newBagWith(1, 2, 3).asLazy().asParallel(this.executorService, this.batchSize));
+    }
+
+    @Test
+    public void lazyStages()
+    {
+        LazyIterable<Integer> lazy = Interval.oneTo(100).asLazy()
+                .select(each -> each % 3 != 0)
+                .collect(each -> each % 10)
+                .distinct();
+        assertEquals(lazy.toSet(), lazy.asParallel(this.executorService, this.batchSize).toSet());
+
+        LazyIterable<Integer> flattened = LazyIterate.adapt(FastList.newListWith(1, 2, 3))
+                .flatCollect(Interval::oneTo)
+                .reject(each -> each == 2);
+        assertEquals(flattened.toBag(), flattened.asParallel(this.executorService, this.batchSize).toBag());
+    }
+
+    @Test
+    public void orderDependentStages()
+    {
+        LazyIterable<Long> zipped = Interval.oneTo(50).asLazy()
+                .zipWithIndex()
+                .collect(Pair::getTwo)
+                .chunk(7)
+                .collect(each -> each.sumOfInt(Integer::intValue))
+                .distinct();
+        ParallelIterable<Long> parallel = zipped.asParallel(this.executorService, this.batchSize);
+        assertEquals(zipped.toBag(), parallel.toBag());
+        assertEquals(zipped.count(each -> each > 100), parallel.count(each -> each > 100));
+    }
+}
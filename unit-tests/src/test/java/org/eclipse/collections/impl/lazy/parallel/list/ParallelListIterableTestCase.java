@@ -10,11 +10,22 @@
 
 package org.eclipse.collections.impl.lazy.parallel.list;
 
+import java.util.Arrays;
+
+import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.list.ParallelListIterable;
+import org.eclipse.collections.impl.block.function.NegativeIntervalFunction;
 import org.eclipse.collections.impl.lazy.parallel.ParallelIterableTestCase;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public abstract class ParallelListIterableTestCase extends ParallelIterableTestCase
 {
@@ -47,4 +58,43 @@ public abstract class ParallelListIterableTestCase extends ParallelIterableTestC
     {
         return false;
     }
+
+    @Test
+    public void groupByPreservesOrderAcrossBatches()
+    {
+        Integer[] elements = Interval.oneTo(1000).toArray();
+        Function<Integer, Integer> mod7 = each -> each % 7;
+        for (int batchSize : new int[]{1, 3, 64, 1000})
+        {
+            this.batchSize = batchSize;
+            assertEquals(
+                    this.getExpectedWith(elements).groupBy(mod7),
+                    this.newWith(elements).groupBy(mod7),
+                    "Batch size: " + batchSize);
+            assertEquals(
+                    this.getExpectedWith(elements).groupByEach(new NegativeIntervalFunction()),
+                    this.newWith(elements).groupByEach(new NegativeIntervalFunction()),
+                    "Batch size: " + batchSize);
+        }
+    }
+
+    @Test
+    public void toArrayAndToListPreserveOrderAcrossBatches()
+    {
+        Integer[] elements = Interval.oneTo(1000).toArray();
+        for (int batchSize : new int[]{1, 3, 64, 1000})
+        {
+            this.batchSize = batchSize;
+            ListIterable<Integer> expected = this.getExpectedWith(elements);
+            assertEquals(expected, this.newWith(elements).toList(), "Batch size: " + batchSize);
+            assertArrayEquals(expected.toArray(), this.newWith(elements).toArray(), "Batch size: " + batchSize);
+
+            Integer[] target = new Integer[expected.size() + 2];
+            Arrays.fill(target, -1);
+            Integer[] actual = this.newWith(elements).toArray(target);
+            assertSame(target, actual);
+            assertNull(actual[expected.size()]);
+            assertEquals(expected, FastList.newListWith(actual).subList(0, expected.size()));
+        }
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * JUnit test for {@link ImmutablePersistentList}.
+ */
+public class ImmutablePersistentListTest extends AbstractImmutableListTestCase
+{
+    @Override
+    protected ImmutableList<Integer> classUnderTest()
+    {
+        return Lists.immutable.withAllPersistent(FastList.newListWith(1, 2, 3));
+    }
+
+    @Test
+    public void newWithAcrossLevels()
+    {
+        ImmutableList<Integer> list = Lists.immutable.emptyPersistent();
+        MutableList<ImmutableList<Integer>> snapshots = Lists.mutable.empty();
+        for (int i = 0; i < 40_000; i++)
+        {
+            if (i % 1_024 == 0)
+            {
+                snapshots.add(list);
+            }
+            list = list.newWith(i);
+        }
+        Verify.assertInstanceOf(ImmutablePersistentList.class, list);
+        assertEquals(Interval.zeroTo(39_999), list);
+        assertEquals(Integer.valueOf(39_999), list.getLast());
+        assertEquals(Integer.valueOf(0), list.getFirst());
+        assertEquals(Interval.zeroTo(39_999).hashCode(), list.hashCode());
+        snapshots.forEachWithIndex((snapshot, index) ->
+        {
+            Verify.assertSize(index * 1_024, snapshot);
+            snapshot.forEachWithIndex((each, i) -> assertEquals(i, each.intValue()));
+        });
+    }
+
+    @Test
+    public void newWithAll()
+    {
+        ImmutableList<Integer> list = Lists.immutable.withAllPersistent(Interval.oneTo(31));
+        ImmutableList<Integer> withAll = list.newWithAll(Interval.fromTo(32, 2_000));
+        Verify.assertInstanceOf(ImmutablePersistentList.class, withAll);
+        assertEquals(Interval.oneTo(2_000), withAll);
+        assertEquals(Interval.oneTo(31), list);
+        assertEquals(Interval.oneTo(2_001), withAll.newWith(2_001));
+        assertEquals(Interval.oneTo(2_000), withAll);
+    }
+
+    @Test
+    public void newWithout()
+    {
+        ImmutableList<Integer> list = Lists.immutable.withAllPersistent(Interval.oneTo(100));
+        ImmutableList<Integer> without = list.newWithout(50);
+        Verify.assertInstanceOf(ImmutablePersistentList.class, without);
+        assertEquals(Interval.oneTo(49).toList().withAll(Interval.fromTo(51, 100)), without);
+        assertSame(list, list.newWithout(101));
+        assertEquals(Interval.fromTo(51, 100), list.newWithoutAll(Interval.oneTo(50)));
+        assertEquals(Lists.immutable.empty(), Lists.immutable.withAllPersistent(FastList.newListWith(1)).newWithout(1));
+    }
+
+    @Override
+    @Test
+    public void get()
+    {
+        super.get();
+
+        ImmutableList<Integer> list = Lists.immutable.withAllPersistent(Interval.zeroTo(1_100));
+        Interval.zeroTo(1_100).each(each -> assertEquals(each, list.get(each)));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1_101));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Lists.immutable.emptyPersistent().get(0));
+    }
+
+    @Override
+    @Test
+    public void forEachWithIndex()
+    {
+        super.forEachWithIndex();
+
+        ImmutableList<Integer> list = Lists.immutable.withAllPersistent(Interval.zeroTo(1_100));
+        list.forEachWithIndex((each, index) -> assertEquals(index, each.intValue()));
+        MutableList<Integer> result = Lists.mutable.empty();
+        list.forEach(result::add);
+        assertEquals(Interval.zeroTo(1_100), result);
+    }
+
+    @Override
+    @Test
+    public void subList()
+    {
+        super.subList();
+
+        ImmutableList<Integer> list = Lists.immutable.withAllPersistent(Interval.zeroTo(1_100));
+        assertEquals(Interval.fromTo(30, 1_000), list.subList(30, 1_001));
+    }
+
+    @Test
+    public void serialization()
+    {
+        ImmutableList<Integer> list = Lists.immutable.withAllPersistent(Interval.zeroTo(1_100));
+        ImmutableList<Integer> deserialized = SerializeTestHelper.serializeDeserialize(list);
+        Verify.assertInstanceOf(ImmutablePersistentList.class, deserialized);
+        assertEquals(list, deserialized);
+        assertEquals(Interval.zeroTo(1_101), deserialized.newWith(1_101));
+    }
+}
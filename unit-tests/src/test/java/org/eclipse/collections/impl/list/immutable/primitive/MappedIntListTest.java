@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable.primitive;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.collections.api.list.primitive.ImmutableIntList;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.utility.internal.BulkCodecFormat;
+import org.eclipse.collections.impl.utility.primitive.IntBulkCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * JUnit test for {@link MappedIntList}.
+ */
+public class MappedIntListTest
+{
+    @TempDir
+    Path directory;
+
+    private MappedIntList newWith(int... elements) throws IOException
+    {
+        return MappedIntList.newBuilder(this.directory.resolve("list")).addAll(elements).build();
+    }
+
+    @Test
+    public void buildAndOpen() throws IOException
+    {
+        Path file = this.directory.resolve("list");
+        MappedIntList list = MappedIntList.newBuilder(file).add(3).add(1).addAll(IntArrayList.newListWith(4, 1, 5)).build();
+        ImmutableIntList expected = IntLists.immutable.with(3, 1, 4, 1, 5);
+        assertEquals(expected, list);
+        assertEquals(list, expected);
+        assertEquals(expected.hashCode(), list.hashCode());
+        assertEquals("[3, 1, 4, 1, 5]", list.toString());
+        assertEquals(BulkCodecFormat.HEADER_SIZE + 5 * Integer.BYTES, Files.size(file));
+        assertEquals(expected, MappedIntList.open(file));
+    }
+
+    @Test
+    public void manyElements() throws IOException
+    {
+        int[] elements = new Random(42L).ints(1_000_000).toArray();
+        MappedIntList list = this.newWith(elements);
+        assertEquals(elements.length, list.size());
+        assertArrayEquals(elements, list.toArray());
+        assertEquals(Arrays.stream(elements).asLongStream().sum(), list.sum());
+        assertEquals(elements[elements.length - 1], list.getLast());
+        assertEquals(IntArrayList.newListWith(elements), list);
+    }
+
+    @Test
+    public void empty() throws IOException
+    {
+        MappedIntList list = this.newWith();
+        assertEquals(IntLists.immutable.empty(), list);
+        assertEquals(0, list.size());
+        assertEquals(5, list.maxIfEmpty(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertThrows(ArithmeticException.class, list::average);
+    }
+
+    @Test
+    public void get() throws IOException
+    {
+        MappedIntList list = this.newWith(1, 2, 3);
+        assertEquals(2, list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+    }
+
+    @Test
+    public void queries() throws IOException
+    {
+        MappedIntList list = this.newWith(5, -2, 9, 5, 0);
+        assertEquals(9, list.max());
+        assertEquals(-2, list.min());
+        assertEquals(3.4, list.average(), 0.0);
+        assertEquals(5.0, list.median(), 0.0);
+        assertEquals(0, list.indexOf(5));
+        assertEquals(3, list.lastIndexOf(5));
+        assertEquals(2, list.count(each -> each > 0 && each != 9));
+        assertEquals(IntLists.immutable.with(5, 9, 5), list.select(each -> each > 0));
+        assertEquals(IntLists.immutable.with(-2, 0), list.reject(each -> each > 0));
+        assertEquals(IntLists.immutable.with(5, -2, 9, 0), list.distinct());
+        assertEquals(IntLists.immutable.with(0, 5, 9, -2, 5), list.toReversed());
+        assertEquals(IntArrayList.newListWith(-2, 0, 5, 5, 9), list.toSortedList());
+        assertEquals(IntLists.immutable.with(5, -2, 9, 5, 0).zipInt(list), list.zipInt(list));
+        assertEquals(-2 * 3L, list.dotProduct(IntArrayList.newListWith(0, 3, 0, 0, 7)));
+    }
+
+    @Test
+    public void binarySearch() throws IOException
+    {
+        MappedIntList list = this.newWith(1, 3, 5, 7, 9);
+        int[] array = {1, 3, 5, 7, 9};
+        for (int value = 0; value <= 10; value++)
+        {
+            assertEquals(Arrays.binarySearch(array, value), list.binarySearch(value));
+        }
+    }
+
+    @Test
+    public void newWithCopiesToTheHeap() throws IOException
+    {
+        MappedIntList list = this.newWith(1, 2, 3);
+        assertEquals(IntLists.immutable.with(1, 2, 3, 4), list.newWith(4));
+        assertEquals(IntLists.immutable.with(1, 3), list.newWithout(2));
+        assertSame(list, list.newWithout(4));
+        assertEquals(IntLists.immutable.with(1, 2, 3, 4, 5), list.newWithAll(IntArrayList.newListWith(4, 5)));
+        assertEquals(IntLists.immutable.with(2), list.newWithoutAll(IntArrayList.newListWith(1, 3)));
+        assertEquals(IntLists.immutable.with(1, 2, 3), list);
+    }
+
+    @Test
+    public void primitiveStream() throws IOException
+    {
+        MappedIntList list = this.newWith(1, 2, 3, 4);
+        assertEquals(10, list.primitiveStream().sum());
+        assertEquals(10, list.primitiveParallelStream().sum());
+    }
+
+    @Test
+    public void openFileWrittenByCodec() throws IOException
+    {
+        Path file = this.directory.resolve("codec");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE))
+        {
+            IntBulkCodec.write(IntArrayList.newListWith(7, 8, 9), channel);
+        }
+        assertEquals(IntArrayList.newListWith(7, 8, 9), MappedIntList.open(file));
+    }
+
+    @Test
+    public void openRejectsOtherFiles() throws IOException
+    {
+        Path file = this.directory.resolve("abandoned");
+        MappedIntList.newBuilder(file).add(1).close();
+        assertThrows(IOException.class, () -> MappedIntList.open(file));
+
+        Files.write(file, new byte[BulkCodecFormat.HEADER_SIZE]);
+        assertThrows(IllegalArgumentException.class, () -> MappedIntList.open(file));
+    }
+
+    @Test
+    public void builderIsClosedAfterBuild() throws IOException
+    {
+        MappedIntList.Builder builder = MappedIntList.newBuilder(this.directory.resolve("list"));
+        builder.add(1).build();
+        assertThrows(IllegalStateException.class, () -> builder.add(2));
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+}
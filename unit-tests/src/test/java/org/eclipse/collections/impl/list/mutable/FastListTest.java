@@ -19,6 +19,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.block.function.Function0;
@@ -31,6 +32,7 @@ import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.tuple.Twin;
+import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.factory.Predicates2;
 import org.eclipse.collections.impl.block.factory.Procedures;
@@ -1240,4 +1242,20 @@ public class FastListTest extends AbstractListTestCase
     {
         assertThrows(IllegalArgumentException.class, () -> new FastList<>(-1));
     }
+
+    @Test
+    public void sortThisInParallel()
+    {
+        FastList<Integer> list = FastList.newList(Interval.oneTo(100_000));
+        list.shuffleThis(new Random(42L));
+        assertSame(list, list.sortThisInParallel());
+        assertEquals(Interval.oneTo(100_000), list);
+        assertSame(list, list.sortThisInParallel(Comparators.reverseNaturalOrder()));
+        assertEquals(Interval.fromToBy(100_000, 1, -1), list);
+
+        FastList<Twin<Integer>> twins = FastList.newList(Interval.oneTo(100_000).collect(each -> Tuples.twin(each % 10, each)));
+        twins.shuffleThis(new Random(42L));
+        MutableList<Twin<Integer>> expected = FastList.newList(twins).sortThisBy(Twin::getOne);
+        assertEquals(expected, twins.sortThisInParallel(Comparators.<Twin<Integer>, Integer>byFunction(Twin::getOne)));
+    }
 }
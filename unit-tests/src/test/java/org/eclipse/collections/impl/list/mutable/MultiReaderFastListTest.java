@@ -39,6 +39,7 @@ import org.eclipse.collections.impl.block.procedure.CollectionAddProcedure;
 import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 import org.eclipse.collections.impl.test.SerializeTestHelper;
 import org.eclipse.collections.impl.test.Verify;
@@ -1110,4 +1111,37 @@ public class MultiReaderFastListTest extends AbstractListTestCase
         assertEquals(4, sortedList.binarySearch(2, Comparators.reverseNaturalOrder()));
         assertEquals(-2, sortedList.binarySearch(6, Comparators.reverseNaturalOrder()));
     }
+
+    @Test
+    public void optimisticRead()
+    {
+        MutableList<Integer> list = MultiReaderMutableListFactory.OPTIMISTIC_READ.with(1, 2, 3, 4);
+        Verify.assertSize(4, list);
+        assertTrue(list.contains(3));
+        assertFalse(list.contains(5));
+        assertEquals(Integer.valueOf(2), list.get(1));
+        assertEquals(2, list.indexOf(3));
+        assertEquals(Integer.valueOf(3), list.detect(each -> each > 2));
+        assertTrue(list.anySatisfy(each -> each > 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(4));
+
+        MutableList<Integer> subList = list.subList(1, 3);
+        assertEquals(FastList.newListWith(2, 3), subList);
+        list.add(5);
+        assertEquals(Integer.valueOf(5), list.getLast());
+    }
+
+    @Test
+    public void optimisticReadConcurrently()
+    {
+        MutableList<Integer> list = MultiReaderMutableListFactory.OPTIMISTIC_READ.empty();
+        ParallelIterate.forEach(Interval.zeroTo(9_999), each ->
+        {
+            list.add(each);
+            assertTrue(list.contains(each));
+            assertTrue(list.notEmpty());
+        }, 100);
+        Verify.assertSize(10_000, list);
+        assertEquals(Interval.zeroTo(9_999).toSet(), list.toSet());
+    }
 }
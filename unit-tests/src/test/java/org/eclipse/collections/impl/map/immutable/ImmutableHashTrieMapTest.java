@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link ImmutableHashTrieMap}.
+ */
+public class ImmutableHashTrieMapTest extends ImmutableMapTestCase
+{
+    @Override
+    protected ImmutableMap<Integer, String> classUnderTest()
+    {
+        return ImmutableHashTrieMap.newMap(UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3", 4, "4"));
+    }
+
+    @Override
+    protected int size()
+    {
+        return 4;
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        assertEquals("{1=1, 2=2, 3=3, 4=4}", this.classUnderTest().toString());
+    }
+
+    @Test
+    public void conversionFromImmutableUnifiedMap()
+    {
+        MutableMap<Integer, String> mutable = UnifiedMap.newMap();
+        Interval.oneTo(ImmutableHashTrieMap.CONVERSION_THRESHOLD).each(each -> mutable.put(each, String.valueOf(each)));
+        ImmutableMap<Integer, String> unified = mutable.toImmutable();
+        Verify.assertInstanceOf(ImmutableUnifiedMap.class, unified);
+
+        ImmutableMap<Integer, String> withKeyValue = unified.newWithKeyValue(0, "0");
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, withKeyValue);
+        assertEquals(mutable.clone().withKeyValue(0, "0"), withKeyValue);
+
+        ImmutableMap<Integer, String> withoutKey = unified.newWithoutKey(1);
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, withoutKey);
+        assertEquals(mutable.clone().withoutKey(1), withoutKey);
+
+        assertSame(withKeyValue, Maps.immutable.withAll(withKeyValue.castToMap()));
+        Verify.assertInstanceOf(ImmutableUnifiedMap.class, unified.newWithoutKey(-1));
+    }
+
+    @Test
+    public void updatesMatchUnifiedMap()
+    {
+        MutableMap<Integer, Integer> expected = UnifiedMap.newMap();
+        ImmutableMap<Integer, Integer> actual = ImmutableHashTrieMap.empty();
+        for (int i = 0; i < 5_000; i++)
+        {
+            int key = (i * 7_919) % 2_003;
+            if (i % 3 == 0)
+            {
+                expected.remove(key);
+                actual = actual.newWithoutKey(key);
+            }
+            else
+            {
+                expected.put(key, i);
+                actual = actual.newWithKeyValue(key, i);
+            }
+        }
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(expected.hashCode(), actual.hashCode());
+        Verify.assertSize(expected.size(), actual);
+        ImmutableMap<Integer, Integer> result = actual;
+        expected.forEachKeyValue((key, value) -> assertEquals(value, result.get(key)));
+    }
+
+    @Test
+    public void collidingKeys()
+    {
+        ImmutableMap<CollidingKey, String> map = ImmutableHashTrieMap.empty();
+        for (int i = 0; i < 10; i++)
+        {
+            map = map.newWithKeyValue(new CollidingKey(i), String.valueOf(i));
+        }
+        Verify.assertSize(10, map);
+        for (int i = 0; i < 10; i++)
+        {
+            assertEquals(String.valueOf(i), map.get(new CollidingKey(i)));
+        }
+        assertNull(map.get(new CollidingKey(10)));
+
+        ImmutableMap<CollidingKey, String> without = map.newWithoutKey(new CollidingKey(3));
+        Verify.assertSize(9, without);
+        assertFalse(without.containsKey(new CollidingKey(3)));
+        assertTrue(map.containsKey(new CollidingKey(3)));
+        assertSame(map, map.newWithoutKey(new CollidingKey(10)));
+
+        ImmutableMap<CollidingKey, String> emptied = map;
+        for (int i = 0; i < 10; i++)
+        {
+            emptied = emptied.newWithoutKey(new CollidingKey(i));
+        }
+        Verify.assertEmpty(emptied);
+    }
+
+    @Test
+    public void nullKeysAndValues()
+    {
+        ImmutableMap<Integer, String> map = ImmutableHashTrieMap.<Integer, String>empty()
+                .newWithKeyValue(null, "null")
+                .newWithKeyValue(1, null);
+        assertEquals("null", map.get(null));
+        assertTrue(map.containsKey(1));
+        assertNull(map.get(1));
+        assertFalse(map.containsKey(2));
+        assertEquals(UnifiedMap.newWithKeysValues(null, "null", 1, null), map);
+        Verify.assertSize(1, map.newWithoutKey(null));
+    }
+
+    @Test
+    public void equalsSharedAndIndependentTries()
+    {
+        ImmutableMap<Integer, String> base = ImmutableHashTrieMap.empty();
+        for (int i = 0; i < 1_000; i++)
+        {
+            base = base.newWithKeyValue(i, String.valueOf(i));
+        }
+        ImmutableMap<Integer, String> shared = base.newWithKeyValue(1_000, "1000");
+        ImmutableMap<Integer, String> independent = ImmutableHashTrieMap.empty();
+        for (int i = 1_000; i >= 0; i--)
+        {
+            independent = independent.newWithKeyValue(i, String.valueOf(i));
+        }
+        assertEquals(shared, independent);
+        assertEquals(shared.hashCode(), independent.hashCode());
+        assertFalse(shared.equals(independent.newWithKeyValue(500, "five hundred")));
+        assertFalse(base.equals(shared));
+    }
+
+    @Test
+    public void serialization()
+    {
+        ImmutableMap<Integer, String> map = ImmutableHashTrieMap.newMap(UnifiedMap.newWithKeysValues(1, "1", 2, "2"));
+        ImmutableMap<Integer, String> deserialized = SerializeTestHelper.serializeDeserialize(map);
+        assertEquals(map, deserialized);
+    }
+
+    private static final class CollidingKey
+    {
+        private final int value;
+
+        private CollidingKey(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof CollidingKey && ((CollidingKey) other).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 42;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable.primitive;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.eclipse.collections.impl.map.mutable.primitive.LongLongHashMap;
+import org.eclipse.collections.impl.set.mutable.primitive.LongHashSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link MappedLongLongMap}.
+ */
+public class MappedLongLongMapTest
+{
+    @TempDir
+    Path directory;
+
+    private MappedLongLongMap newWithKeysValues(LongLongHashMap map) throws IOException
+    {
+        return MappedLongLongMap.newBuilder(this.directory.resolve("map"), map.size()).putAll(map).build();
+    }
+
+    @Test
+    public void buildAndOpen() throws IOException
+    {
+        LongLongHashMap expected = LongLongHashMap.newWithKeysValues(0L, 10L, 1L, 11L, 32L, 0L, -5L, 15L);
+        Path file = this.directory.resolve("map");
+        MappedLongLongMap map = MappedLongLongMap.newBuilder(file, 4)
+                .put(0L, 10L)
+                .put(1L, 11L)
+                .put(32L, 7L)
+                .put(-5L, 15L)
+                .put(32L, 0L)
+                .build();
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected, MappedLongLongMap.open(file));
+    }
+
+    @Test
+    public void manyEntries() throws IOException
+    {
+        Random random = new Random(42L);
+        LongLongHashMap expected = LongLongHashMap.newWithKeysValues(0L, 1L, 1L, 2L);
+        while (expected.size() < 100_000)
+        {
+            expected.put(random.nextLong(), random.nextLong());
+        }
+        MappedLongLongMap map = this.newWithKeysValues(expected);
+        assertEquals(expected, map);
+        expected.forEachKeyValue((key, value) -> assertEquals(value, map.get(key)));
+        for (int i = 0; i < 1_000; i++)
+        {
+            long key = random.nextLong();
+            assertEquals(expected.containsKey(key), map.containsKey(key));
+        }
+        LongLongHashMap actual = new LongLongHashMap();
+        map.forEachKeyValue(actual::put);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void get() throws IOException
+    {
+        MappedLongLongMap map = this.newWithKeysValues(LongLongHashMap.newWithKeysValues(1L, 2L, 3L, 4L));
+        assertEquals(4L, map.get(3L));
+        assertEquals(0L, map.get(0L));
+        assertEquals(0L, map.get(5L));
+        assertEquals(2L, map.getIfAbsent(1L, 9L));
+        assertEquals(9L, map.getIfAbsent(5L, 9L));
+        assertEquals(4L, map.getOrThrow(3L));
+        assertThrows(IllegalStateException.class, () -> map.getOrThrow(0L));
+        assertTrue(map.containsKey(1L));
+        assertFalse(map.containsKey(0L));
+        assertTrue(map.containsValue(4L));
+        assertFalse(map.containsValue(3L));
+    }
+
+    @Test
+    public void empty() throws IOException
+    {
+        MappedLongLongMap map = this.newWithKeysValues(new LongLongHashMap());
+        assertEquals(new LongLongHashMap(), map);
+        assertTrue(map.isEmpty());
+        assertEquals("{}", map.toString());
+        assertFalse(map.keyValuesView().iterator().hasNext());
+    }
+
+    @Test
+    public void views() throws IOException
+    {
+        LongLongHashMap expected = LongLongHashMap.newWithKeysValues(0L, 3L, 1L, 4L, 100L, 5L);
+        MappedLongLongMap map = this.newWithKeysValues(expected);
+        assertEquals(LongHashSet.newSetWith(0L, 1L, 100L), map.keySet());
+        assertEquals(LongHashSet.newSetWith(0L, 1L, 100L), map.keysView().toSet());
+        assertEquals(LongHashSet.newSetWith(3L, 4L, 5L), map.values().toSet());
+        assertEquals(12L, map.sum());
+        assertEquals(expected.keyValuesView().toSet(), map.keyValuesView().toSet());
+        assertEquals(LongLongHashMap.newWithKeysValues(0L, 3L, 100L, 5L), map.select((key, value) -> value != 4L));
+        assertEquals(LongLongHashMap.newWithKeysValues(1L, 4L), map.reject((key, value) -> value != 4L));
+        assertEquals(LongLongHashMap.newWithKeysValues(3L, 0L, 4L, 1L, 5L, 100L), map.flipUniqueValues());
+    }
+
+    @Test
+    public void toStringMatchesHashMap() throws IOException
+    {
+        assertEquals("{0=1}", this.newWithKeysValues(LongLongHashMap.newWithKeysValues(0L, 1L)).toString());
+        assertEquals("{5=6}", this.newWithKeysValues(LongLongHashMap.newWithKeysValues(5L, 6L)).toString());
+    }
+
+    @Test
+    public void newWithCopiesToTheHeap() throws IOException
+    {
+        MappedLongLongMap map = this.newWithKeysValues(LongLongHashMap.newWithKeysValues(1L, 2L, 3L, 4L));
+        assertEquals(LongLongHashMap.newWithKeysValues(1L, 2L, 3L, 4L, 5L, 6L), map.newWithKeyValue(5L, 6L));
+        assertEquals(LongLongHashMap.newWithKeysValues(3L, 4L), map.newWithoutKey(1L));
+        assertEquals(LongLongHashMap.newWithKeysValues(1L, 2L, 3L, 4L), map);
+    }
+
+    @Test
+    public void builderThrowsWhenTableIsHalfFull() throws IOException
+    {
+        MappedLongLongMap.Builder builder = MappedLongLongMap.newBuilder(this.directory.resolve("map"), 0);
+        for (long key = 2L; key < 10L; key++)
+        {
+            builder.put(key, key);
+        }
+        builder.put(0L, 0L).put(1L, 1L).put(9L, 0L);
+        assertThrows(IllegalStateException.class, () -> builder.put(10L, 10L));
+        assertEquals(10, builder.build().size());
+    }
+
+    @Test
+    public void openRejectsAbandonedFile() throws IOException
+    {
+        Path file = this.directory.resolve("abandoned");
+        MappedLongLongMap.newBuilder(file, 1).put(2L, 3L).close();
+        assertThrows(IllegalArgumentException.class, () -> MappedLongLongMap.open(file));
+    }
+
+    @Test
+    public void builderIsClosedAfterBuild() throws IOException
+    {
+        MappedLongLongMap.Builder builder = MappedLongLongMap.newBuilder(this.directory.resolve("map"), 1);
+        builder.put(2L, 3L).build();
+        assertThrows(IllegalStateException.class, () -> builder.put(4L, 5L));
+        assertThrows(IllegalStateException.class, builder::build);
+        assertThrows(IllegalArgumentException.class, () -> MappedLongLongMap.newBuilder(this.directory.resolve("other"), -1));
+    }
+}
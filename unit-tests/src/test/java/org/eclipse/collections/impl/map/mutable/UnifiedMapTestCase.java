@@ -17,7 +17,10 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
+import org.eclipse.collections.api.factory.Bags;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.MutableList;
@@ -26,6 +29,7 @@ import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Procedures;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
@@ -259,6 +263,85 @@ public abstract class UnifiedMapTestCase extends MutableMapTestCase
         assertArrayEquals(new Map.Entry[]{ImmutableEntry.of(1, "One"), null, immutableEntry, immutableEntry}, entries);
     }
 
+    @Test
+    public void spliterator()
+    {
+        MutableMap<Integer, String> chained = this.newMap();
+        MutableMap<Integer, String> large = this.newMap();
+        chained.put(null, "null");
+        large.put(null, "null");
+        MORE_COLLISIONS.each(each -> chained.put(each, String.valueOf(each)));
+        MORE_COLLISIONS.each(each -> large.put(each, String.valueOf(each)));
+        Interval.fromTo(1_000, 2_000).each(each -> large.put(each, String.valueOf(each)));
+        for (MutableMap<Integer, String> map : Lists.mutable.with(chained, large))
+        {
+            Spliterator<Integer> keys = map.keySet().spliterator();
+            assertTrue(keys.hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT));
+            assertEquals(map.size(), keys.getExactSizeIfKnown());
+            Spliterator<String> values = map.values().spliterator();
+            assertTrue(values.hasCharacteristics(Spliterator.SIZED));
+            assertEquals(map.size(), values.getExactSizeIfKnown());
+            assertTrue(map.entrySet().spliterator().hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT));
+
+            MutableList<Integer> traversedKeys = Lists.mutable.empty();
+            UnifiedMapTestCase.splitAndTraverse(map.keySet().spliterator(), traversedKeys);
+            Verify.assertSize(map.size(), traversedKeys);
+            assertEquals(map.keySet(), UnifiedSet.newSet(traversedKeys));
+
+            MutableList<String> traversedValues = Lists.mutable.empty();
+            UnifiedMapTestCase.splitAndTraverse(map.spliterator(), traversedValues);
+            assertEquals(map.valuesView().toBag(), traversedValues.toBag());
+
+            MutableList<Map.Entry<Integer, String>> traversedEntries = Lists.mutable.empty();
+            UnifiedMapTestCase.splitAndTraverse(map.entrySet().spliterator(), traversedEntries);
+            Verify.assertSize(map.size(), traversedEntries);
+            traversedEntries.each(each -> assertEquals(map.get(each.getKey()), each.getValue()));
+
+            assertEquals(map.keySet(), map.keySet().parallelStream().collect(Collectors.toSet()));
+            assertEquals(map.valuesView().toBag(), Bags.mutable.withAll(map.values().parallelStream().collect(Collectors.toList())));
+        }
+    }
+
+    @Test
+    public void spliteratorSizeAfterTraversal()
+    {
+        MutableMap<Integer, String> map = this.newMap();
+        map.put(null, "null");
+        MORE_COLLISIONS.each(each -> map.put(each, String.valueOf(each)));
+        Interval.fromTo(1_000, 1_100).each(each -> map.put(each, String.valueOf(each)));
+        for (Spliterator<?> spliterator : Lists.mutable.<Spliterator<?>>with(map.keySet().spliterator(), map.values().spliterator(), map.entrySet().spliterator()))
+        {
+            for (int remaining = map.size() - 1; remaining >= 0; remaining--)
+            {
+                assertTrue(spliterator.tryAdvance(each -> { }));
+                assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+                assertEquals(remaining, spliterator.getExactSizeIfKnown());
+            }
+            assertFalse(spliterator.tryAdvance(each -> { }));
+        }
+
+        Spliterator<Integer> rest = map.keySet().spliterator();
+        assertTrue(rest.tryAdvance(each -> { }));
+        assertEquals(map.size() - 1, rest.getExactSizeIfKnown());
+        rest.forEachRemaining(each -> { });
+        assertEquals(0L, rest.getExactSizeIfKnown());
+    }
+
+    private static <T> void splitAndTraverse(Spliterator<T> spliterator, MutableList<T> result)
+    {
+        Spliterator<T> prefix = spliterator.trySplit();
+        if (prefix != null)
+        {
+            assertFalse(prefix.hasCharacteristics(Spliterator.SIZED));
+            UnifiedMapTestCase.splitAndTraverse(prefix, result);
+            UnifiedMapTestCase.splitAndTraverse(spliterator, result);
+        }
+        else if (spliterator.tryAdvance(result::add))
+        {
+            spliterator.forEachRemaining(result::add);
+        }
+    }
+
     protected MutableMap<Integer, Integer> mapWithCollisionsOfSize(int size)
     {
         MutableMap<Integer, Integer> map = this.newMap();
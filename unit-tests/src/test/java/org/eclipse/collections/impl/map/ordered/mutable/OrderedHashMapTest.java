@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.ordered.mutable;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * JUnit test for {@link OrderedHashMap}.
+ */
+public class OrderedHashMapTest
+{
+    @Test
+    public void matchesLinkedHashMap()
+    {
+        OrderedHashMap<Integer, String> map = OrderedHashMap.newMap();
+        LinkedHashMap<Integer, String> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 20_000; i++)
+        {
+            int key = (i * 7_919) % 5_003;
+            if (i % 3 == 0)
+            {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+            else
+            {
+                assertEquals(expected.put(key, String.valueOf(i)), map.put(key, String.valueOf(i)));
+            }
+        }
+        Verify.assertEqualsAndHashCode(expected, map);
+        assertEquals(expected.toString(), map.toString());
+        assertEquals(Lists.mutable.withAll(expected.keySet()), Lists.mutable.withAll(map.keySet()));
+        assertEquals(Lists.mutable.withAll(expected.values()), Lists.mutable.withAll(map.values()));
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        OrderedHashMap<Integer, Integer> map = OrderedHashMap.newMap();
+        for (int i = 0; i < 100; i++)
+        {
+            map.put(i, i);
+        }
+        Iterator<Integer> iterator = map.keySet().iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next() % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        Verify.assertSize(50, map);
+        assertFalse(map.containsKey(0));
+
+        iterator.remove();
+        Verify.assertSize(49, map);
+        assertFalse(map.containsKey(99));
+        assertThrows(IllegalStateException.class, iterator::remove);
+    }
+
+    @Test
+    public void iteratorsAreFailFast()
+    {
+        OrderedHashMap<Integer, Integer> map = OrderedHashMap.newWithKeysValues(1, 1, 2, 2);
+        this.assertFailFast(map.keySet().iterator(), () -> map.put(3, 3));
+        this.assertFailFast(map.values().iterator(), () -> map.remove(3));
+        this.assertFailFast(map.entrySet().iterator(), () -> map.put(3, 3));
+        this.assertFailFast(map.iterator(), map::clear);
+
+        map.put(1, 1);
+        Iterator<Integer> iterator = map.keySet().iterator();
+        iterator.next();
+        map.put(1, 10);
+        assertEquals(Integer.valueOf(10), map.values().iterator().next());
+        assertFalse(iterator.hasNext());
+    }
+
+    private void assertFailFast(Iterator<?> iterator, Runnable modification)
+    {
+        iterator.next();
+        modification.run();
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertThrows(ConcurrentModificationException.class, iterator::remove);
+    }
+
+    @Test
+    public void serialization()
+    {
+        OrderedHashMap<Integer, String> map = OrderedHashMap.newWithKeysValues(2, "2", 1, "1", 3, "3");
+        map.remove(1);
+        OrderedHashMap<Integer, String> deserialized = SerializeTestHelper.serializeDeserialize(map);
+        assertEquals(map, deserialized);
+        assertEquals(map.toString(), deserialized.toString());
+        assertNull(deserialized.get(1));
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.mutable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.primitive.IntSets;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link BPlusTreeMap}.
+ */
+public class BPlusTreeMapTest
+{
+    @Test
+    public void matchesTreeMap()
+    {
+        this.assertMatchesTreeMap(null);
+        this.assertMatchesTreeMap(Comparator.reverseOrder());
+    }
+
+    private void assertMatchesTreeMap(Comparator<Integer> comparator)
+    {
+        BPlusTreeMap<Integer, String> map = new BPlusTreeMap<>(comparator);
+        TreeMap<Integer, String> expected = new TreeMap<>(comparator);
+        for (int i = 0; i < 20_000; i++)
+        {
+            int key = (i * 7_919) % 5_003;
+            if (i % 3 == 0)
+            {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+            else
+            {
+                assertEquals(expected.put(key, String.valueOf(i)), map.put(key, String.valueOf(i)));
+            }
+        }
+        Verify.assertEqualsAndHashCode(expected, map);
+        assertEquals(expected.toString(), map.toString());
+        assertEquals(expected.firstKey(), map.firstKey());
+        assertEquals(expected.lastKey(), map.lastKey());
+        assertEquals(Lists.mutable.withAll(expected.keySet()), Lists.mutable.withAll(map.keySet()));
+        assertEquals(Lists.mutable.withAll(expected.values()), Lists.mutable.withAll(map.values()));
+    }
+
+    @Test
+    public void largeRandomInserts()
+    {
+        Random random = new Random(12_345L);
+        int[] keys = new int[1_000_000];
+        BPlusTreeMap<Integer, Integer> map = new BPlusTreeMap<>();
+        for (int i = 0; i < keys.length; i++)
+        {
+            keys[i] = random.nextInt();
+            map.put(keys[i], i);
+        }
+        int[] sorted = Arrays.stream(keys).sorted().distinct().toArray();
+        Verify.assertSize(sorted.length, map);
+        this.assertKeys(sorted, map);
+
+        MutableIntSet removed = IntSets.mutable.empty();
+        for (int i = 0; i < keys.length; i += 2)
+        {
+            map.remove(keys[i]);
+            removed.add(keys[i]);
+        }
+        int[] remaining = Arrays.stream(sorted).filter(key -> !removed.contains(key)).toArray();
+        Verify.assertSize(remaining.length, map);
+        this.assertKeys(remaining, map);
+        int middle = remaining[remaining.length / 2];
+        Verify.assertSize(remaining.length / 2, map.headMap(middle));
+        assertEquals(Integer.valueOf(middle), map.tailMap(middle).firstKey());
+    }
+
+    private void assertKeys(int[] expected, BPlusTreeMap<Integer, Integer> map)
+    {
+        int index = 0;
+        for (Integer key : map.keySet())
+        {
+            assertEquals(expected[index++], key.intValue());
+        }
+        assertEquals(expected.length, index);
+        assertEquals(Integer.valueOf(expected[0]), map.firstKey());
+        assertEquals(Integer.valueOf(expected[expected.length - 1]), map.lastKey());
+    }
+
+    @Test
+    public void rangeViews()
+    {
+        BPlusTreeMap<Integer, String> map = new BPlusTreeMap<>();
+        TreeMap<Integer, String> expected = new TreeMap<>();
+        for (int i = 0; i < 1_000; i++)
+        {
+            map.put(i, String.valueOf(i));
+            expected.put(i, String.valueOf(i));
+        }
+        assertEquals(expected.headMap(300), map.headMap(300));
+        assertEquals(expected.tailMap(300), map.tailMap(300));
+        assertEquals(expected.subMap(300, 700), map.subMap(300, 700));
+        Verify.assertSize(400, map.subMap(300, 700));
+        Verify.assertSize(100, map.subMap(300, 700).tailMap(600));
+
+        SortedMap<Integer, String> view = map.subMap(300, 700);
+        assertEquals("300", view.remove(300));
+        assertNull(view.remove(700));
+        assertFalse(map.containsKey(300));
+        assertEquals("700", map.get(700));
+        assertNull(view.get(700));
+        assertThrows(IllegalArgumentException.class, () -> view.put(700, "700"));
+        assertThrows(IllegalArgumentException.class, () -> view.headMap(701));
+        assertThrows(IllegalArgumentException.class, () -> map.subMap(2, 1));
+
+        view.clear();
+        Verify.assertEmpty(view);
+        Verify.assertSize(600, map);
+        assertThrows(NoSuchElementException.class, view::firstKey);
+        assertEquals("299", map.get(299));
+        view.put(500, "five hundred");
+        assertEquals("five hundred", map.get(500));
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        BPlusTreeMap<Integer, Integer> map = new BPlusTreeMap<>();
+        for (int i = 0; i < 1_000; i++)
+        {
+            map.put(i, i);
+        }
+        Iterator<Integer> iterator = map.keySet().iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next() % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        Verify.assertSize(500, map);
+        assertEquals(Integer.valueOf(1), map.firstKey());
+
+        iterator.remove();
+        Verify.assertSize(499, map);
+        assertEquals(Integer.valueOf(997), map.lastKey());
+        assertThrows(IllegalStateException.class, iterator::remove);
+    }
+
+    @Test
+    public void iteratorIsFailFast()
+    {
+        BPlusTreeMap<Integer, Integer> map = new BPlusTreeMap<>();
+        map.put(1, 1);
+        map.put(2, 2);
+        Iterator<Integer> iterator = map.keySet().iterator();
+        iterator.next();
+        map.put(3, 3);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    public void entrySetValueWritesThrough()
+    {
+        BPlusTreeMap<Integer, String> map = new BPlusTreeMap<>();
+        map.put(1, "one");
+        Map.Entry<Integer, String> entry = map.entrySet().iterator().next();
+        assertEquals("one", entry.setValue("uno"));
+        assertEquals("uno", map.get(1));
+    }
+
+    @Test
+    public void bulkLoadFromSortedMap()
+    {
+        TreeMap<Integer, Integer> source = new TreeMap<>(Comparator.reverseOrder());
+        for (int i = 0; i < 10_000; i++)
+        {
+            source.put(i, i);
+        }
+        BPlusTreeMap<Integer, Integer> map = new BPlusTreeMap<>(source);
+        assertSame(source.comparator(), map.comparator());
+        assertEquals(source, map);
+        assertEquals(Integer.valueOf(9_999), map.firstKey());
+        assertEquals(map, map.clone());
+
+        MutableList<Integer> keys = Lists.mutable.empty();
+        map.forEach((key, value) -> keys.add(key));
+        assertEquals(Lists.mutable.withAll(source.keySet()), keys);
+    }
+
+    @Test
+    public void nullKeys()
+    {
+        BPlusTreeMap<Integer, String> map = new BPlusTreeMap<>();
+        assertThrows(NullPointerException.class, () -> map.put(null, "null"));
+        assertThrows(NullPointerException.class, () -> map.get(null));
+
+        BPlusTreeMap<Integer, String> nullsFirst = new BPlusTreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+        nullsFirst.put(1, "1");
+        nullsFirst.put(null, "null");
+        assertNull(nullsFirst.firstKey());
+        assertEquals("null", nullsFirst.get(null));
+        assertTrue(nullsFirst.containsKey(null));
+    }
+
+    @Test
+    public void serialization()
+    {
+        BPlusTreeMap<Integer, String> map = new BPlusTreeMap<>();
+        map.put(2, "2");
+        map.put(1, "1");
+        BPlusTreeMap<Integer, String> deserialized = SerializeTestHelper.serializeDeserialize(map);
+        assertEquals(map, deserialized);
+        assertEquals(map.toString(), deserialized.toString());
+
+        BPlusTreeMap<Integer, String> large = new BPlusTreeMap<>(Comparator.reverseOrder());
+        for (int i = 0; i < 10_000; i++)
+        {
+            large.put(i, String.valueOf(i));
+        }
+        BPlusTreeMap<Integer, String> largeDeserialized = SerializeTestHelper.serializeDeserialize(large);
+        assertEquals(large, largeDeserialized);
+        assertEquals(Integer.valueOf(9_999), largeDeserialized.firstKey());
+    }
+}
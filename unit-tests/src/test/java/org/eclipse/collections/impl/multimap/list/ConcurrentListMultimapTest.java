@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test of {@link ConcurrentListMultimap}.
+ */
+public class ConcurrentListMultimapTest extends AbstractMutableListMultimapTestCase
+{
+    @Override
+    public <K, V> ConcurrentListMultimap<K, V> newMultimap()
+    {
+        return ConcurrentListMultimap.newMultimap();
+    }
+
+    @Override
+    public <K, V> ConcurrentListMultimap<K, V> newMultimapWithKeyValue(K key, V value)
+    {
+        ConcurrentListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key, value);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentListMultimap<K, V> newMultimapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        ConcurrentListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentListMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3)
+    {
+        ConcurrentListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentListMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        ConcurrentListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        mutableMultimap.put(key4, value4);
+        return mutableMultimap;
+    }
+
+    @SafeVarargs
+    @Override
+    public final <K, V> ConcurrentListMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return ConcurrentListMultimap.newMultimap(pairs);
+    }
+
+    @Override
+    public <K, V> ConcurrentListMultimap<K, V> newMultimapFromPairs(Iterable<Pair<K, V>> inputIterable)
+    {
+        return ConcurrentListMultimap.newMultimap(inputIterable);
+    }
+
+    @SafeVarargs
+    @Override
+    protected final <V> FastList<V> createCollection(V... args)
+    {
+        return FastList.newListWith(args);
+    }
+
+    @Test
+    public void putConcurrently()
+    {
+        ConcurrentListMultimap<Integer, Integer> multimap = ConcurrentListMultimap.newMultimap();
+        ParallelIterate.forEach(Interval.zeroTo(9_999), each -> multimap.put(each % 10, each), 100);
+        Verify.assertSize(10_000, multimap);
+        assertEquals(10, multimap.sizeDistinct());
+        Interval.zeroTo(9).each(key -> Verify.assertSize(1_000, multimap.get(key)));
+    }
+
+    @Test
+    public void putAndRemoveConcurrently()
+    {
+        ConcurrentListMultimap<Integer, Integer> multimap = ConcurrentListMultimap.newMultimap();
+        ParallelIterate.forEach(Interval.zeroTo(9_999), each ->
+        {
+            multimap.put(each % 10, each);
+            multimap.put(each % 10, -each - 1);
+            multimap.remove(each % 10, each);
+        }, 100);
+        Verify.assertSize(10_000, multimap);
+        assertEquals(10, multimap.sizeDistinct());
+        Interval.zeroTo(9_999).each(each -> assertTrue(multimap.containsKeyAndValue(each % 10, -each - 1)));
+    }
+
+    @Test
+    public void removeLastValueConcurrently()
+    {
+        ConcurrentListMultimap<Integer, Integer> multimap = ConcurrentListMultimap.newMultimap();
+        ParallelIterate.forEach(Interval.zeroTo(9_999), each ->
+        {
+            multimap.put(each % 10, each);
+            multimap.remove(each % 10, each);
+        }, 100);
+        Verify.assertEmpty(multimap);
+        assertEquals(0, multimap.sizeDistinct());
+    }
+}
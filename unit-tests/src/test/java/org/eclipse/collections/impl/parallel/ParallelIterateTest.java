@@ -20,6 +20,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.collections.api.LazyIterable;
@@ -93,6 +94,7 @@ public class ParallelIterateTest
 
     private ImmutableList<RichIterable<Integer>> iterables;
     private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final ForkJoinPool forkJoinPool = new ForkJoinPool(2);
 
     @BeforeEach
     public void setUp()
@@ -138,6 +140,7 @@ public class ParallelIterateTest
     public void tearDown()
     {
         this.executor.shutdown();
+        this.forkJoinPool.shutdown();
     }
 
     @Test
@@ -361,6 +364,64 @@ public class ParallelIterateTest
         assertEquals(expected, actual3, expected.getClass().getSimpleName() + '/' + actual3.getClass().getSimpleName());
     }
 
+    @Test
+    public void selectOnForkJoinPool()
+    {
+        this.iterables.forEach(Procedures.cast(this::basicSelectOnForkJoinPool));
+
+        MutableList<Integer> list = Interval.oneTo(20_000).toList();
+        assertEquals(
+                list.select(each -> each % 3 == 0),
+                ParallelIterate.select(list, each -> each % 3 == 0, FastList.newList(), 7, this.forkJoinPool, false));
+        List<Integer> arrayList = new ArrayList<>(list);
+        assertEquals(
+                list.collect(String::valueOf),
+                ParallelIterate.collect(arrayList, String::valueOf, FastList.newList(), 7, this.forkJoinPool, false));
+        LinkedList<Integer> linkedList = new LinkedList<>(list);
+        assertEquals(
+                list.reject(each -> each % 3 == 0),
+                ParallelIterate.reject(linkedList, each -> each % 3 == 0, FastList.newList(), 7, this.forkJoinPool, false));
+    }
+
+    private void basicSelectOnForkJoinPool(RichIterable<Integer> iterable)
+    {
+        Collection<Integer> actual = ParallelIterate.select(iterable, Predicates.greaterThan(100), HashBag.newBag(), 3, this.forkJoinPool, true);
+        RichIterable<Integer> expected = iterable.select(Predicates.greaterThan(100));
+        assertEquals(expected.toBag(), actual, expected.getClass().getSimpleName() + '/' + actual.getClass().getSimpleName());
+    }
+
+    @Test
+    public void aggregateAndSumOnForkJoinPool()
+    {
+        MutableList<Integer> list = Interval.oneTo(20_000).toList().shuffleThis();
+        MutableMap<String, Integer> aggregation =
+                ParallelIterate.aggregateBy(list, EVEN_OR_ODD, () -> 0, (aggregate, value) -> aggregate + 1, 100, this.forkJoinPool);
+        assertEquals(UnifiedMap.newWithKeysValues("Even", 10_000, "Odd", 10_000), aggregation);
+        assertEquals(
+                list.sumByDouble(EVEN_OR_ODD, Integer::doubleValue),
+                ParallelIterate.sumByDouble(list, EVEN_OR_ODD, Integer::doubleValue, this.forkJoinPool));
+        assertEquals(
+                list.sumByLong(each -> each % 100, Integer::longValue),
+                ParallelIterate.sumByLong(list, each -> each % 100, Integer::longValue, this.forkJoinPool));
+        assertEquals(
+                HashBagMultimap.newMultimap(list.groupBy(EVEN_OR_ODD)),
+                HashBagMultimap.newMultimap(ParallelIterate.groupBy(list, EVEN_OR_ODD, 100, this.forkJoinPool)));
+    }
+
+    @Test
+    public void forEachOnForkJoinPoolException()
+    {
+        assertThrows(
+                RuntimeException.class,
+                () -> ParallelIterate.forEach(
+                        ParallelIterateTest.createIntegerList(20_000),
+                        new PassThruProcedureFactory<>(EXCEPTION_PROCEDURE),
+                        new PassThruCombiner<>(),
+                        1,
+                        5,
+                        this.forkJoinPool));
+    }
+
     @Test
     public void selectSortedSet()
     {
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.immutable.ImmutableHashTrieMap;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * JUnit test for {@link ImmutableHashTrieSet}.
+ */
+public class ImmutableHashTrieSetTest
+        extends AbstractImmutableSetTestCase
+{
+    @Override
+    protected ImmutableSet<Integer> classUnderTest()
+    {
+        return ImmutableHashTrieSet.newSet(Interval.oneTo(4));
+    }
+
+    @Test
+    public void conversionFromImmutableUnifiedSet()
+    {
+        MutableSet<Integer> mutable = UnifiedSet.newSet(Interval.oneTo(ImmutableHashTrieMap.CONVERSION_THRESHOLD));
+        ImmutableSet<Integer> unified = mutable.toImmutable();
+        Verify.assertInstanceOf(ImmutableUnifiedSet.class, unified);
+
+        ImmutableSet<Integer> with = unified.newWith(0);
+        Verify.assertInstanceOf(ImmutableHashTrieSet.class, with);
+        assertEquals(UnifiedSet.newSet(mutable).with(0), with);
+
+        ImmutableSet<Integer> without = unified.newWithout(1);
+        Verify.assertInstanceOf(ImmutableHashTrieSet.class, without);
+        assertEquals(UnifiedSet.newSet(mutable).without(1), without);
+
+        assertSame(with, Sets.immutable.withAll(with));
+        Verify.assertInstanceOf(ImmutableUnifiedSet.class, unified.newWith(1));
+        Verify.assertInstanceOf(ImmutableUnifiedSet.class, unified.newWithout(-1));
+    }
+
+    @Test
+    public void updatesMatchUnifiedSet()
+    {
+        MutableSet<Integer> expected = UnifiedSet.newSet();
+        ImmutableSet<Integer> actual = ImmutableHashTrieSet.newSet(UnifiedSet.newSet());
+        for (int i = 0; i < 5_000; i++)
+        {
+            int element = (i * 7_919) % 2_003;
+            if (i % 3 == 0)
+            {
+                expected.remove(element);
+                actual = actual.newWithout(element);
+            }
+            else
+            {
+                expected.add(element);
+                actual = actual.newWith(element);
+            }
+        }
+        Verify.assertEqualsAndHashCode(expected, actual);
+        Verify.assertSize(expected.size(), actual);
+        assertEquals(expected, actual.toSet());
+    }
+
+    @Test
+    public void equalsSharedAndIndependentTries()
+    {
+        ImmutableSet<Integer> base = ImmutableHashTrieSet.newSet(Interval.zeroTo(999));
+        ImmutableSet<Integer> shared = base.newWith(1_000);
+        ImmutableSet<Integer> independent = ImmutableHashTrieSet.newSet(Interval.fromTo(1_000, 0));
+        Verify.assertEqualsAndHashCode(shared, independent);
+        assertFalse(base.equals(shared));
+        assertFalse(shared.equals(independent.newWithout(500).newWith(-1)));
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.block.factory.HashingStrategies;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.set.strategy.mutable.UnifiedSetWithHashingStrategy;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.test.domain.Key;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link ConcurrentUnifiedSet}.
+ */
+public class ConcurrentUnifiedSetTest extends AbstractMutableSetTestCase
+{
+    @Override
+    protected <T> ConcurrentUnifiedSet<T> newWith(T... littleElements)
+    {
+        return ConcurrentUnifiedSet.newSetWith(littleElements);
+    }
+
+    @Override
+    @Test
+    public void testToString()
+    {
+        MutableCollection<Object> collection = this.newWith(1, 2);
+        String string = collection.toString();
+        assertTrue("[1, 2]".equals(string) || "[2, 1]".equals(string));
+    }
+
+    @Test
+    public void addAndRemoveWithCollisions()
+    {
+        ConcurrentUnifiedSet<Object> set = ConcurrentUnifiedSet.newSet();
+        Key key1 = new Key("a");
+        Key key2 = new Key("a");
+        assertTrue(set.add(key1));
+        assertFalse(set.add(key2));
+        Verify.assertSize(1, set);
+
+        MutableList<CollidingInt> collisions = Interval.oneTo(100).collect(each -> new CollidingInt(each)).toList();
+        collisions.each(each -> assertTrue(set.add(each)));
+        collisions.each(each -> assertFalse(set.add(each)));
+        Verify.assertSize(101, set);
+        collisions.each(each -> assertTrue(set.contains(each)));
+        collisions.each(each -> assertTrue(set.remove(each)));
+        collisions.each(each -> assertFalse(set.contains(each)));
+        Verify.assertSize(1, set);
+        assertTrue(set.contains(key2));
+    }
+
+    @Test
+    public void nullElement()
+    {
+        ConcurrentUnifiedSet<Integer> set = ConcurrentUnifiedSet.newSetWith(1, null, 2);
+        Verify.assertSize(3, set);
+        assertTrue(set.contains(null));
+        assertTrue(set.remove(null));
+        assertFalse(set.contains(null));
+        Verify.assertSetsEqual(UnifiedSet.newSetWith(1, 2), set);
+    }
+
+    @Test
+    public void resize()
+    {
+        ConcurrentUnifiedSet<Integer> set = ConcurrentUnifiedSet.newSet(2);
+        Interval.oneTo(10_000).each(each -> assertTrue(set.add(each)));
+        Verify.assertSize(10_000, set);
+        Verify.assertSetsEqual(Interval.oneTo(10_000).toSet(), set);
+        Interval.oneTo(10_000).each(each -> assertTrue(set.remove(each)));
+        Verify.assertEmpty(set);
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        ConcurrentUnifiedSet<Integer> set = ConcurrentUnifiedSet.newSet(Interval.oneTo(1_000));
+        Iterator<Integer> iterator = set.iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next() % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        Verify.assertSetsEqual(Interval.oneToBy(1_000, 2).toSet(), set);
+    }
+
+    @Test
+    public void concurrentAdd()
+    {
+        ConcurrentUnifiedSet<Integer> set = ConcurrentUnifiedSet.newSet();
+        MutableList<Integer> elements = Interval.oneTo(100_000).toList();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try
+        {
+            ParallelIterate.forEach(elements, each -> set.add(each % 50_000), 1_000, executorService);
+        }
+        finally
+        {
+            executorService.shutdown();
+        }
+        Verify.assertSize(50_000, set);
+        assertEquals(Interval.zeroTo(49_999).toSet(), set);
+    }
+
+    @Test
+    public void concurrentAddAndRemove()
+    {
+        ConcurrentUnifiedSet<Integer> set = ConcurrentUnifiedSet.newSet();
+        ParallelIterate.forEach(Interval.oneTo(100_000), each -> {
+            set.add(each);
+            if (each % 2 == 0)
+            {
+                set.remove(each);
+            }
+        }, 1_000);
+        Verify.assertSetsEqual(Interval.oneToBy(100_000, 2).toSet(), set);
+    }
+
+    @Test
+    public void serialization()
+    {
+        ConcurrentUnifiedSet<Integer> set = ConcurrentUnifiedSet.newSetWith(1, 2, 3, null);
+        ConcurrentUnifiedSet<Integer> deserialized = SerializeTestHelper.serializeDeserialize(set);
+        Verify.assertSetsEqual(set, deserialized);
+        Verify.assertInstanceOf(ConcurrentUnifiedSet.class, deserialized);
+    }
+
+    @Test
+    public void equalsAndHashCodeWithOtherSets()
+    {
+        ConcurrentUnifiedSet<Integer> set = ConcurrentUnifiedSet.newSetWith(1, 2, 3);
+        Verify.assertEqualsAndHashCode(UnifiedSet.newSetWith(1, 2, 3), set);
+        Verify.assertEqualsAndHashCode(UnifiedSetWithHashingStrategy.newSetWith(HashingStrategies.defaultStrategy(), 1, 2, 3), set);
+    }
+
+    private static final class CollidingInt
+    {
+        private final int value;
+
+        private CollidingInt(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof CollidingInt && ((CollidingInt) o).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 42;
+        }
+    }
+}
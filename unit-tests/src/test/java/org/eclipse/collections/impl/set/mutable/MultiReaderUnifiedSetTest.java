@@ -31,6 +31,7 @@ import org.eclipse.collections.impl.bag.sorted.mutable.TreeBag;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
 import org.eclipse.collections.impl.test.Verify;
 import org.junit.jupiter.api.Test;
 
@@ -421,4 +422,30 @@ public class MultiReaderUnifiedSetTest extends MultiReaderMutableCollectionTestC
         MutableSortedBag<Integer> bag = integers.toSortedBagBy(String::valueOf);
         Verify.assertSortedBagsEqual(TreeBag.newBagWith(1, 2, 3, 4), bag);
     }
+
+    @Test
+    public void optimisticRead()
+    {
+        MutableSet<Integer> set = MultiReaderMutableSetFactory.OPTIMISTIC_READ.with(1, 2, 3, 4);
+        Verify.assertSize(4, set);
+        assertTrue(set.contains(3));
+        assertFalse(set.contains(5));
+        assertTrue(set.anySatisfy(each -> each > 3));
+        assertNull(set.detect(each -> each > 4));
+        assertTrue(set.remove(4));
+        assertEquals(UnifiedSet.newSetWith(1, 2, 3), set);
+    }
+
+    @Test
+    public void optimisticReadConcurrently()
+    {
+        MutableSet<Integer> set = MultiReaderMutableSetFactory.OPTIMISTIC_READ.empty();
+        ParallelIterate.forEach(Interval.zeroTo(9_999), each ->
+        {
+            set.add(each);
+            assertTrue(set.contains(each));
+            assertFalse(set.isEmpty());
+        }, 100);
+        assertEquals(Interval.zeroTo(9_999).toSet(), set);
+    }
 }
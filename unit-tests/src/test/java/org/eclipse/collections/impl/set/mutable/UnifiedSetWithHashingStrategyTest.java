@@ -13,6 +13,8 @@ package org.eclipse.collections.impl.set.mutable;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.block.HashingStrategy;
@@ -1188,4 +1190,58 @@ public class UnifiedSetWithHashingStrategyTest extends AbstractUnifiedSetTestCas
         assertTrue(set.trimToSize());
         assertEquals(2, set.size());
     }
+
+    @Test
+    public void spliterator()
+    {
+        MutableSet<Integer> chained = this.<Integer>newWith((Integer) null).withAll(MORE_COLLISIONS);
+        MutableSet<Integer> large = this.<Integer>newWith((Integer) null).withAll(MORE_COLLISIONS).withAll(Interval.fromTo(1_000, 2_000));
+        for (MutableSet<Integer> set : Lists.mutable.with(chained, large))
+        {
+            Spliterator<Integer> spliterator = set.spliterator();
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT));
+            assertEquals(set.size(), spliterator.getExactSizeIfKnown());
+
+            MutableList<Integer> traversed = Lists.mutable.empty();
+            UnifiedSetWithHashingStrategyTest.splitAndTraverse(set.spliterator(), traversed);
+            Verify.assertSize(set.size(), traversed);
+            assertEquals(set, UnifiedSet.newSet(traversed));
+            assertEquals(set, set.parallelStream().collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    public void spliteratorSizeAfterTraversal()
+    {
+        MutableSet<Integer> set = this.<Integer>newWith((Integer) null).withAll(MORE_COLLISIONS).withAll(Interval.fromTo(1_000, 1_100));
+        Spliterator<Integer> spliterator = set.spliterator();
+        for (int remaining = set.size() - 1; remaining >= 0; remaining--)
+        {
+            assertTrue(spliterator.tryAdvance(each -> { }));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+            assertEquals(remaining, spliterator.getExactSizeIfKnown());
+        }
+        assertFalse(spliterator.tryAdvance(each -> { }));
+
+        Spliterator<Integer> rest = set.spliterator();
+        assertTrue(rest.tryAdvance(each -> { }));
+        assertEquals(set.size() - 1, rest.getExactSizeIfKnown());
+        rest.forEachRemaining(each -> { });
+        assertEquals(0L, rest.getExactSizeIfKnown());
+    }
+
+    private static <T> void splitAndTraverse(Spliterator<T> spliterator, MutableList<T> result)
+    {
+        Spliterator<T> prefix = spliterator.trySplit();
+        if (prefix != null)
+        {
+            assertFalse(prefix.hasCharacteristics(Spliterator.SIZED));
+            UnifiedSetWithHashingStrategyTest.splitAndTraverse(prefix, result);
+            UnifiedSetWithHashingStrategyTest.splitAndTraverse(spliterator, result);
+        }
+        else if (spliterator.tryAdvance(result::add))
+        {
+            spliterator.forEachRemaining(result::add);
+        }
+    }
 }
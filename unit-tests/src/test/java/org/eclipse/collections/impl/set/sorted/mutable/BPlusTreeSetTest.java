@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.sorted.mutable;
+
+import java.util.Comparator;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test for {@link BPlusTreeSet}.
+ */
+public class BPlusTreeSetTest
+{
+    @Test
+    public void matchesTreeSet()
+    {
+        BPlusTreeSet<String> set = new BPlusTreeSet<>(Comparator.reverseOrder());
+        TreeSet<String> expected = new TreeSet<>(Comparator.reverseOrder());
+        for (int i = 0; i < 20_000; i++)
+        {
+            String element = String.valueOf((i * 7_919) % 5_003);
+            if (i % 3 == 0)
+            {
+                assertEquals(expected.remove(element), set.remove(element));
+            }
+            else
+            {
+                assertEquals(expected.add(element), set.add(element));
+            }
+        }
+        Verify.assertEqualsAndHashCode(expected, set);
+        assertEquals(Lists.mutable.withAll(expected), Lists.mutable.withAll(set));
+        assertEquals(expected.first(), set.first());
+        assertEquals(expected.last(), set.last());
+        assertEquals(expected.headSet("3"), set.headSet("3"));
+        assertEquals(expected.tailSet("3"), set.tailSet("3"));
+        assertEquals(expected.subSet("3", "2"), set.subSet("3", "2"));
+        assertEquals(expected, new BPlusTreeSet<>(expected));
+        assertEquals(expected, set.clone());
+    }
+
+    @Test
+    public void rangeViews()
+    {
+        BPlusTreeSet<Integer> set = new BPlusTreeSet<>();
+        for (int i = 0; i < 100; i++)
+        {
+            set.add(i);
+        }
+        SortedSet<Integer> view = set.subSet(10, 20);
+        Verify.assertSize(10, view);
+        assertTrue(view.remove(15));
+        assertFalse(set.contains(15));
+        assertTrue(view.add(15));
+        assertTrue(set.contains(15));
+        assertThrows(IllegalArgumentException.class, () -> view.add(20));
+        view.clear();
+        Verify.assertSize(90, set);
+    }
+}